@@ -27,6 +27,10 @@ final class DiskFileAccess extends FileAccess {
      * Just do not bother with IO smaller than this many bytes.
      */
     private static final int MIN_IO_SIZE = 8192;
+    /**
+     * Number of bytes a {@link DiskFileWriter} batching writes can accumulate on top of a full entry.
+     */
+    private static final int BATCH_SIZE = 256 * 1024;
 
     DiskFileAccess(final JournalSegmentFile file, final int maxEntrySize) {
         super(file, maxEntrySize);
@@ -38,8 +42,14 @@ final class DiskFileAccess extends FileAccess {
     }
 
     @Override
-    DiskFileWriter newFileWriter() {
-        return new DiskFileWriter(file, maxEntrySize, allocateBuffer(file, maxEntrySize));
+    DiskFileWriter newFileWriter(final boolean batchWrites) {
+        if (!batchWrites) {
+            return new DiskFileWriter(file, maxEntrySize, allocateBuffer(file, maxEntrySize), false);
+        }
+
+        // Note: startWrite() asks for space for a full entry, which we always have to be able to provide
+        final var bufferSize = Math.min(file.maxSize(), chooseBufferSize(maxEntrySize, file.maxSize()) + BATCH_SIZE);
+        return new DiskFileWriter(file, maxEntrySize, file.allocator().heapBuffer(bufferSize, bufferSize), true);
     }
 
     @Override
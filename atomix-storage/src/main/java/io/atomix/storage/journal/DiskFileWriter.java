@@ -25,6 +25,13 @@ import java.nio.channels.FileChannel;
 
 /**
  * A {@link StorageLevel#DISK} {@link FileWriter}.
+ *
+ * <p>
+ * This writer can operate in two modes. By default each {@link #commitWrite(int, ByteBuf)} results in a positional
+ * write to the {@link FileChannel}. When {@code batchWrites} is enabled, committed entries are accumulated in the
+ * buffer and written out with a single write when the buffer runs out of space or on {@link #flush()}. Entries
+ * committed in this mode are not visible to other {@link FileReader}s until they are flushed. Gathering entries from
+ * multiple requests into a single flush is up to the caller.
  */
 final class DiskFileWriter extends FileWriter {
     private static final ByteBuf ZERO_ENTRY_HEADER = Unpooled.wrappedBuffer(new byte[HEADER_BYTES]);
@@ -32,21 +39,32 @@ final class DiskFileWriter extends FileWriter {
     private final DiskFileReader reader;
     private final FileChannel channel;
     private final ByteBuf buffer;
+    private final boolean batchWrites;
+
+    // File position of the first byte of pending writes
+    private int pendingPosition;
+    // Number of pending bytes at the start of buffer, always zero if batchWrites is not enabled
+    private int pendingBytes;
 
-    DiskFileWriter(final JournalSegmentFile file, final int maxEntrySize, final ByteBuf buffer) {
+    DiskFileWriter(final JournalSegmentFile file, final int maxEntrySize, final ByteBuf buffer,
+            final boolean batchWrites) {
         super(file, maxEntrySize);
         this.buffer = requireNonNull(buffer);
+        this.batchWrites = batchWrites;
         channel = file.channel();
         reader = new DiskFileReader(file, buffer);
     }
 
     @Override
     DiskFileReader reader() {
+        // The reader shares our buffer: make sure it does not observe pending writes
+        writePending();
         return reader;
     }
 
     @Override
     void writeEmptyHeader(final int position) {
+        writePending();
         try {
             ZERO_ENTRY_HEADER.getBytes(0, channel, position, HEADER_BYTES);
         } catch (IOException e) {
@@ -56,11 +74,27 @@ final class DiskFileWriter extends FileWriter {
 
     @Override
     ByteBuf startWrite(final int position, final int size) {
-        return buffer.clear().slice(0, size);
+        if (!batchWrites) {
+            return buffer.clear().slice(0, size);
+        }
+        if (pendingBytes != 0
+            && (position != pendingPosition + pendingBytes || buffer.capacity() - pendingBytes < size)) {
+            // Not contiguous with pending writes or not enough space: write them out first
+            writePending();
+        }
+        return buffer.slice(pendingBytes, size);
     }
 
     @Override
     void commitWrite(final int position, final ByteBuf entry) {
+        if (batchWrites) {
+            if (pendingBytes == 0) {
+                pendingPosition = position;
+            }
+            pendingBytes += entry.readableBytes();
+            return;
+        }
+
         try {
             entry.readBytes(channel, position, entry.readableBytes());
         } catch (IOException e) {
@@ -71,6 +105,7 @@ final class DiskFileWriter extends FileWriter {
     @Override
     void flush() {
         if (channel.isOpen()) {
+            writePending();
             try {
                 channel.force(true);
             } catch (IOException e) {
@@ -83,4 +118,22 @@ final class DiskFileWriter extends FileWriter {
     void release() {
         reader.release();
     }
+
+    private void writePending() {
+        if (pendingBytes == 0) {
+            return;
+        }
+
+        try {
+            int written = 0;
+            while (written < pendingBytes) {
+                written += buffer.getBytes(written, channel, pendingPosition + written, pendingBytes - written);
+            }
+        } catch (IOException e) {
+            throw new StorageException(e);
+        }
+        pendingBytes = 0;
+        // We have reused the buffer, make sure the reader does not see stale data
+        reader.invalidateCache();
+    }
 }
@@ -42,9 +42,10 @@ abstract sealed class FileAccess implements AutoCloseable permits DiskFileAccess
     /**
      * Create a new {@link FileWriter}.
      *
+     * @param batchWrites {@code true} if the writer may defer committed writes until it is flushed
      * @return a new {@link FileWriter}
      */
-    abstract FileWriter newFileWriter();
+    abstract FileWriter newFileWriter(boolean batchWrites);
 
     @Override
     public abstract void close();
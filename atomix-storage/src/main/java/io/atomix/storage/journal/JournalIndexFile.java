@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persisted copy of a sealed {@link JournalSegment}'s {@link JournalIndex}, stored alongside the segment file. It
+ * allows the segment to be opened without scanning all of its entries. The file contains, in order:
+ * <ul>
+ *   <li>{@code magic} (32-bit signed integer) - {@link #MAGIC}</li>
+ *   <li>{@code version} (32-bit signed integer) - format version, currently {@code 1}</li>
+ *   <li>{@code id} (64-bit signed integer) - the segment identifier, as recorded in {@link JournalSegmentDescriptor}
+ *   </li>
+ *   <li>{@code index} (64-bit signed integer) - the segment's first index, as recorded in
+ *       {@link JournalSegmentDescriptor}</li>
+ *   <li>{@code nextPosition} (32-bit signed integer) - the position just past the last entry</li>
+ *   <li>{@code count} (32-bit signed integer) - the number of positions which follow</li>
+ *   <li>{@code count} pairs of {@code index} (64-bit signed integer) and {@code position} (32-bit signed integer),
+ *       in ascending order. The last pair is the position of the last entry in the segment.</li>
+ *   <li>{@code checksum} (32-bit unsigned integer) - {@link CRC32} of all preceding bytes</li>
+ * </ul>
+ *
+ * @param nextPosition the position just past the last entry
+ * @param positions recorded positions, the last of which is the last entry
+ */
+record JournalIndexFile(int nextPosition, @NonNull List<Position> positions) {
+    private static final Logger LOG = LoggerFactory.getLogger(JournalIndexFile.class);
+    private static final int MAGIC = 0x4A494458;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES
+        + Integer.BYTES;
+    private static final int POSITION_BYTES = Long.BYTES + Integer.BYTES;
+
+    JournalIndexFile {
+        requireNonNull(positions);
+        if (positions.isEmpty()) {
+            throw new IllegalArgumentException("At least one position is required");
+        }
+    }
+
+    /**
+     * Return the position of the last entry.
+     *
+     * @return the position of the last entry
+     */
+    @NonNull Position last() {
+        return positions.get(positions.size() - 1);
+    }
+
+    /**
+     * Write the index file for specified segment file.
+     *
+     * @param file the segment file
+     * @param journalIndex index to write
+     * @param nextPosition the position just past the last entry
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(final JournalSegmentFile file, final JournalIndex journalIndex, final int nextPosition)
+            throws IOException {
+        final var last = journalIndex.last();
+        if (last == null) {
+            // Empty segment, nothing to persist
+            return;
+        }
+
+        final var positions = new ArrayList<>(journalIndex.indexedPositions());
+        if (positions.isEmpty() || positions.get(positions.size() - 1).index() != last.index()) {
+            positions.add(last);
+        }
+
+        final var buffer = ByteBuffer.allocate(HEADER_BYTES + positions.size() * POSITION_BYTES + Integer.BYTES)
+            .putInt(MAGIC)
+            .putInt(VERSION)
+            .putLong(file.segmentId())
+            .putLong(file.firstIndex())
+            .putInt(nextPosition)
+            .putInt(positions.size());
+        for (var position : positions) {
+            buffer.putLong(position.index()).putInt(position.position());
+        }
+        buffer.putInt(computeChecksum(buffer.array(), buffer.position()));
+
+        Files.write(file.indexPath(), buffer.array());
+    }
+
+    /**
+     * Read the index file for specified segment file.
+     *
+     * @param file the segment file
+     * @return a {@link JournalIndexFile}, or {@code null} if the file does not exist or is not valid
+     * @throws IOException if an I/O error occurs
+     */
+    static @Nullable JournalIndexFile read(final JournalSegmentFile file) throws IOException {
+        final var path = file.indexPath();
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            LOG.trace("No index file {}", path, e);
+            return null;
+        }
+
+        if (bytes.length < HEADER_BYTES + Integer.BYTES) {
+            LOG.warn("Ignoring truncated index file {}", path);
+            return null;
+        }
+        final int checksumOffset = bytes.length - Integer.BYTES;
+        final var buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt(checksumOffset) != computeChecksum(bytes, checksumOffset)) {
+            LOG.warn("Ignoring corrupted index file {}", path);
+            return null;
+        }
+
+        final int magic = buffer.getInt();
+        final int version = buffer.getInt();
+        if (magic != MAGIC || version != VERSION) {
+            LOG.warn("Ignoring index file {} with unsupported magic {} version {}", path, Integer.toHexString(magic),
+                version);
+            return null;
+        }
+        final long segmentId = buffer.getLong();
+        final long firstIndex = buffer.getLong();
+        if (segmentId != file.segmentId() || firstIndex != file.firstIndex()) {
+            LOG.warn("Ignoring index file {} of segment {} at {}", path, segmentId, firstIndex);
+            return null;
+        }
+        final int nextPosition = buffer.getInt();
+        final int count = buffer.getInt();
+        if (count < 1 || count != (checksumOffset - HEADER_BYTES) / POSITION_BYTES
+            || (checksumOffset - HEADER_BYTES) % POSITION_BYTES != 0) {
+            LOG.warn("Ignoring index file {} with invalid count {}", path, count);
+            return null;
+        }
+
+        final var positions = new ArrayList<Position>(count);
+        long prevIndex = firstIndex - 1;
+        for (int i = 0; i < count; ++i) {
+            final var position = new Position(buffer.getLong(), buffer.getInt());
+            if (position.index() <= prevIndex || position.position() < JournalSegmentDescriptor.BYTES
+                || position.position() >= nextPosition) {
+                LOG.warn("Ignoring index file {} with invalid position {}", path, position);
+                return null;
+            }
+            prevIndex = position.index();
+            positions.add(position);
+        }
+        return new JournalIndexFile(nextPosition, positions);
+    }
+
+    private static int computeChecksum(final byte[] bytes, final int length) {
+        final var crc32 = new CRC32();
+        crc32.update(bytes, 0, length);
+        return (int) crc32.getValue();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.journal.index.ArrayJournalIndex;
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.SparseJournalIndex;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Implementation of the in-memory index maintained for each {@link JournalSegment}.
+ */
+public enum JournalIndexType {
+    /**
+     * Index positions in a {@link java.util.TreeMap}.
+     */
+    TREE {
+        @Override
+        JournalIndex newIndex(final double density) {
+            return new SparseJournalIndex(density);
+        }
+    },
+    /**
+     * Index positions in primitive arrays. This has a much smaller memory footprint than {@link #TREE}.
+     */
+    ARRAY {
+        @Override
+        JournalIndex newIndex(final double density) {
+            return new ArrayJournalIndex(density);
+        }
+    };
+
+    /**
+     * Create a new empty {@link JournalIndex}.
+     *
+     * @param density index density
+     * @return A new {@link JournalIndex}
+     */
+    abstract @NonNull JournalIndex newIndex(double density);
+}
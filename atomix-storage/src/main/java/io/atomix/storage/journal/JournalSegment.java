@@ -22,7 +22,6 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.base.MoreObjects;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
-import io.atomix.storage.journal.index.SparseJournalIndex;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Set;
@@ -71,8 +70,8 @@ final class JournalSegment {
     record Inactive(int position) implements State {
         Active activate(final JournalSegment segment) throws IOException {
             final var access = segment.file.newAccess(segment.storageLevel, segment.maxEntrySize);
-            return new Active(access, new JournalSegmentWriter(access.newFileWriter(), segment, segment.journalIndex,
-                this));
+            return new Active(access, new JournalSegmentWriter(access.newFileWriter(segment.batchWrites), segment,
+                segment.journalIndex, this));
         }
     }
 
@@ -84,6 +83,8 @@ final class JournalSegment {
     private final @NonNull StorageLevel storageLevel;
     private final @NonNull JournalIndex journalIndex;
     private final int maxEntrySize;
+    private final boolean batchWrites;
+    private final boolean indexFile;
 
     private State state;
     private boolean open = true;
@@ -92,17 +93,20 @@ final class JournalSegment {
         final JournalSegmentFile file,
         final StorageLevel storageLevel,
         final int maxEntrySize,
-        final double indexDensity) {
+        final JournalIndex journalIndex,
+        final boolean batchWrites,
+        final boolean indexFile) {
         this.file = requireNonNull(file);
         this.storageLevel = requireNonNull(storageLevel);
         this.maxEntrySize = maxEntrySize;
-
-        journalIndex = new SparseJournalIndex(indexDensity);
+        this.journalIndex = requireNonNull(journalIndex);
+        this.batchWrites = batchWrites;
+        this.indexFile = indexFile;
 
         try (var tmpAccess = file.newAccess(storageLevel, maxEntrySize)) {
             final var fileReader = tmpAccess.newFileReader();
             try {
-                state = new Inactive(indexEntries(fileReader, this, maxEntrySize, journalIndex, Long.MAX_VALUE, null));
+                state = new Inactive(loadIndex(fileReader));
             } finally {
                 fileReader.release();
             }
@@ -111,6 +115,37 @@ final class JournalSegment {
         }
     }
 
+    private int loadIndex(final FileReader fileReader) throws IOException {
+        if (indexFile) {
+            final var persisted = JournalIndexFile.read(file);
+            if (persisted != null) {
+                if (verifyIndexFile(fileReader, persisted)) {
+                    for (var position : persisted.positions()) {
+                        journalIndex.index(position.index(), position.position());
+                    }
+                    LOG.debug("Loaded index of segment {} from {}", this, file.indexPath());
+                    return persisted.nextPosition();
+                }
+                LOG.warn("Index file {} does not match segment {}, rebuilding index", file.indexPath(), this);
+                Files.deleteIfExists(file.indexPath());
+            }
+        }
+        return indexEntries(fileReader, this, maxEntrySize, journalIndex, Long.MAX_VALUE, null);
+    }
+
+    // Make sure the last recorded entry is present and is indeed the last entry in the segment
+    private boolean verifyIndexFile(final FileReader fileReader, final JournalIndexFile persisted) {
+        final var last = persisted.last();
+        if (persisted.nextPosition() > file.maxSize()) {
+            return false;
+        }
+
+        final var reader = new JournalSegmentReader(this, fileReader, maxEntrySize);
+        reader.setPosition(last.position());
+        return reader.readBytes() != null && reader.position() == persisted.nextPosition()
+            && reader.readBytes() == null;
+    }
+
     /**
      * Returns the segment's starting index.
      *
@@ -186,6 +221,10 @@ final class JournalSegment {
      */
     JournalSegmentWriter acquireWriter() {
         checkOpen();
+        if (indexFile) {
+            // the segment is about to become mutable, any persisted index is going to be stale
+            deleteIndexFile();
+        }
         return acquire().writer();
     }
 
@@ -196,6 +235,31 @@ final class JournalSegment {
         release();
     }
 
+    /**
+     * Releases the reference to the segment writer, as the segment is not going to be written to anymore. If enabled,
+     * this persists the segment's index, so it does not need to be rebuilt when the segment is next loaded.
+     */
+    void sealWriter() {
+        if (indexFile) {
+            final var nextPosition = ((Active) state).writer().currentPosition();
+            try {
+                JournalIndexFile.write(file, journalIndex, nextPosition);
+            } catch (IOException e) {
+                LOG.warn("Failed to persist index of segment {}", this, e);
+                deleteIndexFile();
+            }
+        }
+        release();
+    }
+
+    private void deleteIndexFile() {
+        try {
+            Files.deleteIfExists(file.indexPath());
+        } catch (IOException e) {
+            throw new StorageException(e);
+        }
+    }
+
     /**
      * Creates a new segment reader.
      *
@@ -270,6 +334,7 @@ final class JournalSegment {
         close();
         LOG.debug("Deleting segment: {}", this);
         try {
+            Files.deleteIfExists(file.indexPath());
             Files.deleteIfExists(file.path());
         } catch (IOException e) {
             throw new StorageException(e);
@@ -33,9 +33,9 @@ import org.eclipse.jdt.annotation.Nullable;
  *       within each log. Segments with in-sequence identifiers should contain in-sequence indexes.</li>
  *   <li>{@code index} (64-bit signed integer) - The effective first index of the segment. This indicates the index at
  *       which the first entry should be written to the segment. Indexes are monotonically increasing thereafter.</li>
- *   <li>{@code version} (64-bit signed integer) - The version of the segment. Versions are monotonically increasing
- *       starting at {@code 1}. Versions will only be incremented whenever the segment is rewritten to another
- *       memory/disk space, e.g. after log compaction.</li>
+ *   <li>{@code version} (32-bit signed integer) - The format version of the segment. Version {@code 1} segments
+ *       protect entries with {@link java.util.zip.CRC32}, version {@code 2} segments use
+ *       {@link java.util.zip.CRC32C}.</li>
  *   <li>{@code maxSegmentSize} (32-bit unsigned integer) - The maximum number of bytes allowed in the segment.</li>
  *   <li>{@code maxEntries} (32-bit signed integer) - The total number of expected entries in the segment. This is the
  *       final number of entries allowed within the segment both before and after compaction. This entry count is used
@@ -65,7 +65,10 @@ public record JournalSegmentDescriptor(
 
     // Current segment version.
     @VisibleForTesting
-    static final int VERSION = 1;
+    static final int VERSION = 2;
+    // Oldest segment version we can read.
+    @VisibleForTesting
+    static final int MIN_VERSION = 1;
 
     /**
      * Read a JournalSegmentDescriptor from a {@link ReadableByteChannel}.
@@ -96,7 +99,8 @@ public record JournalSegmentDescriptor(
      * Returns the segment version.
      *
      * <p>
-     * Versions are monotonically increasing starting at {@code 1}.
+     * Versions are monotonically increasing starting at {@code 1}. The version determines the checksum used by
+     * entries stored in the segment.
      *
      * @return The segment version.
      */
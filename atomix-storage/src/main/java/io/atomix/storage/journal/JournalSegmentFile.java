@@ -36,6 +36,7 @@ final class JournalSegmentFile {
     private static final char PART_SEPARATOR = '-';
     private static final char EXTENSION_SEPARATOR = '.';
     private static final String EXTENSION = "log";
+    private static final String INDEX_EXTENSION = "idx";
 
     private final @NonNull JournalSegmentDescriptor descriptor;
     private final @NonNull ByteBufAllocator allocator;
@@ -71,6 +72,10 @@ final class JournalSegmentFile {
         try {
             // read the descriptor
             descriptor = JournalSegmentDescriptor.readFrom(raf.getChannel());
+            final var version = descriptor.version();
+            if (version < JournalSegmentDescriptor.MIN_VERSION || version > JournalSegmentDescriptor.VERSION) {
+                throw new IOException("Unsupported segment version " + version + " in " + path);
+            }
         } catch (IOException e) {
             raf.close();
             throw e;
@@ -87,6 +92,16 @@ final class JournalSegmentFile {
         return path;
     }
 
+    /**
+     * Returns the path of the persisted index of this segment file.
+     *
+     * @return the index file path
+     */
+    @NonNull Path indexPath() {
+        final var fileName = path.getFileName().toString();
+        return path.resolveSibling(fileName.substring(0, fileName.length() - EXTENSION.length()) + INDEX_EXTENSION);
+    }
+
     /**
      * Returns the {@link ByteBufAllocator} for this file.
      *
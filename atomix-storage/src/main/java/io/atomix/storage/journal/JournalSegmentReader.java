@@ -19,6 +19,7 @@ import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
 
 import io.netty.buffer.ByteBuf;
+import java.util.zip.Checksum;
 import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,7 @@ final class JournalSegmentReader {
     private final JournalSegment segment;
     private final int maxSegmentSize;
     private final int maxEntrySize;
+    private final Checksum checksum;
 
     private FileReader fileReader;
     private int position;
@@ -38,6 +40,7 @@ final class JournalSegmentReader {
         this.fileReader = requireNonNull(fileReader);
         maxSegmentSize = segment.file().maxSize();
         this.maxEntrySize = maxEntrySize;
+        checksum = SegmentEntry.newChecksum(segment.file().version());
     }
 
     /**
@@ -94,14 +97,14 @@ final class JournalSegmentReader {
         }
 
         // Read the entry checksum
-        final int checksum = buffer.getInt(Integer.BYTES);
+        final int expected = buffer.getInt(Integer.BYTES);
 
         // Slice off the entry's bytes
         final var entryBuffer = buffer.slice(SegmentEntry.HEADER_BYTES, length);
         // If the stored checksum does not equal the computed checksum, do not proceed further
-        final var computed = SegmentEntry.computeChecksum(entryBuffer.nioBuffer());
-        if (checksum != computed) {
-            LOG.warn("Expected checksum {}, computed {}", Integer.toHexString(checksum), Integer.toHexString(computed));
+        final var computed = SegmentEntry.computeChecksum(checksum, entryBuffer.nioBuffer());
+        if (expected != computed) {
+            LOG.warn("Expected checksum {}, computed {}", Integer.toHexString(expected), Integer.toHexString(computed));
             invalidateCache();
             return null;
         }
@@ -23,6 +23,7 @@ import io.atomix.storage.journal.StorageException.TooLarge;
 import io.atomix.storage.journal.index.JournalIndex;
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.zip.Checksum;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.raft.journal.ToByteBufMapper;
@@ -35,6 +36,7 @@ final class JournalSegmentWriter {
     private final FileWriter fileWriter;
     final @NonNull JournalSegment segment;
     private final @NonNull JournalIndex journalIndex;
+    private final @NonNull Checksum checksum;
 
     private int currentPosition;
 
@@ -44,6 +46,7 @@ final class JournalSegmentWriter {
         this.segment = requireNonNull(segment);
         this.journalIndex = requireNonNull(journalIndex);
         this.currentPosition = currentPosition;
+        checksum = SegmentEntry.newChecksum(segment.file().version());
     }
 
     JournalSegmentWriter(final FileWriter fileWriter, final JournalSegment segment, final JournalIndex journalIndex,
@@ -52,6 +55,7 @@ final class JournalSegmentWriter {
         this.segment = requireNonNull(segment);
         this.journalIndex = requireNonNull(journalIndex);
         currentPosition = segmentState.position();
+        checksum = SegmentEntry.newChecksum(segment.file().version());
     }
 
     int currentPosition() {
@@ -120,10 +124,10 @@ final class JournalSegmentWriter {
         diskEntry.writerIndex(diskEntry.readerIndex() + HEADER_BYTES + length);
 
         // Compute the checksum
-        final var checksum = SegmentEntry.computeChecksum(diskEntry.nioBuffer(HEADER_BYTES, length));
+        final var entryChecksum = SegmentEntry.computeChecksum(checksum, diskEntry.nioBuffer(HEADER_BYTES, length));
 
         // update the header and commit entry to file
-        fileWriter.commitWrite(position, diskEntry.setInt(0, length).setInt(Integer.BYTES, checksum));
+        fileWriter.commitWrite(position, diskEntry.setInt(0, length).setInt(Integer.BYTES, entryChecksum));
 
         // Update the last entry with the correct index/term/length.
         currentPosition = bodyPosition + length;
@@ -44,7 +44,8 @@ final class MappedFileAccess extends FileAccess {
     }
 
     @Override
-    MappedFileWriter newFileWriter() {
+    MappedFileWriter newFileWriter(final boolean batchWrites) {
+        // Note: writes are always write-through, hence there is nothing to batch
         return new MappedFileWriter(file, maxEntrySize, mappedBuf.duplicate(), mappedBuf);
     }
 
@@ -17,12 +17,14 @@ package io.atomix.storage.journal;
 
 import java.nio.ByteBuffer;
 import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 import org.eclipse.jdt.annotation.NonNull;
 
 /**
  * An {@link Indexed} entry read from {@link JournalSegment}.
  *
- * @param checksum The {@link CRC32} checksum of data
+ * @param checksum The {@link CRC32} or {@link CRC32C} checksum of data, depending on segment version
  * @param bytes Entry bytes
  */
 record SegmentEntry(int checksum, @NonNull ByteBuffer bytes) {
@@ -30,7 +32,7 @@ record SegmentEntry(int checksum, @NonNull ByteBuffer bytes) {
      * The size of the header. It is comprised of
      * <ul>
      *   <li>32-bit signed entry length</li>
-     *   <li>32-bit unsigned CRC32 checksum</li>
+     *   <li>32-bit unsigned CRC32 (segment version 1) or CRC32C (segment version 2) checksum</li>
      * </ul>
      */
     static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES;
@@ -42,14 +44,30 @@ record SegmentEntry(int checksum, @NonNull ByteBuffer bytes) {
     }
 
     /**
-     * Compute the {@link CRC32} checksum of a buffer. Note that the buffer will be consumed during this process.
+     * Return a new {@link Checksum} used by entries in specified segment version.
      *
+     * @param version segment version
+     * @return a {@link Checksum}
+     * @throws IllegalArgumentException if the version is not supported
+     */
+    static @NonNull Checksum newChecksum(final int version) {
+        return switch (version) {
+            case 1 -> new CRC32();
+            case 2 -> new CRC32C();
+            default -> throw new IllegalArgumentException("Unsupported segment version " + version);
+        };
+    }
+
+    /**
+     * Compute the checksum of a buffer. Note that the buffer will be consumed during this process.
+     *
+     * @param checksum {@link Checksum} to use, it will be reset before use
      * @param bytes buffer to checksum
      * @return the checksum
      */
-    static int computeChecksum(final ByteBuffer bytes) {
-        final var crc32 = new CRC32();
-        crc32.update(bytes);
-        return (int) crc32.getValue();
+    static int computeChecksum(final Checksum checksum, final ByteBuffer bytes) {
+        checksum.reset();
+        checksum.update(bytes);
+        return (int) checksum.getValue();
     }
 }
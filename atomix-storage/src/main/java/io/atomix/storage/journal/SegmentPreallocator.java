@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background preparation of a spare segment file. The spare file is fully allocated and synced to disk, so that
+ * a rollover to a new {@link JournalSegment} only needs to rename it and write the {@link JournalSegmentDescriptor}.
+ * This keeps both file allocation and the cost of syncing newly-allocated blocks off the append path.
+ *
+ * <p>
+ * This class is not thread-safe: {@link #take(Path)} and {@link #close()} are expected to be invoked from the journal
+ * writer.
+ */
+final class SegmentPreallocator implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentPreallocator.class);
+    private static final String EXTENSION = ".spare";
+    private static final int FILL_CHUNK_SIZE = 64 * 1024;
+    private static final long KEEP_ALIVE_SECONDS = 10;
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final @NonNull ThreadPoolExecutor executor;
+    private final @NonNull Path spare;
+    private final int segmentSize;
+
+    // null until start() is invoked
+    private Future<?> pending;
+
+    SegmentPreallocator(final String name, final File directory, final int segmentSize) {
+        spare = new File(directory, requireNonNull(name) + EXTENSION).toPath();
+        this.segmentSize = segmentSize;
+
+        // Single thread, which goes away when there is nothing to do
+        executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat(name + "-segment-preallocator-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Start preparing the first spare file. This should be invoked once existing segments have been settled, so that
+     * preparation does not compete with loading them.
+     */
+    void start() {
+        if (pending == null) {
+            pending = executor.submit(this::prepare);
+        }
+    }
+
+    /**
+     * Returns the path of the spare file.
+     *
+     * @return the path of the spare file
+     */
+    @NonNull Path spare() {
+        return spare;
+    }
+
+    /**
+     * Move the spare file to specified path, if it is ready, and start preparing the next one. This method does not
+     * block: if the spare file is not ready yet, this method does nothing.
+     *
+     * @param target target path
+     * @return {@code true} if the spare file was moved to {@code target}
+     */
+    boolean take(final Path target) {
+        final var local = pending;
+        if (local == null) {
+            LOG.debug("Spare segment {} preparation has not been started", spare);
+            return false;
+        }
+        if (!local.isDone()) {
+            LOG.debug("Spare segment {} is not ready yet", spare);
+            return false;
+        }
+
+        boolean ret;
+        try {
+            local.get();
+            Files.move(spare, target, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debug("Spare segment {} moved to {}", spare, target);
+            ret = true;
+        } catch (ExecutionException | IOException e) {
+            LOG.warn("Failed to use spare segment {}", spare, e);
+            ret = false;
+        } catch (InterruptedException e) {
+            // Cannot happen, as the future is done
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while getting a completed result", e);
+        }
+
+        pending = executor.submit(this::prepare);
+        return ret;
+    }
+
+    @Override
+    public void close() {
+        if (pending != null) {
+            pending.cancel(true);
+        }
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Spare segment {} preparation did not finish in {} seconds", spare, CLOSE_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for spare segment {} preparation to finish", spare, e);
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            Files.deleteIfExists(spare);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete spare segment {}", spare, e);
+        }
+    }
+
+    private Void prepare() throws IOException {
+        LOG.debug("Preparing spare segment {}", spare);
+        final var zeros = ByteBuffer.allocateDirect(FILL_CHUNK_SIZE);
+        try (var channel = FileChannel.open(spare, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Write out zeros rather than just setting the length, so the filesystem has to allocate all blocks and
+            // they end up in the page cache
+            long position = 0;
+            while (position < segmentSize) {
+                zeros.clear().limit((int) Math.min(FILL_CHUNK_SIZE, segmentSize - position));
+                position += channel.write(zeros, position);
+            }
+            // Make sure the first flush of the segment does not have to sync all of the allocated blocks
+            channel.force(true);
+        }
+        LOG.debug("Spare segment {} is ready", spare);
+        return null;
+    }
+}
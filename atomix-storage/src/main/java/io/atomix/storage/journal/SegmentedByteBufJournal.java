@@ -20,14 +20,20 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.buffer.ByteBufAllocator;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -56,16 +62,23 @@ public final class SegmentedByteBufJournal implements RaftJournal {
     private final int maxEntrySize;
     @Deprecated(forRemoval = true)
     private final int maxEntriesPerSegment;
+    private final @NonNull JournalIndexType indexType;
     private final double indexDensity;
     private final boolean flushOnCommit;
+    private final boolean groupCommit;
+    private final boolean indexFiles;
+    private final int loadParallelism;
+    private final @Nullable SegmentPreallocator preallocator;
 
     // null when closed
     private JournalSegment currentSegment;
     private volatile long commitIndex;
 
     SegmentedByteBufJournal(final String name, final StorageLevel storageLevel, final File directory,
-            final int maxSegmentSize, final int maxEntrySize, final int maxEntriesPerSegment, final double indexDensity,
-            final boolean flushOnCommit, final ByteBufAllocator allocator) {
+            final int maxSegmentSize, final int maxEntrySize, final int maxEntriesPerSegment,
+            final JournalIndexType indexType, final double indexDensity, final boolean flushOnCommit,
+            final boolean groupCommit, final boolean indexFiles, final int loadParallelism,
+            final boolean preallocateSegments, final ByteBufAllocator allocator) {
         this.name = requireNonNull(name, "name cannot be null");
         this.storageLevel = requireNonNull(storageLevel, "storageLevel cannot be null");
         this.directory = requireNonNull(directory, "directory cannot be null");
@@ -73,8 +86,14 @@ public final class SegmentedByteBufJournal implements RaftJournal {
         this.maxSegmentSize = maxSegmentSize;
         this.maxEntrySize = maxEntrySize;
         this.maxEntriesPerSegment = maxEntriesPerSegment;
+        this.indexType = requireNonNull(indexType, "indexType cannot be null");
         this.indexDensity = indexDensity;
         this.flushOnCommit = flushOnCommit;
+        this.groupCommit = groupCommit;
+        this.indexFiles = indexFiles;
+        this.loadParallelism = loadParallelism;
+        // Must be assigned before any segment is created, see createSegment()
+        preallocator = preallocateSegments ? new SegmentPreallocator(name, directory, maxSegmentSize) : null;
 
         // Load existing log segments from disk.
         for (var segment : loadSegments()) {
@@ -82,6 +101,10 @@ public final class SegmentedByteBufJournal implements RaftJournal {
         }
         currentSegment = ensureLastSegment();
 
+        // Start preparing the next segment only once we have settled existing segments
+        if (preallocator != null) {
+            preallocator.start();
+        }
         writer = new SegmentedByteBufWriter(this);
     }
 
@@ -265,6 +288,11 @@ public final class SegmentedByteBufJournal implements RaftJournal {
      * @param A new segment
      */
     private @NonNull JournalSegment createSegment(final long segmentId, final long firstIndex) {
+        if (preallocator != null) {
+            // Use the spare file if it is ready, createNew() will then just write the descriptor
+            preallocator.take(JournalSegmentFile.createSegmentFile(name, directory, segmentId).toPath());
+        }
+
         final JournalSegmentFile file;
         try {
             file = JournalSegmentFile.createNew(name, directory, allocator, JournalSegmentDescriptor.builder()
@@ -278,7 +306,8 @@ public final class SegmentedByteBufJournal implements RaftJournal {
             throw new StorageException(e);
         }
 
-        final var segment = new JournalSegment(file, storageLevel, maxEntrySize, indexDensity);
+        final var segment = new JournalSegment(file, storageLevel, maxEntrySize, indexType.newIndex(indexDensity),
+            groupCommit, indexFiles);
         LOG.debug("Created segment: {}", segment);
         return segment;
     }
@@ -309,27 +338,14 @@ public final class SegmentedByteBufJournal implements RaftJournal {
         // Ensure log directories are created.
         directory.mkdirs();
 
-        final var segmentsMap = new TreeMap<Long, JournalSegment>();
-
-        // Iterate through all files in the log directory.
-        for (var file : directory.listFiles(File::isFile)) {
-
-            // If the file looks like a segment file, attempt to load the segment.
-            if (JournalSegmentFile.isSegmentFile(name, file)) {
-                final JournalSegmentFile segmentFile;
-                try {
-                    segmentFile = JournalSegmentFile.openExisting(file.toPath(), allocator);
-                } catch (IOException e) {
-                    throw new StorageException(e);
-                }
-
-                // Load the segment.
-                LOG.debug("Loaded disk segment: {} ({})", segmentFile.segmentId(), segmentFile.path());
+        // Iterate through all files in the log directory, picking those which look like segment files.
+        final var files = Arrays.stream(directory.listFiles(File::isFile))
+            .filter(file -> JournalSegmentFile.isSegmentFile(name, file))
+            .toList();
 
-                // Add the segment to the segments list.
-                final var segment = new JournalSegment(segmentFile, storageLevel, maxEntrySize, indexDensity);
-                segmentsMap.put(segment.firstIndex(), segment);
-            }
+        final var segmentsMap = new TreeMap<Long, JournalSegment>();
+        for (var segment : loadSegments(files)) {
+            segmentsMap.put(segment.firstIndex(), segment);
         }
 
         // Verify that all the segments in the log align with one another.
@@ -352,6 +368,74 @@ public final class SegmentedByteBufJournal implements RaftJournal {
         return segmentsMap.values();
     }
 
+    /**
+     * Loads specified segment files, using up to {@link #loadParallelism} threads.
+     *
+     * @param files segment files
+     * @return loaded segments, in no particular order
+     */
+    private List<JournalSegment> loadSegments(final List<File> files) {
+        final int threads = Math.min(loadParallelism, files.size());
+        if (threads < 2) {
+            return files.stream().map(this::loadSegment).toList();
+        }
+
+        LOG.debug("{} - Loading {} segment(s) using {} threads", name, files.size(), threads);
+        final var executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+            .setNameFormat(name + "-segment-loader-%d")
+            .setDaemon(true)
+            .build());
+        try {
+            final var futures = files.stream().map(file -> executor.submit(() -> loadSegment(file))).toList();
+            final var ret = new ArrayList<JournalSegment>(futures.size());
+            RuntimeException failure = null;
+            for (var future : futures) {
+                try {
+                    ret.add(future.get());
+                } catch (ExecutionException e) {
+                    final var cause = e.getCause();
+                    final var ex = cause instanceof RuntimeException rex ? rex : new StorageException(cause);
+                    if (failure == null) {
+                        failure = ex;
+                    } else {
+                        failure.addSuppressed(ex);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ret.forEach(JournalSegment::close);
+                    throw new StorageException("Interrupted while loading segments", e);
+                }
+            }
+            if (failure != null) {
+                ret.forEach(JournalSegment::close);
+                throw failure;
+            }
+            return ret;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Loads a single segment file.
+     *
+     * @param file segment file
+     * @return A {@link JournalSegment}
+     */
+    private @NonNull JournalSegment loadSegment(final File file) {
+        final JournalSegmentFile segmentFile;
+        try {
+            segmentFile = JournalSegmentFile.openExisting(file.toPath(), allocator);
+        } catch (IOException e) {
+            throw new StorageException(e);
+        }
+
+        // Load the segment.
+        LOG.debug("Loaded disk segment: {} ({})", segmentFile.segmentId(), segmentFile.path());
+        return new JournalSegment(segmentFile, storageLevel, maxEntrySize, indexType.newIndex(indexDensity),
+            groupCommit, indexFiles);
+    }
+
     /**
      * Resets journal readers to the given head.
      *
@@ -421,9 +505,16 @@ public final class SegmentedByteBufJournal implements RaftJournal {
     @Override
     public void close() {
         if (currentSegment != null) {
+            if (groupCommit) {
+                // make sure pending writes are not lost
+                writer.flush();
+            }
             currentSegment = null;
             segments.values().forEach(JournalSegment::close);
             segments.clear();
+            if (preallocator != null) {
+                preallocator.close();
+            }
         }
     }
 
@@ -463,6 +554,10 @@ public final class SegmentedByteBufJournal implements RaftJournal {
      */
     public static final class Builder {
         private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+        private static final boolean DEFAULT_GROUP_COMMIT = false;
+        private static final boolean DEFAULT_INDEX_FILES = false;
+        private static final int DEFAULT_LOAD_PARALLELISM = 1;
+        private static final boolean DEFAULT_PREALLOCATE_SEGMENTS = false;
         private static final String DEFAULT_NAME = "atomix";
         private static final String DEFAULT_DIRECTORY = System.getProperty("user.dir");
         private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
@@ -476,8 +571,13 @@ public final class SegmentedByteBufJournal implements RaftJournal {
         private int maxSegmentSize = DEFAULT_MAX_SEGMENT_SIZE;
         private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
         private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
+        private JournalIndexType indexType = JournalIndexType.TREE;
         private double indexDensity = DEFAULT_INDEX_DENSITY;
         private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+        private boolean groupCommit = DEFAULT_GROUP_COMMIT;
+        private boolean indexFiles = DEFAULT_INDEX_FILES;
+        private int loadParallelism = DEFAULT_LOAD_PARALLELISM;
+        private boolean preallocateSegments = DEFAULT_PREALLOCATE_SEGMENTS;
         private ByteBufAllocator byteBufAllocator = ByteBufAllocator.DEFAULT;
 
         private Builder() {
@@ -608,6 +708,22 @@ public final class SegmentedByteBufJournal implements RaftJournal {
             return this;
         }
 
+        /**
+         * Sets the journal index implementation.
+         *
+         * <p>
+         * By default, the index is {@link JournalIndexType#TREE}.
+         *
+         * @param indexType the index implementation
+         * @return the builder instance
+         * @throws NullPointerException if {@code indexType} is {@code null}
+         */
+        @SuppressWarnings("checkstyle:hiddenField")
+        public Builder withIndexType(final JournalIndexType indexType) {
+            this.indexType = requireNonNull(indexType, "indexType cannot be null");
+            return this;
+        }
+
         /**
          * Enables flushing buffers to disk when entries are committed to a segment.
          *
@@ -637,6 +753,120 @@ public final class SegmentedByteBufJournal implements RaftJournal {
             return this;
         }
 
+        /**
+         * Enables group commit.
+         *
+         * <p>
+         * When group commit is enabled, appended entries are gathered in memory and written out together, with
+         * a single write when the writer is flushed. Appended entries become visible to readers only after they have
+         * been flushed. Callers are expected to flush the writer once for a number of appends, so that they share
+         * a single data sync.
+         *
+         * @return The builder instance
+         */
+        public Builder withGroupCommit() {
+            return withGroupCommit(true);
+        }
+
+        /**
+         * Sets whether to use group commit.
+         *
+         * <p>
+         * When group commit is enabled, appended entries are gathered in memory and written out together, with
+         * a single write when the writer is flushed. Appended entries become visible to readers only after they have
+         * been flushed. Callers are expected to flush the writer once for a number of appends, so that they share
+         * a single data sync.
+         *
+         * @param groupCommit Whether to use group commit
+         * @return The builder instance
+         */
+        @SuppressWarnings("checkstyle:hiddenField")
+        public Builder withGroupCommit(final boolean groupCommit) {
+            this.groupCommit = groupCommit;
+            return this;
+        }
+
+        /**
+         * Enables persisting segment indexes.
+         *
+         * <p>
+         * When index files are enabled, the index of each segment is written to a file next to the segment when
+         * the segment fills up. Such segments are then loaded without scanning all of their entries. Index files which
+         * do not match their segment are ignored.
+         *
+         * @return The builder instance
+         */
+        public Builder withIndexFiles() {
+            return withIndexFiles(true);
+        }
+
+        /**
+         * Sets whether to persist segment indexes.
+         *
+         * <p>
+         * When index files are enabled, the index of each segment is written to a file next to the segment when
+         * the segment fills up. Such segments are then loaded without scanning all of their entries. Index files which
+         * do not match their segment are ignored.
+         *
+         * @param indexFiles Whether to persist segment indexes
+         * @return The builder instance
+         */
+        @SuppressWarnings("checkstyle:hiddenField")
+        public Builder withIndexFiles(final boolean indexFiles) {
+            this.indexFiles = indexFiles;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads used to load existing segments when the journal is opened.
+         *
+         * <p>
+         * By default segments are loaded one after another on the thread opening the journal. Setting this to more
+         * than {@code 1} opens and indexes segment files concurrently on a short-lived pool of at most this many
+         * threads. Segment alignment is checked once all segments have been loaded.
+         *
+         * @param loadParallelism The maximum number of threads to use
+         * @return The builder instance
+         * @throws IllegalArgumentException if {@code loadParallelism} is not positive
+         */
+        @SuppressWarnings("checkstyle:hiddenField")
+        public Builder withLoadParallelism(final int loadParallelism) {
+            checkArgument(loadParallelism > 0, "loadParallelism must be positive");
+            this.loadParallelism = loadParallelism;
+            return this;
+        }
+
+        /**
+         * Enables segment preallocation.
+         *
+         * <p>
+         * When segment preallocation is enabled, a spare segment file is allocated, zero-filled and synced in
+         * the background, so that switching to a new segment does not have to allocate a file on the append path.
+         * This requires disk space for one additional segment.
+         *
+         * @return The builder instance
+         */
+        public Builder withSegmentPreallocation() {
+            return withSegmentPreallocation(true);
+        }
+
+        /**
+         * Sets whether to preallocate segments.
+         *
+         * <p>
+         * When segment preallocation is enabled, a spare segment file is allocated, zero-filled and synced in
+         * the background, so that switching to a new segment does not have to allocate a file on the append path.
+         * This requires disk space for one additional segment.
+         *
+         * @param preallocateSegments Whether to preallocate segments
+         * @return The builder instance
+         */
+        @SuppressWarnings("checkstyle:hiddenField")
+        public Builder withSegmentPreallocation(final boolean preallocateSegments) {
+            this.preallocateSegments = preallocateSegments;
+            return this;
+        }
+
         /**
          * Sets the {@link ByteBufAllocator} to use for allocating various buffers.
          *
@@ -656,7 +886,8 @@ public final class SegmentedByteBufJournal implements RaftJournal {
          */
         public SegmentedByteBufJournal build() {
             return new SegmentedByteBufJournal(name, storageLevel, directory, maxSegmentSize, maxEntrySize,
-                maxEntriesPerSegment, indexDensity, flushOnCommit, byteBufAllocator);
+                maxEntriesPerSegment, indexType, indexDensity, flushOnCommit, groupCommit, indexFiles,
+                loadParallelism, preallocateSegments, byteBufAllocator);
         }
     }
 }
@@ -61,7 +61,7 @@ final class SegmentedByteBufWriter implements EntryWriter {
     //  Slow path: we do not have enough capacity
     private <T> int appendToNextSegment(final ToByteBufMapper<T> mapper, final T entry) {
         currentWriter.flush();
-        currentSegment.releaseWriter();
+        currentSegment.sealWriter();
         currentSegment = journal.createNextSegment();
         currentWriter = currentSegment.acquireWriter();
         return verifyNotNull(currentWriter.append(mapper, entry));
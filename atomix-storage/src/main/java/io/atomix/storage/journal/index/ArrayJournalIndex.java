@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import com.google.common.base.MoreObjects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A {@link JournalIndex} maintaining target density, just like {@link SparseJournalIndex}. Indexed positions are kept
+ * in a pair of parallel primitive arrays, relying on indices being added in increasing order. This makes
+ * {@link #lookup(long)} a binary search and {@link #truncate(long)} a simple adjustment of the size, without boxing or
+ * allocating a tree node for each indexed entry.
+ */
+public final class ArrayJournalIndex implements JournalIndex {
+    private static final int MIN_DENSITY = 1000;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int density;
+
+    private long[] indexes = new long[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Last known position. May not be accurate immediately after a truncate() or construction
+    private @Nullable Position last;
+
+    public ArrayJournalIndex() {
+        density = MIN_DENSITY;
+    }
+
+    public ArrayJournalIndex(final double density) {
+        this.density = (int) Math.ceil(MIN_DENSITY / (density * MIN_DENSITY));
+    }
+
+    @Override
+    public Position index(final long index, final int position) {
+        final var newLast = new Position(index, position);
+        last = newLast;
+        if (index % density == 0) {
+            // Indices are expected to increase, but do not break if we are asked to overwrite the tail
+            while (size != 0 && indexes[size - 1] >= index) {
+                size--;
+            }
+            if (size == indexes.length) {
+                final int newCapacity = size + (size >> 1);
+                indexes = Arrays.copyOf(indexes, newCapacity);
+                positions = Arrays.copyOf(positions, newCapacity);
+            }
+            indexes[size] = index;
+            positions[size] = position;
+            size++;
+        }
+        return newLast;
+    }
+
+    @Override
+    public Position last() {
+        return last;
+    }
+
+    @Override
+    public Position lookup(final long index) {
+        final int offset = floorOffset(index);
+        return offset < 0 ? null : positionAt(offset);
+    }
+
+    @Override
+    public Position truncate(final long index) {
+        // Clear all indexes unto and including index, saving the first removed entry
+        final int found = Arrays.binarySearch(indexes, 0, size, index);
+        size = found < 0 ? -found - 1 : found;
+
+        // Update last position to the last entry, but make sure to return a pointer to index if that is what we have
+        // indexed.
+        final var newLast = size == 0 ? null : positionAt(size - 1);
+        last = newLast;
+        return found < 0 ? newLast : new Position(index, positions[found]);
+    }
+
+    @Override
+    public List<Position> indexedPositions() {
+        final var ret = new ArrayList<Position>(size);
+        for (int i = 0; i < size; ++i) {
+            ret.add(positionAt(i));
+        }
+        return ret;
+    }
+
+    private int floorOffset(final long index) {
+        final int found = Arrays.binarySearch(indexes, 0, size, index);
+        // not found: step back from insertion point, yielding -1 if there is no lesser index
+        return found < 0 ? -found - 2 : found;
+    }
+
+    private Position positionAt(final int offset) {
+        return new Position(indexes[offset], positions[offset]);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("size", size).add("last", last).toString();
+    }
+}
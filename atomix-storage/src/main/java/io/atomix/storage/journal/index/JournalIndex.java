@@ -16,6 +16,7 @@
  */
 package io.atomix.storage.journal.index;
 
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -54,4 +55,12 @@ public interface JournalIndex {
      * @return the position of the given index or a lesser index, or {@code null}
      */
     @Nullable Position truncate(long index);
+
+    /**
+     * Return the positions recorded in this index, in ascending order. This does not include {@link #last()}, unless
+     * it has been recorded as well.
+     *
+     * @return the recorded positions
+     */
+    @NonNull List<Position> indexedPositions();
 }
@@ -17,6 +17,7 @@
 package io.atomix.storage.journal.index;
 
 import com.google.common.base.MoreObjects;
+import java.util.List;
 import java.util.TreeMap;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -74,6 +75,11 @@ public final class SparseJournalIndex implements JournalIndex {
         return firstRemoved != null && firstRemoved.getKey() == index ? new Position(firstRemoved) : newLast;
     }
 
+    @Override
+    public List<Position> indexedPositions() {
+        return positions.entrySet().stream().map(Position::new).toList();
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("positions", positions).toString();
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.EOFException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.raft.journal.FromByteBufMapper;
+import org.opendaylight.controller.raft.journal.ToByteBufMapper;
+
+/**
+ * Tests of {@link StorageLevel#DISK} journal with group commit enabled.
+ */
+class GroupCommitJournalTest {
+    private static final ToByteBufMapper<Long> WRITE_MAPPER = (obj, buf) -> {
+        if (buf.readableBytes() < Long.BYTES) {
+            throw new EOFException();
+        }
+        buf.writerIndex(buf.readerIndex()).writeLong(obj);
+    };
+    private static final FromByteBufMapper<Long> READ_MAPPER = (index, bytes) -> bytes.readLong();
+
+    @TempDir
+    private Path directory;
+
+    private SegmentedByteBufJournal openJournal() {
+        return SegmentedByteBufJournal.builder()
+            .withName("test")
+            .withDirectory(directory.toFile())
+            .withStorageLevel(StorageLevel.DISK)
+            .withMaxSegmentSize(4096)
+            .withGroupCommit()
+            .build();
+    }
+
+    @Test
+    void testWritesVisibleAfterFlush() {
+        try (var journal = openJournal()) {
+            final var writer = journal.writer();
+            for (long i = 1; i <= 10; ++i) {
+                writer.append(WRITE_MAPPER, i);
+            }
+            assertEquals(10, journal.lastIndex());
+
+            try (var reader = journal.openReader(1)) {
+                // not flushed yet
+                assertNull(reader.tryNext(READ_MAPPER));
+
+                writer.flush();
+                reader.reset(1);
+                for (long i = 1; i <= 10; ++i) {
+                    assertEquals(i, reader.tryNext(READ_MAPPER));
+                }
+                assertNull(reader.tryNext(READ_MAPPER));
+            }
+        }
+    }
+
+    @Test
+    void testTruncatePending() {
+        try (var journal = openJournal()) {
+            final var writer = journal.writer();
+            for (long i = 1; i <= 10; ++i) {
+                writer.append(WRITE_MAPPER, i);
+            }
+            writer.reset(6);
+            assertEquals(5, journal.lastIndex());
+            writer.append(WRITE_MAPPER, 60L);
+            writer.flush();
+
+            try (var reader = journal.openReader(1)) {
+                for (long i = 1; i <= 5; ++i) {
+                    assertEquals(i, reader.tryNext(READ_MAPPER));
+                }
+                assertEquals(60L, reader.tryNext(READ_MAPPER));
+                assertNull(reader.tryNext(READ_MAPPER));
+            }
+        }
+    }
+
+    @Test
+    void testRolloverAndReopen() {
+        // enough entries to span multiple 4KiB segments
+        final long count = 1000;
+        try (var journal = openJournal()) {
+            final var writer = journal.writer();
+            for (long i = 1; i <= count; ++i) {
+                writer.append(WRITE_MAPPER, i);
+            }
+            // no explicit flush: close() should take care of pending writes
+        }
+
+        try (var journal = openJournal()) {
+            assertEquals(count, journal.lastIndex());
+            try (var reader = journal.openReader(1)) {
+                for (long i = 1; i <= count; ++i) {
+                    final var value = reader.tryNext(READ_MAPPER);
+                    assertNotNull(value);
+                    assertEquals(i, value);
+                }
+                assertNull(reader.tryNext(READ_MAPPER));
+            }
+        }
+    }
+}
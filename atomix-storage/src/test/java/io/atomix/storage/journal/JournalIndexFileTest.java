@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.raft.journal.FromByteBufMapper;
+import org.opendaylight.controller.raft.journal.ToByteBufMapper;
+
+/**
+ * Tests of {@link JournalIndexFile} persistence.
+ */
+class JournalIndexFileTest {
+    private static final ToByteBufMapper<Long> WRITE_MAPPER = (obj, buf) -> {
+        if (buf.readableBytes() < Long.BYTES) {
+            throw new EOFException();
+        }
+        buf.writerIndex(buf.readerIndex()).writeLong(obj);
+    };
+    private static final FromByteBufMapper<Long> READ_MAPPER = (index, bytes) -> bytes.readLong();
+    // (4096 - 64) / (8 + 8) = 252 entries per segment
+    private static final int ENTRIES = 1000;
+
+    @TempDir
+    private Path directory;
+
+    private SegmentedByteBufJournal openJournal() {
+        return SegmentedByteBufJournal.builder()
+            .withName("test")
+            .withDirectory(directory.toFile())
+            .withStorageLevel(StorageLevel.DISK)
+            .withMaxSegmentSize(4096)
+            .withIndexDensity(.1)
+            .withIndexFiles()
+            .build();
+    }
+
+    private void writeEntries() {
+        try (var journal = openJournal()) {
+            final var writer = journal.writer();
+            for (long i = 1; i <= ENTRIES; ++i) {
+                writer.append(WRITE_MAPPER, i);
+            }
+            writer.flush();
+        }
+    }
+
+    private static void assertEntries(final SegmentedByteBufJournal journal, final long lastIndex) {
+        assertEquals(lastIndex, journal.lastIndex());
+        try (var reader = journal.openReader(1)) {
+            for (long i = 1; i <= lastIndex; ++i) {
+                assertEquals(i, reader.tryNext(READ_MAPPER));
+            }
+            assertNull(reader.tryNext(READ_MAPPER));
+        }
+        // exercise index lookups
+        try (var reader = journal.openReader(lastIndex - 10)) {
+            assertEquals(lastIndex - 10, reader.tryNext(READ_MAPPER));
+        }
+    }
+
+    @Test
+    void testIndexFilesWritten() {
+        writeEntries();
+
+        // sealed segments have an index, the last one does not
+        assertTrue(Files.isRegularFile(directory.resolve("test-1.idx")));
+        assertTrue(Files.isRegularFile(directory.resolve("test-2.idx")));
+        assertTrue(Files.isRegularFile(directory.resolve("test-3.idx")));
+        assertFalse(Files.exists(directory.resolve("test-4.idx")));
+
+        try (var journal = openJournal()) {
+            assertEntries(journal, ENTRIES);
+
+            // appending continues past the loaded position
+            journal.writer().append(WRITE_MAPPER, ENTRIES + 1L);
+            assertEntries(journal, ENTRIES + 1);
+        }
+    }
+
+    @Test
+    void testCorruptedIndexFile() throws IOException {
+        writeEntries();
+
+        final var indexFile = directory.resolve("test-2.idx");
+        final var bytes = Files.readAllBytes(indexFile);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(indexFile, bytes);
+
+        try (var journal = openJournal()) {
+            assertEntries(journal, ENTRIES);
+        }
+        // stale file has been removed
+        assertFalse(Files.exists(indexFile));
+    }
+
+    @Test
+    void testResetIntoSealedSegment() {
+        writeEntries();
+
+        try (var journal = openJournal()) {
+            journal.writer().reset(400);
+            assertFalse(Files.exists(directory.resolve("test-2.idx")));
+            assertTrue(Files.exists(directory.resolve("test-1.idx")));
+            assertEntries(journal, 399);
+        }
+
+        try (var journal = openJournal()) {
+            assertEntries(journal, 399);
+        }
+    }
+
+    @Test
+    void testCompactRemovesIndexFile() {
+        writeEntries();
+
+        try (var journal = openJournal()) {
+            journal.compact(600);
+            assertFalse(Files.exists(directory.resolve("test-1.log")));
+            assertFalse(Files.exists(directory.resolve("test-1.idx")));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.raft.journal.FromByteBufMapper;
+import org.opendaylight.controller.raft.journal.ToByteBufMapper;
+
+/**
+ * Tests of {@link SegmentedByteBufJournal} loading segments with {@code loadParallelism}.
+ */
+class ParallelLoadJournalTest {
+    private static final ToByteBufMapper<Long> WRITE_MAPPER = (obj, buf) -> {
+        if (buf.readableBytes() < Long.BYTES) {
+            throw new EOFException();
+        }
+        buf.writerIndex(buf.readerIndex()).writeLong(obj);
+    };
+    private static final FromByteBufMapper<Long> READ_MAPPER = (index, bytes) -> bytes.readLong();
+    // (4096 - 64) / (8 + 8) = 252 entries per segment, i.e. 8 segments
+    private static final int ENTRIES = 2000;
+
+    @TempDir
+    private Path directory;
+
+    private SegmentedByteBufJournal openJournal(final int loadParallelism) {
+        return SegmentedByteBufJournal.builder()
+            .withName("test")
+            .withDirectory(directory.toFile())
+            .withStorageLevel(StorageLevel.DISK)
+            .withMaxSegmentSize(4096)
+            .withLoadParallelism(loadParallelism)
+            .build();
+    }
+
+    private void writeEntries() {
+        try (var journal = openJournal(1)) {
+            final var writer = journal.writer();
+            for (long i = 1; i <= ENTRIES; ++i) {
+                writer.append(WRITE_MAPPER, i);
+            }
+            writer.flush();
+        }
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        final var builder = SegmentedByteBufJournal.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withLoadParallelism(0));
+    }
+
+    @Test
+    void testParallelLoad() {
+        writeEntries();
+
+        try (var journal = openJournal(4)) {
+            assertEquals(1, journal.firstIndex());
+            assertEquals(ENTRIES, journal.lastIndex());
+            try (var reader = journal.openReader(1)) {
+                for (long i = 1; i <= ENTRIES; ++i) {
+                    assertEquals(i, reader.tryNext(READ_MAPPER));
+                }
+                assertNull(reader.tryNext(READ_MAPPER));
+            }
+        }
+    }
+
+    @Test
+    void testParallelLoadMisaligned() throws IOException {
+        writeEntries();
+
+        // remove a segment in the middle: all subsequent segments have to be discarded
+        Files.delete(directory.resolve("test-4.log"));
+
+        try (var journal = openJournal(4)) {
+            assertEquals(1, journal.firstIndex());
+            assertEquals(756, journal.lastIndex());
+        }
+        assertTrue(Files.exists(directory.resolve("test-3.log")));
+        assertFalse(Files.exists(directory.resolve("test-5.log")));
+        assertFalse(Files.exists(directory.resolve("test-8.log")));
+    }
+}
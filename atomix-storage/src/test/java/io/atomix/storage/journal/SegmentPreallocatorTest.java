@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.raft.journal.FromByteBufMapper;
+import org.opendaylight.controller.raft.journal.ToByteBufMapper;
+
+/**
+ * Tests of {@link SegmentPreallocator}.
+ */
+class SegmentPreallocatorTest {
+    private static final ToByteBufMapper<Long> WRITE_MAPPER = (obj, buf) -> {
+        if (buf.readableBytes() < Long.BYTES) {
+            throw new EOFException();
+        }
+        buf.writerIndex(buf.readerIndex()).writeLong(obj);
+    };
+    private static final FromByteBufMapper<Long> READ_MAPPER = (index, bytes) -> bytes.readLong();
+    // (4096 - 64) / (8 + 8) = 252 entries per segment, i.e. 8 segments
+    private static final int ENTRIES = 2000;
+
+    @TempDir
+    private Path directory;
+
+    private static void awaitTake(final SegmentPreallocator preallocator, final Path target)
+            throws InterruptedException {
+        for (int i = 0; i < 100; ++i) {
+            if (preallocator.take(target)) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Spare segment not ready");
+    }
+
+    @Test
+    void testTake() throws Exception {
+        final var target = directory.resolve("test-1.log");
+        try (var preallocator = new SegmentPreallocator("test", directory.toFile(), 4096)) {
+            // nothing is prepared until started
+            assertFalse(preallocator.take(target));
+            assertFalse(Files.exists(preallocator.spare()));
+
+            preallocator.start();
+            awaitTake(preallocator, target);
+            assertEquals(4096, Files.size(target));
+            assertTrue(JournalSegmentFile.isSegmentFile("test", target.getFileName().toString()));
+            assertFalse(JournalSegmentFile.isSegmentFile("test", preallocator.spare().getFileName().toString()));
+
+            // next spare is being prepared
+            final var next = directory.resolve("test-2.log");
+            awaitTake(preallocator, next);
+            assertEquals(4096, Files.size(next));
+        }
+
+        // spare has been cleaned up
+        assertFalse(Files.exists(directory.resolve("test.spare")));
+    }
+
+    @Test
+    void testJournal() throws IOException {
+        try (var journal = SegmentedByteBufJournal.builder()
+                .withName("test")
+                .withDirectory(directory.toFile())
+                .withStorageLevel(StorageLevel.DISK)
+                .withMaxSegmentSize(4096)
+                .withSegmentPreallocation()
+                .build()) {
+            final var writer = journal.writer();
+            for (long i = 1; i <= ENTRIES; ++i) {
+                writer.append(WRITE_MAPPER, i);
+            }
+            writer.flush();
+
+            try (var reader = journal.openReader(1)) {
+                for (long i = 1; i <= ENTRIES; ++i) {
+                    assertEquals(i, reader.tryNext(READ_MAPPER));
+                }
+                assertNull(reader.tryNext(READ_MAPPER));
+            }
+        }
+
+        assertFalse(Files.exists(directory.resolve("test.spare")));
+        try (var files = Files.list(directory)) {
+            assertEquals(8, files.count());
+        }
+        try (var journal = SegmentedByteBufJournal.builder()
+                .withName("test")
+                .withDirectory(directory.toFile())
+                .withStorageLevel(StorageLevel.DISK)
+                .withMaxSegmentSize(4096)
+                .build()) {
+            assertEquals(ENTRIES, journal.lastIndex());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.atomix.storage.journal.index.SparseJournalIndex;
+import io.netty.buffer.ByteBufAllocator;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.raft.journal.FromByteBufMapper;
+import org.opendaylight.controller.raft.journal.ToByteBufMapper;
+
+/**
+ * Tests of {@link JournalSegmentDescriptor#version()} handling.
+ */
+class SegmentVersionTest {
+    private static final ToByteBufMapper<Long> WRITE_MAPPER = (obj, buf) -> {
+        if (buf.readableBytes() < Long.BYTES) {
+            throw new EOFException();
+        }
+        buf.writerIndex(buf.readerIndex()).writeLong(obj);
+    };
+    private static final FromByteBufMapper<Long> READ_MAPPER = (index, bytes) -> bytes.readLong();
+    private static final int MAX_SEGMENT_SIZE = 4096;
+    private static final int MAX_ENTRY_SIZE = 1024;
+
+    @TempDir
+    private Path directory;
+
+    private SegmentedByteBufJournal openJournal() {
+        return SegmentedByteBufJournal.builder()
+            .withName("test")
+            .withDirectory(directory.toFile())
+            .withStorageLevel(StorageLevel.DISK)
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withMaxEntrySize(MAX_ENTRY_SIZE)
+            .build();
+    }
+
+    private JournalSegmentFile createSegmentFile(final int version) throws IOException {
+        return JournalSegmentFile.createNew("test", directory.toFile(), ByteBufAllocator.DEFAULT,
+            JournalSegmentDescriptor.builder(version)
+                .withId(1)
+                .withIndex(1)
+                .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+                .withMaxEntries(1024)
+                .withUpdated(0)
+                .build());
+    }
+
+    private int segmentVersion(final long id) throws IOException {
+        final var file = JournalSegmentFile.openExisting(directory.resolve("test-" + id + ".log"),
+            ByteBufAllocator.DEFAULT);
+        try {
+            return file.version();
+        } finally {
+            file.close();
+        }
+    }
+
+    private static void assertEntries(final SegmentedByteBufJournal journal, final long lastIndex) {
+        assertEquals(lastIndex, journal.lastIndex());
+        try (var reader = journal.openReader(1)) {
+            for (long i = 1; i <= lastIndex; ++i) {
+                assertEquals(i, reader.tryNext(READ_MAPPER));
+            }
+            assertNull(reader.tryNext(READ_MAPPER));
+        }
+    }
+
+    @Test
+    void testReadVersion1() throws IOException {
+        // Write a few entries into a version 1 segment
+        final var segment = new JournalSegment(createSegmentFile(1), StorageLevel.DISK, MAX_ENTRY_SIZE,
+            new SparseJournalIndex(), false, false);
+        final var writer = segment.acquireWriter();
+        for (long i = 1; i <= 10; ++i) {
+            writer.append(WRITE_MAPPER, i);
+        }
+        writer.flush();
+        segment.releaseWriter();
+        segment.close();
+
+        // (4096 - 64) / (8 + 8) = 252 entries per segment, hence this rolls over to a new segment
+        try (var journal = openJournal()) {
+            assertEntries(journal, 10);
+
+            final var journalWriter = journal.writer();
+            for (long i = 11; i <= 300; ++i) {
+                journalWriter.append(WRITE_MAPPER, i);
+            }
+            journalWriter.flush();
+            assertEntries(journal, 300);
+        }
+
+        // old segment is retained as-is, new segment uses current version
+        assertEquals(1, segmentVersion(1));
+        assertEquals(JournalSegmentDescriptor.VERSION, segmentVersion(2));
+
+        try (var journal = openJournal()) {
+            assertEntries(journal, 300);
+        }
+    }
+
+    @Test
+    void testUnsupportedVersion() throws IOException {
+        createSegmentFile(JournalSegmentDescriptor.VERSION + 1).close();
+
+        final var ex = assertThrows(StorageException.class, this::openJournal);
+        assertEquals("Unsupported segment version 3 in " + directory.resolve("test-1.log"), ex.getCause().getMessage());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Array journal index test.
+ */
+class ArrayJournalIndexTest {
+    private final ArrayJournalIndex arrayIndex = new ArrayJournalIndex(.2);
+
+    @Test
+    void firstTest() throws Exception {
+        assertNull(arrayIndex.lookup(1));
+        assertIndex(1, 2);
+        assertNull(arrayIndex.lookup(1));
+        assertIndex(2, 4);
+        assertIndex(3, 6);
+        assertIndex(4, 8);
+        assertIndex(5, 10);
+        assertEquals(new Position(5, 10), arrayIndex.lookup(5));
+        assertIndex(6, 12);
+        assertIndex(7, 14);
+        assertIndex(8, 16);
+        assertEquals(new Position(5, 10), arrayIndex.lookup(8));
+        assertIndex(9, 18);
+        assertIndex(10, 20);
+        assertEquals(new Position(10, 20), arrayIndex.lookup(10));
+        assertEquals(new Position(5, 10), arrayIndex.truncate(8));
+        assertEquals(new Position(5, 10), arrayIndex.lookup(5));
+        assertEquals(new Position(5, 10), arrayIndex.lookup(8));
+        assertEquals(new Position(5, 10), arrayIndex.lookup(10));
+        assertEquals(new Position(5, 10), arrayIndex.truncate(5));
+        assertNull(arrayIndex.lookup(5));
+        assertNull(arrayIndex.lookup(8));
+        assertNull(arrayIndex.truncate(4));
+        assertNull(arrayIndex.lookup(4));
+        assertNull(arrayIndex.lookup(8));
+    }
+
+    @Test
+    void secondTest() {
+        assertNull(arrayIndex.lookup(100));
+        assertIndex(101, 2);
+        assertNull(arrayIndex.lookup(1));
+        assertIndex(102, 4);
+        assertIndex(103, 6);
+        assertIndex(104, 8);
+        assertIndex(105, 10);
+        assertEquals(new Position(105, 10), arrayIndex.lookup(105));
+        assertIndex(106, 12);
+        assertIndex(107, 14);
+        assertIndex(108, 16);
+        assertEquals(new Position(105, 10), arrayIndex.lookup(108));
+        assertIndex(109, 18);
+        assertIndex(110, 20);
+        assertEquals(new Position(110, 20), arrayIndex.lookup(110));
+        assertEquals(new Position(105, 10), arrayIndex.truncate(108));
+        assertEquals(new Position(105, 10), arrayIndex.lookup(108));
+        assertEquals(new Position(105, 10), arrayIndex.lookup(110));
+        assertNull(arrayIndex.truncate(104));
+        assertNull(arrayIndex.lookup(104));
+        assertNull(arrayIndex.lookup(108));
+    }
+
+    @Test
+    void growthTest() {
+        for (int i = 1; i <= 1000; ++i) {
+            assertIndex(i, i * 2);
+        }
+        assertEquals(new Position(1000, 2000), arrayIndex.lookup(1000));
+        assertEquals(new Position(500, 1000), arrayIndex.lookup(503));
+        assertEquals(new Position(5, 10), arrayIndex.lookup(9));
+        assertNull(arrayIndex.lookup(4));
+
+        assertEquals(new Position(500, 1000), arrayIndex.truncate(500));
+        assertEquals(new Position(495, 990), arrayIndex.last());
+        assertEquals(new Position(495, 990), arrayIndex.lookup(1000));
+
+        assertIndex(496, 992);
+        assertIndex(500, 1000);
+        assertEquals(new Position(500, 1000), arrayIndex.lookup(1000));
+    }
+
+    private void assertIndex(final long index, final int position) {
+        assertEquals(new Position(index, position), arrayIndex.index(index, position));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.atomix.storage.jmh;
+
+import io.atomix.storage.journal.JournalIndexType;
+import io.atomix.storage.journal.SegmentedByteBufJournal;
+import io.atomix.storage.journal.StorageLevel;
+import io.netty.buffer.ByteBuf;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import org.opendaylight.controller.raft.journal.FromByteBufMapper;
+import org.opendaylight.controller.raft.journal.ToByteBufMapper;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Common state of all journal benchmarks. Each benchmark thread operates on its own journal in a fresh temporary
+ * directory, parameterized by {@link StorageLevel}, entry size, segment size, index implementation and index density.
+ */
+@State(Scope.Thread)
+public abstract class AbstractJournalBenchmark {
+    static final ToByteBufMapper<byte[]> WRITE_MAPPER = (obj, buf) -> {
+        if (buf.readableBytes() < obj.length) {
+            throw new EOFException();
+        }
+        buf.writerIndex(buf.readerIndex()).writeBytes(obj);
+    };
+    static final FromByteBufMapper<ByteBuf> READ_MAPPER = (index, bytes) -> bytes;
+
+    @Param({ "MAPPED", "DISK" })
+    public StorageLevel storageLevel;
+
+    @Param({ "64", "1024", "65536" })
+    public int entrySize;
+
+    @Param({ "1048576", "33554432" })
+    public int maxSegmentSize;
+
+    @Param({ "TREE", "ARRAY" })
+    public JournalIndexType indexType;
+
+    @Param({ "0.005", "0.1" })
+    public double indexDensity;
+
+    byte[] payload;
+    SegmentedByteBufJournal journal;
+
+    private Path directory;
+
+    final void openJournal() throws IOException {
+        payload = new byte[entrySize];
+        ThreadLocalRandom.current().nextBytes(payload);
+
+        directory = Files.createTempDirectory("atomix-storage-jmh");
+        journal = SegmentedByteBufJournal.builder()
+            .withName("jmh")
+            .withDirectory(directory.toFile())
+            .withStorageLevel(storageLevel)
+            .withMaxSegmentSize(maxSegmentSize)
+            .withIndexType(indexType)
+            .withIndexDensity(indexDensity)
+            .build();
+    }
+
+    final void closeJournal() throws IOException {
+        journal.close();
+        journal = null;
+
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        directory = null;
+    }
+
+    /**
+     * Append specified number of entries.
+     *
+     * @param count number of entries to append
+     */
+    final void appendEntries(final int count) {
+        final var writer = journal.writer();
+        for (int i = 0; i < count; ++i) {
+            writer.append(WRITE_MAPPER, payload);
+        }
+    }
+
+    /**
+     * Return the number of entries which fit into a single segment.
+     *
+     * @return the number of entries per segment
+     */
+    final int entriesPerSegment() {
+        // 64 bytes of segment descriptor, 8 bytes of entry header
+        return (maxSegmentSize - 64) / (entrySize + 8);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.atomix.storage.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@code SegmentedByteBufWriter.append()}, i.e. {@code JournalSegmentWriter.append()} including segment
+ * rollover. Sealed segments are periodically compacted away, so that disk usage stays bounded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JournalAppendBenchmark extends AbstractJournalBenchmark {
+    private int compactInterval;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        openJournal();
+        // keep at most a few segments around
+        compactInterval = Math.max(entriesPerSegment(), 1) * 4;
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        closeJournal();
+    }
+
+    @Benchmark
+    public int append() {
+        final var writer = journal.writer();
+        final int size = writer.append(WRITE_MAPPER, payload);
+        final long lastIndex = writer.nextIndex() - 1;
+        if (lastIndex % compactInterval == 0) {
+            journal.compact(lastIndex);
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int appendAndFlush() {
+        final int size = append();
+        journal.writer().flush();
+        return size;
+    }
+}
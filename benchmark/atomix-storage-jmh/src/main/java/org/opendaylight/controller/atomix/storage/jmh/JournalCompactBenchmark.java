@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.atomix.storage.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@code SegmentedByteBufJournal.compact()}. Each invocation is preceded by appending enough entries to
+ * seal {@link #SEGMENTS} segments, which are then compacted away.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JournalCompactBenchmark extends AbstractJournalBenchmark {
+    private static final int SEGMENTS = 4;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        openJournal();
+    }
+
+    @Setup(Level.Invocation)
+    public void fillSegments() {
+        appendEntries(Math.max(entriesPerSegment(), 1) * SEGMENTS);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        closeJournal();
+    }
+
+    @Benchmark
+    public void compact() {
+        journal.compact(journal.lastIndex());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.atomix.storage.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.raft.journal.EntryReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of {@code SegmentedByteBufReader}, both sequential and random access. Random access exercises the
+ * {@code JournalIndex} lookup and the subsequent forward scan, hence it is sensitive to index density.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JournalReadBenchmark extends AbstractJournalBenchmark {
+    // Amount of data to pre-populate the journal with
+    private static final int JOURNAL_BYTES = 64 * 1024 * 1024;
+
+    private EntryReader reader;
+    private long firstIndex;
+    private long lastIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        openJournal();
+        appendEntries(Math.max(JOURNAL_BYTES / entrySize, 1024));
+        journal.writer().flush();
+
+        firstIndex = journal.firstIndex();
+        lastIndex = journal.lastIndex();
+        reader = journal.openReader(firstIndex);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        reader.close();
+        reader = null;
+        closeJournal();
+    }
+
+    @Benchmark
+    public void sequentialRead(final Blackhole bh) {
+        var entry = reader.tryNext(READ_MAPPER);
+        if (entry == null) {
+            // wrap around
+            reader.reset();
+            entry = reader.tryNext(READ_MAPPER);
+        }
+        bh.consume(entry);
+    }
+
+    @Benchmark
+    public void randomRead(final Blackhole bh) {
+        reader.reset(ThreadLocalRandom.current().nextLong(firstIndex, lastIndex + 1));
+        bh.consume(reader.tryNext(READ_MAPPER));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.atomix.storage.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@code SegmentedByteBufWriter.reset()}, which truncates the journal. Each invocation is preceded by
+ * appending {@link #ENTRIES} entries, half of which are then truncated. The cost is dominated by re-indexing from the
+ * nearest indexed position, hence it is sensitive to index density.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JournalTruncateBenchmark extends AbstractJournalBenchmark {
+    private static final int ENTRIES = 1024;
+
+    private long truncateIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        openJournal();
+    }
+
+    @Setup(Level.Invocation)
+    public void appendTail() {
+        final var start = journal.writer().nextIndex();
+        if (start > entriesPerSegment() * 4L) {
+            journal.compact(start - 1);
+        }
+        appendEntries(ENTRIES);
+        truncateIndex = start + ENTRIES / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        closeJournal();
+    }
+
+    @Benchmark
+    public void truncate() {
+        journal.writer().reset(truncateIndex);
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+/**
+ * JMH benchmarks of {@code atomix-storage} journal append, read, compaction and truncation paths. Run with
+ * {@code mvn -Pbenchmarks verify}, or {@code java -jar target/atomix-storage-jmh-*-benchmarks.jar -prof gc}.
+ */
+package org.opendaylight.controller.atomix.storage.jmh;
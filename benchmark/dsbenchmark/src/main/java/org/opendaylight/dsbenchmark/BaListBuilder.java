@@ -25,8 +25,13 @@ public final class BaListBuilder {
     }
 
     public static List<OuterList> buildOuterList(final int outerElements, final int innerElements) {
+        return buildOuterList(0, outerElements, innerElements);
+    }
+
+    public static List<OuterList> buildOuterList(final int firstElement, final int outerElements,
+            final int innerElements) {
         List<OuterList> outerList = new ArrayList<>(outerElements);
-        for (int j = 0; j < outerElements; j++) {
+        for (int j = firstElement; j < firstElement + outerElements; j++) {
             outerList.add(new OuterListBuilder()
                 .setId(j)
                 .setInnerList(buildInnerList(j, innerElements))
@@ -9,6 +9,8 @@ package org.opendaylight.dsbenchmark;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.dsbenchmark.rev150105.StartTestInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.dsbenchmark.rev150105.StartTestInput.DataStore;
@@ -18,6 +20,7 @@ import org.slf4j.LoggerFactory;
 public abstract class DatastoreAbstractWriter {
     private static final Logger LOG = LoggerFactory.getLogger(DatastoreAbstractWriter.class);
 
+    protected final int firstOuterElem;
     protected final int outerListElem;
     protected final int innerListElem;
     protected final long writesPerTx;
@@ -28,9 +31,20 @@ public abstract class DatastoreAbstractWriter {
     protected int txOk = 0;
     protected int txError = 0;
 
-    @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR", justification = "'this' passed to logging")
+    private final TxLatencies latencies = new TxLatencies();
+    // Interval between transaction starts, 0 if transactions are started as soon as possible
+    private long txIntervalNanos = 0;
+    private long nextTxStart;
+
     public DatastoreAbstractWriter(final StartTestInput.Operation oper,
             final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
+        this(oper, 0, outerListElem, innerListElem, writesPerTx, dataStore);
+    }
+
+    @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR", justification = "'this' passed to logging")
+    public DatastoreAbstractWriter(final StartTestInput.Operation oper, final int firstOuterElem,
+            final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
+        this.firstOuterElem = firstOuterElem;
         this.outerListElem = outerListElem;
         this.innerListElem = innerListElem;
         this.writesPerTx = writesPerTx;
@@ -51,6 +65,52 @@ public abstract class DatastoreAbstractWriter {
         return txOk;
     }
 
+    public TxLatencies getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Start transactions at a fixed rate instead of as soon as possible. Latencies are then measured from the time
+     * a transaction was scheduled to start, so that a datastore which cannot keep up is not hidden by the writer
+     * falling behind its schedule.
+     *
+     * @param txPerSecond target number of transactions per second
+     */
+    public void setTargetRate(final double txPerSecond) {
+        txIntervalNanos = txPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / txPerSecond) : 0;
+    }
+
+    /**
+     * Wait until the next transaction is due to start.
+     *
+     * @return the time the transaction was due, as reported by {@link System#nanoTime()}
+     */
+    protected final long startTransaction() {
+        final long now = System.nanoTime();
+        if (txIntervalNanos == 0) {
+            return now;
+        }
+        if (nextTxStart == 0) {
+            nextTxStart = now;
+        }
+
+        final long start = nextTxStart;
+        nextTxStart += txIntervalNanos;
+        for (long delay = start - now; delay > 0; delay = start - System.nanoTime()) {
+            LockSupport.parkNanos(delay);
+        }
+        return start;
+    }
+
+    /**
+     * Record the completion of a transaction started by {@link #startTransaction()}.
+     *
+     * @param startNanos value returned by {@link #startTransaction()}
+     */
+    protected final void recordLatency(final long startNanos) {
+        latencies.record(System.nanoTime() - startNanos);
+    }
+
     protected LogicalDatastoreType getDataStoreType() {
         return dataStore == DataStore.CONFIG || dataStore != DataStore.OPERATIONAL && !rn.nextBoolean()
             ? LogicalDatastoreType.CONFIGURATION : LogicalDatastoreType.OPERATIONAL;
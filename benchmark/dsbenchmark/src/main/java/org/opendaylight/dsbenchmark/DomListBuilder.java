@@ -32,8 +32,13 @@ public final class DomListBuilder {
     }
 
     public static List<MapEntryNode> buildOuterList(final int outerElements, final int innerElements) {
+        return buildOuterList(0, outerElements, innerElements);
+    }
+
+    public static List<MapEntryNode> buildOuterList(final int firstElement, final int outerElements,
+            final int innerElements) {
         final var outerList = new ArrayList<MapEntryNode>(outerElements);
-        for (int j = 0; j < outerElements; j++) {
+        for (int j = firstElement; j < firstElement + outerElements; j++) {
             outerList.add(ImmutableNodes.newMapEntryBuilder()
                 .withNodeIdentifier(NodeIdentifierWithPredicates.of(OuterList.QNAME, OL_ID, j))
                 .withChild(ImmutableNodes.leafNode(OL_ID, j))
@@ -11,8 +11,11 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -126,18 +129,44 @@ public final class DsbenchmarkProvider implements AutoCloseable {
                 .build()).buildFuture();
         }
 
+        final var concurrencyValue = input.getConcurrency();
+        final int concurrency = concurrencyValue == null ? 1 : concurrencyValue.intValue();
+        final var targetRateValue = input.getTargetRate();
+        final long targetRate = targetRateValue == null ? 0 : targetRateValue.longValue();
+        final var oper = input.getOperation();
+        if ((concurrency > 1 || targetRate > 0)
+            && (oper == StartTestInput.Operation.READ || oper == StartTestInput.Operation.DELETE)) {
+            LOG.warn("Concurrency and target rate are not supported for {} operation", oper);
+            execStatus.set(ExecStatus.Idle);
+            return RpcResultBuilder.success(new StartTestOutputBuilder()
+                .setStatus(StartTestOutput.Status.FAILED)
+                .build()).buildFuture();
+        }
+
         // Cleanup data that may be left over from a previous test run
         cleanupTestStore();
 
-        // Get the appropriate writer based on operation type and data format
-        DatastoreAbstractWriter dsWriter = getDatastoreWriter(input);
+        // Get the appropriate writers based on operation type and data format, each writing its own subset of
+        // OuterList elements
+        final long outerElements = input.getOuterElements().longValue();
+        final var dsWriters = new ArrayList<DatastoreAbstractWriter>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            final int first = (int) (outerElements * i / concurrency);
+            final int last = (int) (outerElements * (i + 1) / concurrency);
+            final var dsWriter = getDatastoreWriter(input, first, last - first);
+            if (targetRate > 0) {
+                // Each writer keeps its own schedule, at an equal share of the aggregate rate
+                dsWriter.setTargetRate((double) targetRate / concurrency);
+            }
+            dsWriters.add(dsWriter);
+        }
 
         // Create listeners on OPERATIONAL and CONFIG test data subtrees
         listenerProvider.createAndRegisterListeners(input.getListeners().intValue());
 
 
         long startTime = System.nanoTime();
-        dsWriter.createList();
+        dsWriters.forEach(DatastoreAbstractWriter::createList);
         long endTime = System.nanoTime();
         final long listCreateTime = (endTime - startTime) / 1000;
 
@@ -145,7 +174,7 @@ public final class DsbenchmarkProvider implements AutoCloseable {
         long execTime;
         try {
             startTime = System.nanoTime();
-            dsWriter.executeList();
+            executeLists(dsWriters);
             endTime = System.nanoTime();
             execTime = (endTime - startTime) / 1000;
 
@@ -167,17 +196,44 @@ public final class DsbenchmarkProvider implements AutoCloseable {
         long numDataChanges = listenerProvider.getDataChangeCount();
         long numEvents = listenerProvider.getEventCountAndDestroyListeners();
 
-        StartTestOutput output = new StartTestOutputBuilder()
+        final var outputBuilder = new StartTestOutputBuilder()
                 .setStatus(StartTestOutput.Status.OK)
                 .setListBuildTime(listCreateTime)
                 .setExecTime(execTime)
-                .setTxOk(Uint32.valueOf(dsWriter.getTxOk()))
+                .setTxOk(Uint32.valueOf(dsWriters.stream().mapToLong(DatastoreAbstractWriter::getTxOk).sum()))
                 .setNtfOk(Uint32.valueOf(numEvents))
                 .setDataChangeEventsOk(Uint32.valueOf(numDataChanges))
-                .setTxError(Uint32.valueOf(dsWriter.getTxError()))
-                .build();
+                .setTxError(Uint32.valueOf(dsWriters.stream().mapToLong(DatastoreAbstractWriter::getTxError).sum()));
+
+        final var latencies = TxLatencies.percentiles(
+            dsWriters.stream().map(DatastoreAbstractWriter::getLatencies).toList());
+        if (latencies != null) {
+            outputBuilder
+                .setTxLatencyP50(latencies.p50())
+                .setTxLatencyP99(latencies.p99())
+                .setTxLatencyP999(latencies.p999())
+                .setTxLatencyMax(latencies.max());
+        }
+
+        return RpcResultBuilder.success(outputBuilder.build()).buildFuture();
+    }
 
-        return RpcResultBuilder.success(output).buildFuture();
+    private static void executeLists(final List<DatastoreAbstractWriter> dsWriters)
+            throws InterruptedException, ExecutionException {
+        if (dsWriters.size() == 1) {
+            dsWriters.get(0).executeList();
+            return;
+        }
+
+        try (var executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofPlatform().name("dsbenchmark-writer-", 0).factory())) {
+            final var futures = dsWriters.stream()
+                .map(dsWriter -> executor.submit(dsWriter::executeList))
+                .toList();
+            for (var future : futures) {
+                future.get();
+            }
+        }
     }
 
     private void setTestOperData(final ExecStatus sts, final long tstCompl) {
@@ -223,7 +279,8 @@ public final class DsbenchmarkProvider implements AutoCloseable {
 
     }
 
-    private DatastoreAbstractWriter getDatastoreWriter(final StartTestInput input) {
+    private DatastoreAbstractWriter getDatastoreWriter(final StartTestInput input, final int firstOuterElem,
+            final int outerListElem) {
 
         final DatastoreAbstractWriter retVal;
 
@@ -231,7 +288,6 @@ public final class DsbenchmarkProvider implements AutoCloseable {
         StartTestInput.Operation oper = input.getOperation();
         StartTestInput.DataFormat dataFormat = input.getDataFormat();
         StartTestInput.DataStore dataStore = input.getDataStore();
-        int outerListElem = input.getOuterElements().intValue();
         int innerListElem = input.getInnerElements().intValue();
         int writesPerTx = input.getPutsPerTx().intValue();
 
@@ -245,7 +301,7 @@ public final class DsbenchmarkProvider implements AutoCloseable {
                         retVal = new SimpletxBaRead(dataBroker, outerListElem,
                                 innerListElem, writesPerTx, dataStore);
                     } else {
-                        retVal = new SimpletxBaWrite(dataBroker, oper, outerListElem,
+                        retVal = new SimpletxBaWrite(dataBroker, oper, firstOuterElem, outerListElem,
                                 innerListElem, writesPerTx, dataStore);
                     }
                 } else if (StartTestInput.Operation.DELETE == oper) {
@@ -255,7 +311,7 @@ public final class DsbenchmarkProvider implements AutoCloseable {
                     retVal = new SimpletxDomRead(domDataBroker, outerListElem,
                             innerListElem, writesPerTx, dataStore);
                 } else {
-                    retVal = new SimpletxDomWrite(domDataBroker, oper, outerListElem,
+                    retVal = new SimpletxDomWrite(domDataBroker, oper, firstOuterElem, outerListElem,
                             innerListElem, writesPerTx, dataStore);
                 }
             } else if (dataFormat == StartTestInput.DataFormat.BINDINGAWARE) {
@@ -266,7 +322,7 @@ public final class DsbenchmarkProvider implements AutoCloseable {
                     retVal = new TxchainBaRead(dataBroker, outerListElem,
                             innerListElem,writesPerTx, dataStore);
                 } else {
-                    retVal = new TxchainBaWrite(dataBroker, oper, outerListElem,
+                    retVal = new TxchainBaWrite(dataBroker, oper, firstOuterElem, outerListElem,
                             innerListElem, writesPerTx, dataStore);
                 }
             } else if (StartTestInput.Operation.DELETE == oper) {
@@ -277,7 +333,7 @@ public final class DsbenchmarkProvider implements AutoCloseable {
                         innerListElem, writesPerTx, dataStore);
 
             } else {
-                retVal = new TxchainDomWrite(domDataBroker, oper, outerListElem,
+                retVal = new TxchainDomWrite(domDataBroker, oper, firstOuterElem, outerListElem,
                         innerListElem,writesPerTx, dataStore);
             }
         } finally {
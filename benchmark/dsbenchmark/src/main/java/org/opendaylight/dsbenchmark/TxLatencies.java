@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.dsbenchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of transactions executed by a {@link DatastoreAbstractWriter}. All samples are retained, which is cheap
+ * at the transaction counts a single test run produces, and allows percentiles to be computed exactly. Samples may be
+ * recorded from commit callbacks, hence access is synchronized.
+ */
+public final class TxLatencies {
+    /**
+     * Latency percentiles, in microseconds.
+     */
+    public record Percentiles(long p50, long p99, long p999, long max) {
+        // Nothing else
+    }
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    synchronized void record(final long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    private synchronized long[] toArray() {
+        return Arrays.copyOf(samples, size);
+    }
+
+    /**
+     * Compute percentiles over latencies recorded by any number of writers.
+     *
+     * @param latencies latencies to combine
+     * @return Percentiles, or {@code null} if no latencies were recorded
+     */
+    public static Percentiles percentiles(final Collection<TxLatencies> latencies) {
+        final var combined = latencies.stream()
+            .map(TxLatencies::toArray)
+            .flatMapToLong(Arrays::stream)
+            .sorted()
+            .toArray();
+        if (combined.length == 0) {
+            return null;
+        }
+
+        return new Percentiles(percentile(combined, 0.5), percentile(combined, 0.99), percentile(combined, 0.999),
+            TimeUnit.NANOSECONDS.toMicros(combined[combined.length - 1]));
+    }
+
+    // Nearest-rank percentile of sorted samples
+    private static long percentile(final long[] sorted, final double fraction) {
+        final int rank = (int) Math.ceil(fraction * sorted.length);
+        return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(rank, 1) - 1]);
+    }
+}
@@ -30,14 +30,19 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
 
     public SimpletxBaWrite(final DataBroker dataBroker, final StartTestInput.Operation oper,
             final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
-        super(oper, outerListElem, innerListElem, writesPerTx, dataStore);
+        this(dataBroker, oper, 0, outerListElem, innerListElem, writesPerTx, dataStore);
+    }
+
+    public SimpletxBaWrite(final DataBroker dataBroker, final StartTestInput.Operation oper, final int firstOuterElem,
+            final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
+        super(oper, firstOuterElem, outerListElem, innerListElem, writesPerTx, dataStore);
         this.dataBroker = requireNonNull(dataBroker);
         LOG.debug("Created SimpletxBaWrite");
     }
 
     @Override
     public void createList() {
-        list = BaListBuilder.buildOuterList(outerListElem, innerListElem);
+        list = BaListBuilder.buildOuterList(firstOuterElem, outerListElem, innerListElem);
     }
 
     @Override
@@ -46,8 +51,12 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
 
         var tx = dataBroker.newWriteOnlyTransaction();
         long writeCnt = 0;
+        long txStart = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                txStart = startTransaction();
+            }
             final var iid = InstanceIdentifier.create(TestExec.class).child(OuterList.class, element.key());
             if (oper == StartTestInput.Operation.PUT) {
                 tx.put(dsType, iid, element);
@@ -61,6 +70,7 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
                 try {
                     tx.commit().get();
                     txOk++;
+                    recordLatency(txStart);
                 } catch (final InterruptedException | ExecutionException e) {
                     LOG.error("Transaction failed", e);
                     txError++;
@@ -74,6 +84,7 @@ public class SimpletxBaWrite extends DatastoreAbstractWriter {
         if (writeCnt != 0) {
             try {
                 tx.commit().get();
+                recordLatency(txStart);
             } catch (final InterruptedException | ExecutionException e) {
                 LOG.error("Transaction failed", e);
             }
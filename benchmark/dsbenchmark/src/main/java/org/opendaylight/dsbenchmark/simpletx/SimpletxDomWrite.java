@@ -32,14 +32,20 @@ public class SimpletxDomWrite extends DatastoreAbstractWriter {
 
     public SimpletxDomWrite(final DOMDataBroker dataBroker, final StartTestInput.Operation oper,
             final int outerListElem, final int innerListElem, final long putsPerTx, final DataStore dataStore) {
-        super(oper, outerListElem, innerListElem, putsPerTx, dataStore);
+        this(dataBroker, oper, 0, outerListElem, innerListElem, putsPerTx, dataStore);
+    }
+
+    public SimpletxDomWrite(final DOMDataBroker dataBroker, final StartTestInput.Operation oper,
+            final int firstOuterElem, final int outerListElem, final int innerListElem, final long putsPerTx,
+            final DataStore dataStore) {
+        super(oper, firstOuterElem, outerListElem, innerListElem, putsPerTx, dataStore);
         this.dataBroker = requireNonNull(dataBroker);
         LOG.debug("Created SimpletxDomWrite");
     }
 
     @Override
     public void createList() {
-        list = DomListBuilder.buildOuterList(outerListElem, innerListElem);
+        list = DomListBuilder.buildOuterList(firstOuterElem, outerListElem, innerListElem);
     }
 
     @Override
@@ -49,8 +55,12 @@ public class SimpletxDomWrite extends DatastoreAbstractWriter {
 
         var tx = dataBroker.newWriteOnlyTransaction();
         long writeCnt = 0;
+        long txStart = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                txStart = startTransaction();
+            }
             final var yid = pid.node(NodeIdentifierWithPredicates.of(OuterList.QNAME, element.name().asMap()));
 
             if (oper == StartTestInput.Operation.PUT) {
@@ -65,6 +75,7 @@ public class SimpletxDomWrite extends DatastoreAbstractWriter {
                 try {
                     tx.commit().get();
                     txOk++;
+                    recordLatency(txStart);
                 } catch (final InterruptedException | ExecutionException e) {
                     LOG.error("Transaction failed", e);
                     txError++;
@@ -77,6 +88,7 @@ public class SimpletxDomWrite extends DatastoreAbstractWriter {
         if (writeCnt != 0) {
             try {
                 tx.commit().get();
+                recordLatency(txStart);
             } catch (final InterruptedException | ExecutionException e) {
                 LOG.error("Transaction failed", e);
             }
@@ -35,14 +35,19 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements FutureCal
 
     public TxchainBaWrite(final DataBroker dataBroker, final Operation oper, final int outerListElem,
             final int innerListElem, final long writesPerTx, final DataStore dataStore) {
-        super(oper, outerListElem, innerListElem, writesPerTx, dataStore);
+        this(dataBroker, oper, 0, outerListElem, innerListElem, writesPerTx, dataStore);
+    }
+
+    public TxchainBaWrite(final DataBroker dataBroker, final Operation oper, final int firstOuterElem,
+            final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
+        super(oper, firstOuterElem, outerListElem, innerListElem, writesPerTx, dataStore);
         this.dataBroker = requireNonNull(dataBroker);
         LOG.debug("Created TxchainBaWrite");
     }
 
     @Override
     public void createList() {
-        list = BaListBuilder.buildOuterList(outerListElem, innerListElem);
+        list = BaListBuilder.buildOuterList(firstOuterElem, outerListElem, innerListElem);
     }
 
     @Override
@@ -54,8 +59,12 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements FutureCal
         var tx = chain.newWriteOnlyTransaction();
         int txSubmitted = 0;
         int writeCnt = 0;
+        long txStart = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                txStart = startTransaction();
+            }
             final var iid = InstanceIdentifier.create(TestExec.class).child(OuterList.class, element.key());
 
             if (oper == StartTestInput.Operation.PUT) {
@@ -68,10 +77,12 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements FutureCal
 
             if (writeCnt == writesPerTx) {
                 txSubmitted++;
+                final long start = txStart;
                 tx.commit().addCallback(new FutureCallback<CommitInfo>() {
                     @Override
                     public void onSuccess(final CommitInfo result) {
                         txOk++;
+                        recordLatency(start);
                     }
 
                     @Override
@@ -92,6 +103,9 @@ public class TxchainBaWrite extends DatastoreAbstractWriter implements FutureCal
             txSubmitted++;
             tx.commit().get();
             txOk++;
+            if (writeCnt != 0) {
+                recordLatency(txStart);
+            }
         } catch (final InterruptedException | ExecutionException e) {
             LOG.error("Transaction failed", e);
             txError++;
@@ -34,14 +34,20 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements FutureCa
 
     public TxchainDomWrite(final DOMDataBroker dataBroker, final StartTestInput.Operation oper,
             final int outerListElem, final int innerListElem, final long writesPerTx, final DataStore dataStore) {
-        super(oper, outerListElem, innerListElem, writesPerTx, dataStore);
+        this(dataBroker, oper, 0, outerListElem, innerListElem, writesPerTx, dataStore);
+    }
+
+    public TxchainDomWrite(final DOMDataBroker dataBroker, final StartTestInput.Operation oper,
+            final int firstOuterElem, final int outerListElem, final int innerListElem, final long writesPerTx,
+            final DataStore dataStore) {
+        super(oper, firstOuterElem, outerListElem, innerListElem, writesPerTx, dataStore);
         this.dataBroker = dataBroker;
         LOG.debug("Created TxchainDomWrite");
     }
 
     @Override
     public void createList() {
-        list = DomListBuilder.buildOuterList(outerListElem, innerListElem);
+        list = DomListBuilder.buildOuterList(firstOuterElem, outerListElem, innerListElem);
     }
 
     @Override
@@ -54,8 +60,12 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements FutureCa
         var tx = chain.newWriteOnlyTransaction();
         int txSubmitted = 0;
         int writeCnt = 0;
+        long txStart = 0;
 
         for (var element : list) {
+            if (writeCnt == 0) {
+                txStart = startTransaction();
+            }
             var yid = pid.node(NodeIdentifierWithPredicates.of(OuterList.QNAME, element.name().asMap()));
 
             if (oper == StartTestInput.Operation.PUT) {
@@ -69,10 +79,12 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements FutureCa
             // Start performing the operation; submit the transaction at every n-th operation
             if (writeCnt == writesPerTx) {
                 txSubmitted++;
+                final long start = txStart;
                 tx.commit().addCallback(new FutureCallback<CommitInfo>() {
                     @Override
                     public void onSuccess(final CommitInfo result) {
                         txOk++;
+                        recordLatency(start);
                     }
 
                     @Override
@@ -94,6 +106,9 @@ public class TxchainDomWrite extends DatastoreAbstractWriter implements FutureCa
             txSubmitted++;
             tx.commit().get();
             txOk++;
+            if (writeCnt != 0) {
+                recordLatency(txStart);
+            }
         } catch (final InterruptedException | ExecutionException e) {
             LOG.error("Transaction failed", e);
             txError++;
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.dsbenchmark;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.opendaylight.dsbenchmark.TxLatencies.Percentiles;
+
+public class TxLatenciesTest {
+    @Test
+    public void testNoSamples() {
+        assertNull(TxLatencies.percentiles(List.of()));
+        assertNull(TxLatencies.percentiles(List.of(new TxLatencies(), new TxLatencies())));
+    }
+
+    @Test
+    public void testSingleSample() {
+        final var latencies = new TxLatencies();
+        latencies.record(TimeUnit.MICROSECONDS.toNanos(42));
+
+        assertEquals(new Percentiles(42, 42, 42, 42), TxLatencies.percentiles(List.of(latencies)));
+    }
+
+    @Test
+    public void testNearestRank() {
+        // 1..2000 microseconds, recorded out of order and spread over two writers, which also exceeds the initial
+        // capacity of each
+        final var first = new TxLatencies();
+        final var second = new TxLatencies();
+        for (int i = 2000; i > 0; --i) {
+            (i % 2 == 0 ? first : second).record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        // ranks: ceil(0.5 * 2000) = 1000, ceil(0.99 * 2000) = 1980, ceil(0.999 * 2000) = 1998
+        assertEquals(new Percentiles(1000, 1980, 1998, 2000), TxLatencies.percentiles(List.of(first, second)));
+    }
+
+    @Test
+    public void testSubMicrosecondSamples() {
+        final var latencies = new TxLatencies();
+        latencies.record(999);
+        latencies.record(1_500);
+
+        // Nanoseconds are truncated to microseconds
+        assertEquals(new Percentiles(0, 1, 1, 1), TxLatencies.percentiles(List.of(latencies)));
+    }
+}
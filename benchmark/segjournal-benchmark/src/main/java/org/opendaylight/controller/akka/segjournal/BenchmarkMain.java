@@ -67,6 +67,8 @@ public final class BenchmarkMain {
         LOG.info("\tmaxEntrySize       : {}", formatBytes(config.maxEntrySize()));
         LOG.info("\tmaxSegmentSize     : {}", formatBytes(config.maxSegmentSize()));
         LOG.info("\tmaxUnflushedBytes  : {}", formatBytes(config.maxUnflushedBytes()));
+        LOG.info("\tgroupCommit        : {}", config.groupCommit());
+        LOG.info("\tuseLz4Compression  : {}", config.useLz4Compression());
 
         final var minLoadSize = Math.round(config.payloadSize() * 0.8f);
         final var maxLoadSize = Math.min(Math.round(config.payloadSize() * 1.2f), config.maxEntrySize());
@@ -82,7 +84,8 @@ public final class BenchmarkMain {
         // get actor
         actor = system.actorOf(
             SegmentedJournalActor.props("perf", config.workingDir(), config.storage(),
-                config.maxEntrySize(), config.maxSegmentSize(), config.maxUnflushedBytes()));
+                config.maxEntrySize(), config.maxSegmentSize(), config.maxUnflushedBytes(), config.groupCommit(),
+                config.useLz4Compression(), null));
 
         // randomize payloads
         final var random = ThreadLocalRandom.current();
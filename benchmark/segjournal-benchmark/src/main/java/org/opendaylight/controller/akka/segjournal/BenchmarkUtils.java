@@ -7,12 +7,14 @@
  */
 package org.opendaylight.controller.akka.segjournal;
 
+import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_GROUP_COMMIT;
 import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_MAX_ENTRY_SIZE;
 import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_MAX_ENTRY_SIZE_DEFAULT;
 import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_MAX_SEGMENT_SIZE;
 import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_MAX_SEGMENT_SIZE_DEFAULT;
 import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_MAX_UNFLUSHED_BYTES;
 import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_MEMORY_MAPPED;
+import static org.opendaylight.controller.akka.segjournal.SegmentedFileJournal.STORAGE_USE_LZ4_COMPRESSION;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.base.Ticker;
@@ -47,7 +49,7 @@ final class BenchmarkUtils {
     private static final int[] BYTE_THRESH = {1024 * 1024 * 1024, 1024 * 1024, 1024};
 
     record BenchmarkConfig(StorageLevel storage, File workingDir, int maxEntrySize, int maxSegmentSize,
-        int maxUnflushedBytes, int payloadSize, int messagesNum) {
+        int maxUnflushedBytes, boolean groupCommit, boolean useLz4Compression, int payloadSize, int messagesNum) {
     }
 
     private BenchmarkUtils() {
@@ -85,6 +87,18 @@ final class BenchmarkUtils {
             .dest(STORAGE_MEMORY_MAPPED)
             .help("indicates mapping journal segments to memory, otherwise file system is used");
 
+        parser.addArgument("--group-commit")
+            .type(Boolean.class).setDefault(Boolean.FALSE)
+            .action(Arguments.storeConst()).setConst(Boolean.TRUE)
+            .dest(STORAGE_GROUP_COMMIT)
+            .help("indicates batching of journal writes until they are flushed");
+
+        parser.addArgument("--lz4-compression")
+            .type(Boolean.class).setDefault(Boolean.FALSE)
+            .action(Arguments.storeConst()).setConst(Boolean.TRUE)
+            .dest(STORAGE_USE_LZ4_COMPRESSION)
+            .help("indicates storing journal entries in compact format with LZ4-compressed payloads");
+
         parser.addArgument("-e", "--max-entry-size")
             .type(String.class).setDefault(formatBytes(STORAGE_MAX_ENTRY_SIZE_DEFAULT))
             .dest(STORAGE_MAX_ENTRY_SIZE)
@@ -128,6 +142,8 @@ final class BenchmarkUtils {
             bytes(finalConfig, STORAGE_MAX_SEGMENT_SIZE),
             finalConfig.hasPath(STORAGE_MAX_UNFLUSHED_BYTES)
                 ? bytes(finalConfig, STORAGE_MAX_UNFLUSHED_BYTES) : bytes(finalConfig, STORAGE_MAX_ENTRY_SIZE),
+            finalConfig.getBoolean(STORAGE_GROUP_COMMIT),
+            finalConfig.getBoolean(STORAGE_USE_LZ4_COMPRESSION),
             bytes(finalConfig, BENCHMARK_PAYLOAD_SIZE),
             finalConfig.getInt(BENCHMARK_NUMBER_OF_MESSAGES)
         );
@@ -74,7 +74,8 @@ public final class EntityRpcHandler extends AbstractBehavior<StateCheckerCommand
     private final Map<DOMEntity, Set<String>> currentCandidates = new HashMap<>();
     private final Map<DOMEntity, String> currentOwners = new HashMap<>();
     private final Map<String, DOMEntity> entityLookup = new HashMap<>();
-    private int toSync = -1;
+    private int candidatesToSync = 0;
+    private int toSync = 0;
 
     public EntityRpcHandler(final ActorContext<StateCheckerCommand> context,
                             final ActorRef<OwnerSupervisorCommand> ownerSupervisor,
@@ -175,14 +176,18 @@ public final class EntityRpcHandler extends AbstractBehavior<StateCheckerCommand
     }
 
     private void getCandidates(final ActorRef<GetEntitiesReply> replyTo) {
-        candidateReplicator.askGet(
-                askReplyTo -> new Replicator.Get<>(CandidateRegistry.KEY, Replicator.readLocal(), askReplyTo),
-                replicatorResponse -> new GetCandidates(replicatorResponse, replyTo));
+        candidatesToSync = CandidateRegistry.PARTITIONS;
+        for (var key : CandidateRegistry.KEYS) {
+            candidateReplicator.askGet(
+                    askReplyTo -> new Replicator.Get<>(key, Replicator.readLocal(), askReplyTo),
+                    replicatorResponse -> new GetCandidates(replicatorResponse, replyTo));
+        }
     }
 
     private void getCandidatesForEntity(final DOMEntity entity, final ActorRef<GetEntityReply> replyTo) {
+        final var key = CandidateRegistry.keyFor(entity);
         candidateReplicator.askGet(
-                askReplyTo -> new Replicator.Get<>(CandidateRegistry.KEY, Replicator.readLocal(), askReplyTo),
+                askReplyTo -> new Replicator.Get<>(key, Replicator.readLocal(), askReplyTo),
                 replicatorResponse -> new GetCandidatesForEntity(replicatorResponse, entity, replyTo));
     }
 
@@ -209,22 +214,22 @@ public final class EntityRpcHandler extends AbstractBehavior<StateCheckerCommand
     private Behavior<StateCheckerCommand> onCandidatesReceived(final GetCandidates message) {
         final Replicator.GetResponse<ORMap<DOMEntity, ORSet<String>>> response = message.getResponse();
         if (response instanceof Replicator.GetSuccess) {
-            return extractCandidates((Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>>) response,
-                    message.getReplyTo());
+            extractCandidates((Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>>) response, message.getReplyTo());
+        } else {
+            LOG.debug("Unable to retrieve candidates from distributed-data. Response: {}", response);
         }
 
-        LOG.debug("Unable to retrieve candidates from distributed-data. Response: {}", response);
-        message.getReplyTo().tell(new GetEntitiesReply(Collections.emptyMap(), Collections.emptyMap()));
-        return Behaviors.stopped();
+        // count the partitions, reply once all of them and their owners have been retrieved
+        candidatesToSync--;
+        return checkEntitiesDone(message.getReplyTo());
     }
 
-    private Behavior<StateCheckerCommand> extractCandidates(
-            final Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>> response,
+    private void extractCandidates(final Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>> response,
             final ActorRef<GetEntitiesReply> replyTo) {
-        final ORMap<DOMEntity, ORSet<String>> candidates = response.get(CandidateRegistry.KEY);
+        final ORMap<DOMEntity, ORSet<String>> candidates = response.get(response.key());
         candidates.getEntries().forEach((key, value) -> currentCandidates.put(key, new HashSet<>(value.getElements())));
 
-        toSync = candidates.keys().size();
+        toSync += candidates.keys().size();
         for (final DOMEntity entity : candidates.keys().getElements()) {
             entityLookup.put(entity.toString(), entity);
 
@@ -235,8 +240,6 @@ public final class EntityRpcHandler extends AbstractBehavior<StateCheckerCommand
                             askReplyTo),
                     replicatorResponse -> new OwnerDataResponse(replicatorResponse, replyTo));
         }
-
-        return this;
     }
 
     private Behavior<StateCheckerCommand> onOwnerDataReceived(final OwnerDataResponse message) {
@@ -251,12 +254,14 @@ public final class EntityRpcHandler extends AbstractBehavior<StateCheckerCommand
 
         // count the responses, on last respond to rpc and shutdown
         toSync--;
-        if (toSync == 0) {
-            final GetEntitiesReply getEntitiesReply = new GetEntitiesReply(currentCandidates, currentOwners);
-            message.getReplyTo().tell(getEntitiesReply);
+        return checkEntitiesDone(message.getReplyTo());
+    }
+
+    private Behavior<StateCheckerCommand> checkEntitiesDone(final ActorRef<GetEntitiesReply> replyTo) {
+        if (candidatesToSync == 0 && toSync == 0) {
+            replyTo.tell(new GetEntitiesReply(currentCandidates, currentOwners));
             return Behaviors.stopped();
         }
-
         return this;
     }
 
@@ -276,7 +281,7 @@ public final class EntityRpcHandler extends AbstractBehavior<StateCheckerCommand
     private Behavior<StateCheckerCommand> extractCandidatesForEntity(
             final Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>> response, final DOMEntity entity,
             final ActorRef<GetEntityReply> replyTo) {
-        final Map<DOMEntity, ORSet<String>> entries = response.get(CandidateRegistry.KEY).getEntries();
+        final Map<DOMEntity, ORSet<String>> entries = response.get(response.key()).getEntries();
         currentCandidates.put(entity, entries.get(entity).getElements());
 
         entityLookup.put(entity.toString(), entity);
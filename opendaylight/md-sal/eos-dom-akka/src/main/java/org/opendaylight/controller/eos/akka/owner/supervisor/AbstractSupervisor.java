@@ -18,11 +18,8 @@ import akka.cluster.ddata.typed.javadsl.Replicator;
 import akka.cluster.ddata.typed.javadsl.ReplicatorMessageAdapter;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.Duration;
-import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidates;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidatesForMember;
-import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidatesResponse;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.OwnerSupervisorCommand;
-import org.opendaylight.controller.eos.akka.registry.candidate.CandidateRegistry;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
 import org.slf4j.Logger;
 
@@ -42,26 +39,7 @@ abstract class AbstractSupervisor extends AbstractBehavior<OwnerSupervisorComman
     Behavior<OwnerSupervisorCommand> onClearCandidatesForMember(final ClearCandidatesForMember command) {
         getLogger().debug("Clearing candidates for member: {}", command.getCandidate());
 
-        candidateReplicator.askGet(
-                askReplyTo -> new Replicator.Get<>(CandidateRegistry.KEY,
-                        new Replicator.ReadMajority(Duration.ofSeconds(15)), askReplyTo),
-                response -> new ClearCandidates(response, command));
-
-        return this;
-    }
-
-    Behavior<OwnerSupervisorCommand> finishClearCandidates(final ClearCandidates command) {
-        if (command.getResponse() instanceof Replicator.GetSuccess) {
-            getLogger().debug("Retrieved candidate data, clearing candidates for {}",
-                    command.getOriginalMessage().getCandidate());
-
-            getContext().spawnAnonymous(CandidateCleaner.create()).tell(command);
-        } else {
-            getLogger().debug("Unable to retrieve candidate data for {}, no candidates present sending empty reply",
-                    command.getOriginalMessage().getCandidate());
-            command.getOriginalMessage().getReplyTo().tell(new ClearCandidatesResponse());
-        }
-
+        getContext().spawnAnonymous(CandidateCleaner.create()).tell(command);
         return this;
     }
 
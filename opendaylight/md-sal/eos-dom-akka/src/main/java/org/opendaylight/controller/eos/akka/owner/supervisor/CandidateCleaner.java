@@ -22,6 +22,7 @@ import akka.cluster.ddata.typed.javadsl.ReplicatorMessageAdapter;
 import java.time.Duration;
 import java.util.Map;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidates;
+import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidatesForMember;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidatesResponse;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidatesUpdateResponse;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.OwnerSupervisorCommand;
@@ -31,9 +32,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Actor that can be spawned by all the supervisor implementations that executes clearing of candidates once
- * candidate retrieval succeeds. Once candidates for the member are cleared(or immediately if none need to be cleared),
- * the actor stops itself.
+ * Actor that can be spawned by all the supervisor implementations that executes clearing of candidates. It retrieves
+ * all candidate registry partitions and clears the member from every entity it is a candidate for. Once candidates for
+ * the member are cleared(or immediately if none need to be cleared), the actor stops itself.
  */
 public final class CandidateCleaner extends AbstractBehavior<OwnerSupervisorCommand> {
     private static final Logger LOG = LoggerFactory.getLogger(CandidateCleaner.class);
@@ -41,6 +42,7 @@ public final class CandidateCleaner extends AbstractBehavior<OwnerSupervisorComm
     private final ReplicatorMessageAdapter<OwnerSupervisorCommand, ORMap<DOMEntity, ORSet<String>>> candidateReplicator;
     private final SelfUniqueAddress node;
 
+    private int remainingGets = CandidateRegistry.PARTITIONS;
     private int remaining = 0;
 
     private CandidateCleaner(final ActorContext<OwnerSupervisorCommand> context) {
@@ -59,17 +61,39 @@ public final class CandidateCleaner extends AbstractBehavior<OwnerSupervisorComm
     @Override
     public Receive<OwnerSupervisorCommand> createReceive() {
         return newReceiveBuilder()
+                .onMessage(ClearCandidatesForMember.class, this::onClearCandidatesForMember)
                 .onMessage(ClearCandidates.class, this::onClearCandidates)
                 .onMessage(ClearCandidatesUpdateResponse.class, this::onClearCandidatesUpdateResponse)
                 .build();
     }
 
+    private Behavior<OwnerSupervisorCommand> onClearCandidatesForMember(final ClearCandidatesForMember command) {
+        LOG.debug("Retrieving candidate data for member: {}", command.getCandidate());
+
+        for (var key : CandidateRegistry.KEYS) {
+            candidateReplicator.askGet(
+                    askReplyTo -> new Replicator.Get<>(key, new Replicator.ReadMajority(Duration.ofSeconds(15)),
+                            askReplyTo),
+                    response -> new ClearCandidates(response, command));
+        }
+        return this;
+    }
+
     private Behavior<OwnerSupervisorCommand> onClearCandidates(final ClearCandidates command) {
+        remainingGets--;
+
+        final var response = command.getResponse();
+        if (!(response instanceof Replicator.GetSuccess)) {
+            LOG.debug("Unable to retrieve candidate data for {}, no candidates present in partition: {}",
+                    command.getOriginalMessage().getCandidate(), response);
+            return checkDone(command.getOriginalMessage().getReplyTo());
+        }
+
         LOG.debug("Clearing candidates for member: {}", command.getOriginalMessage().getCandidate());
 
+        final var key = response.key();
         final ORMap<DOMEntity, ORSet<String>> candidates =
-                ((Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>>) command.getResponse())
-                        .get(CandidateRegistry.KEY);
+                ((Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>>) response).get(key);
 
         for (final Map.Entry<DOMEntity, ORSet<String>> entry : candidates.getEntries().entrySet()) {
             if (entry.getValue().contains(command.getOriginalMessage().getCandidate())) {
@@ -78,7 +102,7 @@ public final class CandidateCleaner extends AbstractBehavior<OwnerSupervisorComm
                 remaining++;
                 candidateReplicator.askUpdate(
                         askReplyTo -> new Replicator.Update<>(
-                                CandidateRegistry.KEY,
+                                key,
                                 ORMap.empty(),
                                 new Replicator.WriteMajority(Duration.ofSeconds(10)),
                                 askReplyTo,
@@ -89,23 +113,21 @@ public final class CandidateCleaner extends AbstractBehavior<OwnerSupervisorComm
             }
         }
 
-        if (remaining == 0) {
-            LOG.debug("Did not clear any candidates for {}", command.getOriginalMessage().getCandidate());
-            command.getOriginalMessage().getReplyTo().tell(new ClearCandidatesResponse());
-            return Behaviors.stopped();
-        }
-        return this;
+        return checkDone(command.getOriginalMessage().getReplyTo());
     }
 
     private Behavior<OwnerSupervisorCommand> onClearCandidatesUpdateResponse(
             final ClearCandidatesUpdateResponse command) {
         remaining--;
-        if (remaining == 0) {
-            LOG.debug("Last update response for candidate removal received, replying to: {}", command.getReplyTo());
-            command.getReplyTo().tell(new ClearCandidatesResponse());
+        LOG.debug("Have still {} outstanding requests after {}", remaining, command.getResponse());
+        return checkDone(command.getReplyTo());
+    }
+
+    private Behavior<OwnerSupervisorCommand> checkDone(final ActorRef<ClearCandidatesResponse> replyTo) {
+        if (remainingGets == 0 && remaining == 0) {
+            LOG.debug("All candidate partitions processed, replying to: {}", replyTo);
+            replyTo.tell(new ClearCandidatesResponse());
             return Behaviors.stopped();
-        } else {
-            LOG.debug("Have still {} outstanding requests after {}", remaining, command.getResponse());
         }
         return this;
     }
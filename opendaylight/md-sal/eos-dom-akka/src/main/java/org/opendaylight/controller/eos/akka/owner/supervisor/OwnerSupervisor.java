@@ -29,6 +29,7 @@ import akka.cluster.ddata.typed.javadsl.ReplicatorMessageAdapter;
 import akka.cluster.typed.Cluster;
 import akka.cluster.typed.Subscribe;
 import akka.pattern.StatusReply;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -46,7 +47,6 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.AbstractEntityRequest;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.CandidatesChanged;
-import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidates;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidatesForMember;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.DataCenterDeactivated;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.DeactivateDataCenter;
@@ -78,6 +78,9 @@ public final class OwnerSupervisor extends AbstractSupervisor {
 
     private static final Logger LOG = LoggerFactory.getLogger(OwnerSupervisor.class);
     private static final String DATACENTER_PREFIX = "dc-";
+    // Maximum number of owner updates outstanding in the replicator at any given time
+    @VisibleForTesting
+    static final int MAX_INFLIGHT_OWNER_WRITES = 128;
 
     private final ReplicatorMessageAdapter<OwnerSupervisorCommand, LWWRegister<String>> ownerReplicator;
 
@@ -98,6 +101,8 @@ public final class OwnerSupervisor extends AbstractSupervisor {
     private final Map<DOMEntity, String> currentOwners;
     // reverse lookup of owner to entity
     private final Multimap<String, DOMEntity> ownerToEntity = HashMultimap.create();
+    // owner writes which have not been issued yet, superseded writes to the same entity are coalesced
+    private final OwnerWriteQueue ownerWrites = new OwnerWriteQueue(MAX_INFLIGHT_OWNER_WRITES, this::issueOwnerWrite);
 
     // only reassign owner for those entities that lost this candidate or is not reachable
     private final BiPredicate<DOMEntity, String> reassignPredicate = (entity, candidate) ->
@@ -153,7 +158,9 @@ public final class OwnerSupervisor extends AbstractSupervisor {
                 });
         cluster.subscriptions().tell(Subscribe.create(reachabilityEventAdapter, ClusterEvent.ReachabilityEvent.class));
 
-        candidateReplicator.subscribe(CandidateRegistry.KEY, CandidatesChanged::new);
+        for (var key : CandidateRegistry.KEYS) {
+            candidateReplicator.subscribe(key, CandidatesChanged::new);
+        }
 
         LOG.debug("Owner Supervisor started");
     }
@@ -177,18 +184,20 @@ public final class OwnerSupervisor extends AbstractSupervisor {
                 .onMessage(GetEntityBackendRequest.class, this::onGetEntity)
                 .onMessage(GetEntityOwnerBackendRequest.class, this::onGetEntityOwner)
                 .onMessage(ClearCandidatesForMember.class, this::onClearCandidatesForMember)
-                .onMessage(ClearCandidates.class, this::finishClearCandidates)
                 .build();
     }
 
     private Behavior<OwnerSupervisorCommand> onDeactivateDatacenter(final DeactivateDataCenter command) {
         LOG.debug("Deactivating Owner Supervisor on {}", cluster.selfMember());
+        // make sure the last known assignments are not lost
+        ownerWrites.flushAll();
         command.getReplyTo().tell(DataCenterDeactivated.INSTANCE);
         return IdleSupervisor.create(iidCodec);
     }
 
     private Behavior<OwnerSupervisorCommand> onOwnerChanged(final OwnerChanged command) {
         LOG.debug("Owner has changed for {}", command.getResponse().key());
+        ownerWrites.completed();
         return this;
     }
 
@@ -218,7 +227,8 @@ public final class OwnerSupervisor extends AbstractSupervisor {
         if (message.getResponse() instanceof Replicator.Changed) {
             final Replicator.Changed<ORMap<DOMEntity, ORSet<String>>> changed =
                     (Replicator.Changed<ORMap<DOMEntity, ORSet<String>>>) message.getResponse();
-            processCandidateChanges(changed.get(CandidateRegistry.KEY));
+            // notifications are per-partition, hence we only process entities which may have changed
+            processCandidateChanges(changed.get(changed.key()));
         }
         return this;
     }
@@ -365,6 +375,10 @@ public final class OwnerSupervisor extends AbstractSupervisor {
     }
 
     private void writeNewOwner(final DOMEntity entity, final String candidate) {
+        ownerWrites.enqueue(entity, candidate);
+    }
+
+    private void issueOwnerWrite(final DOMEntity entity, final String candidate) {
         ownerReplicator.askUpdate(
                 askReplyTo -> new Replicator.Update<>(
                         new LWWRegisterKey<>(entity.toString()),
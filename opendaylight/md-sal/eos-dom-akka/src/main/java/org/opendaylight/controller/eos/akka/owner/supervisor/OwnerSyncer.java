@@ -28,7 +28,6 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.eclipse.jdt.annotation.Nullable;
-import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidates;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.ClearCandidatesForMember;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.DataCenterActivated;
 import org.opendaylight.controller.eos.akka.owner.supervisor.command.GetEntitiesBackendRequest;
@@ -60,7 +59,10 @@ public final class OwnerSyncer extends AbstractSupervisor {
     private final Map<String, DOMEntity> entityLookup = new HashMap<>();
     private final BindingInstanceIdentifierCodec iidCodec;
 
-    private int toSync = -1;
+    // candidate registry partitions we are waiting for
+    private int candidatesToSync = CandidateRegistry.PARTITIONS;
+    // owners we are waiting for
+    private int toSync = 0;
 
     private OwnerSyncer(final ActorContext<OwnerSupervisorCommand> context,
                         final @Nullable ActorRef<OwnerSupervisorReply> notifyDatacenterStarted,
@@ -73,9 +75,11 @@ public final class OwnerSyncer extends AbstractSupervisor {
 
         ownerReplicator = new ReplicatorMessageAdapter<>(context, replicator, Duration.ofSeconds(5));
 
-        candidateReplicator.askGet(
-                askReplyTo -> new Replicator.Get<>(CandidateRegistry.KEY, Replicator.readLocal(), askReplyTo),
-                InitialCandidateSync::new);
+        for (var key : CandidateRegistry.KEYS) {
+            candidateReplicator.askGet(
+                    askReplyTo -> new Replicator.Get<>(key, Replicator.readLocal(), askReplyTo),
+                    InitialCandidateSync::new);
+        }
 
         if (notifyDatacenterStarted != null) {
             notifyDatacenterStarted.tell(DataCenterActivated.INSTANCE);
@@ -96,7 +100,6 @@ public final class OwnerSyncer extends AbstractSupervisor {
                 .onMessage(GetEntityBackendRequest.class, this::onFailEntityRpc)
                 .onMessage(GetEntityOwnerBackendRequest.class, this::onFailEntityRpc)
                 .onMessage(ClearCandidatesForMember.class, this::onClearCandidatesForMember)
-                .onMessage(ClearCandidates.class, this::finishClearCandidates)
                 .build();
     }
 
@@ -110,25 +113,25 @@ public final class OwnerSyncer extends AbstractSupervisor {
     private Behavior<OwnerSupervisorCommand> onInitialCandidateSync(final InitialCandidateSync rsp) {
         final Replicator.GetResponse<ORMap<DOMEntity, ORSet<String>>> response = rsp.getResponse();
         if (response instanceof Replicator.GetSuccess) {
-            return doInitialSync((Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>>) response);
+            doInitialSync((Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>>) response);
         } else if (response instanceof Replicator.NotFound) {
-            LOG.debug("No candidates found switching to supervisor");
-            return switchToSupervisor();
+            LOG.debug("No candidates found in {}", response.key().id());
         } else {
-            LOG.debug("Initial candidate sync failed, switching to supervisor. Sync reply: {}", response);
-            return switchToSupervisor();
+            // OwnerSupervisor will pick up this partition once it subscribes to it
+            LOG.debug("Initial candidate sync failed. Sync reply: {}", response);
         }
-    }
 
-    private Behavior<OwnerSupervisorCommand> doInitialSync(
-            final Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>> response) {
+        candidatesToSync--;
+        return checkSyncDone();
+    }
 
-        final ORMap<DOMEntity, ORSet<String>> candidates = response.get(CandidateRegistry.KEY);
+    private void doInitialSync(final Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>> response) {
+        final ORMap<DOMEntity, ORSet<String>> candidates = response.get(response.key());
         candidates.getEntries().entrySet().forEach(entry -> {
             currentCandidates.put(entry.getKey(), new HashSet<>(entry.getValue().getElements()));
         });
 
-        toSync = candidates.keys().size();
+        toSync += candidates.keys().size();
         for (final DOMEntity entity : candidates.keys().getElements()) {
             entityLookup.put(entity.toString(), entity);
 
@@ -139,8 +142,6 @@ public final class OwnerSyncer extends AbstractSupervisor {
                             askReplyTo),
                     InitialOwnerSync::new);
         }
-
-        return this;
     }
 
     private Behavior<OwnerSupervisorCommand> onInitialOwnerSync(final InitialOwnerSync rsp) {
@@ -155,11 +156,11 @@ public final class OwnerSyncer extends AbstractSupervisor {
 
         // count the responses, on last switch behaviors
         toSync--;
-        if (toSync == 0) {
-            return switchToSupervisor();
-        }
+        return checkSyncDone();
+    }
 
-        return this;
+    private Behavior<OwnerSupervisorCommand> checkSyncDone() {
+        return candidatesToSync == 0 && toSync == 0 ? switchToSupervisor() : this;
     }
 
     private Behavior<OwnerSupervisorCommand> switchToSupervisor() {
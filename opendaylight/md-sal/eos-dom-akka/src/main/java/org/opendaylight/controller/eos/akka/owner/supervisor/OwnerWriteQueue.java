@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.eos.akka.owner.supervisor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
+
+/**
+ * Owner writes issued by {@link OwnerSupervisor}. A burst of reassignments, for example on member loss, is queued here
+ * and written with a bounded number of outstanding updates, so that it does not flood the replicator. Repeated
+ * assignments to an entity while its write is queued replace each other.
+ */
+final class OwnerWriteQueue {
+    // owner writes which have not been issued yet, in the order they were first requested
+    private final Map<DOMEntity, String> pending = new LinkedHashMap<>();
+    private final BiConsumer<DOMEntity, String> writer;
+    private final int maxInflight;
+
+    private int inflight;
+
+    OwnerWriteQueue(final int maxInflight, final BiConsumer<DOMEntity, String> writer) {
+        checkArgument(maxInflight > 0, "Invalid maximum in-flight writes %s", maxInflight);
+        this.maxInflight = maxInflight;
+        this.writer = requireNonNull(writer);
+    }
+
+    /**
+     * Request a new owner to be written for an entity.
+     *
+     * @param entity entity
+     * @param owner new owner, empty if the entity has no owner
+     */
+    void enqueue(final DOMEntity entity, final String owner) {
+        pending.put(entity, owner);
+        flush(maxInflight);
+    }
+
+    /**
+     * Record the completion of a previously-issued write, successful or not, issuing queued writes if possible.
+     */
+    void completed() {
+        if (inflight > 0) {
+            inflight--;
+        }
+        flush(maxInflight);
+    }
+
+    /**
+     * Issue all queued writes, regardless of how many are in flight.
+     */
+    void flushAll() {
+        flush(Integer.MAX_VALUE);
+    }
+
+    int inflight() {
+        return inflight;
+    }
+
+    int pending() {
+        return pending.size();
+    }
+
+    private void flush(final int limit) {
+        final var it = pending.entrySet().iterator();
+        while (inflight < limit && it.hasNext()) {
+            final var entry = it.next();
+            it.remove();
+            inflight++;
+            writer.accept(entry.getKey(), entry.getValue());
+        }
+    }
+}
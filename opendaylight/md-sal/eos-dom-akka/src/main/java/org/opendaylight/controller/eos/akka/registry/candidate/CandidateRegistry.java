@@ -21,7 +21,11 @@ import akka.cluster.ddata.SelfUniqueAddress;
 import akka.cluster.ddata.typed.javadsl.DistributedData;
 import akka.cluster.ddata.typed.javadsl.Replicator;
 import akka.cluster.ddata.typed.javadsl.ReplicatorMessageAdapter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.opendaylight.controller.eos.akka.registry.candidate.command.CandidateRegistryCommand;
 import org.opendaylight.controller.eos.akka.registry.candidate.command.InternalUpdateResponse;
 import org.opendaylight.controller.eos.akka.registry.candidate.command.RegisterCandidate;
@@ -39,7 +43,25 @@ public final class CandidateRegistry extends AbstractBehavior<CandidateRegistryC
 
     private static final String DATACENTER_PREFIX = "dc-";
 
-    public static final Key<ORMap<DOMEntity, ORSet<String>>> KEY = new ORMapKey<>("candidateRegistry");
+    /**
+     * Number of partitions of the candidate registry. Each partition is a separate distributed-data key, so that a
+     * candidate change results in gossip and change notifications covering only the entities within its partition
+     * rather than all registered entities.
+     *
+     * <p>
+     * The number of partitions, the key names and the assignment of entities to partitions must be the same on all
+     * members of the cluster. Members which use a different layout, including those which predate partitioning and use
+     * a single {@code candidateRegistry} key, do not see each other's candidates. Changing any of these therefore
+     * requires a full cluster restart.
+     */
+    public static final int PARTITIONS = 16;
+
+    /**
+     * Distributed-data keys of all candidate registry partitions.
+     */
+    public static final List<Key<ORMap<DOMEntity, ORSet<String>>>> KEYS = IntStream.range(0, PARTITIONS)
+        .<Key<ORMap<DOMEntity, ORSet<String>>>>mapToObj(i -> new ORMapKey<>("candidateRegistry-" + i))
+        .collect(ImmutableList.toImmutableList());
 
     private final ReplicatorMessageAdapter<CandidateRegistryCommand, ORMap<DOMEntity, ORSet<String>>> replicatorAdapter;
     private final SelfUniqueAddress node;
@@ -57,6 +79,22 @@ public final class CandidateRegistry extends AbstractBehavior<CandidateRegistryC
         LOG.debug("{} : Candidate registry started", selfRole);
     }
 
+    /**
+     * Return the key of the partition holding candidates for specified entity. The partition is derived from the
+     * entity's string representation, which is also used to key entity owners, hence it is the same on all members.
+     *
+     * @param entity the entity
+     * @return partition key
+     */
+    public static Key<ORMap<DOMEntity, ORSet<String>>> keyFor(final DOMEntity entity) {
+        return KEYS.get(partitionOf(entity.toString()));
+    }
+
+    @VisibleForTesting
+    static int partitionOf(final String entityName) {
+        return Math.floorMod(entityName.hashCode(), PARTITIONS);
+    }
+
     public static Behavior<CandidateRegistryCommand> create() {
         return Behaviors.setup(ctx ->
                 DistributedData.withReplicatorMessageAdapter(
@@ -79,7 +117,7 @@ public final class CandidateRegistry extends AbstractBehavior<CandidateRegistryC
                 registerCandidate.getCandidate(), registerCandidate.getEntity());
         replicatorAdapter.askUpdate(
                 askReplyTo -> new Replicator.Update<>(
-                        KEY,
+                        keyFor(registerCandidate.getEntity()),
                         ORMap.empty(),
                         Replicator.writeLocal(),
                         askReplyTo,
@@ -94,7 +132,7 @@ public final class CandidateRegistry extends AbstractBehavior<CandidateRegistryC
                 unregisterCandidate.getCandidate(), unregisterCandidate.getEntity());
         replicatorAdapter.askUpdate(
                 askReplyTo -> new Replicator.Update<>(
-                        KEY,
+                        keyFor(unregisterCandidate.getEntity()),
                         ORMap.empty(),
                         Replicator.writeLocal(),
                         askReplyTo,
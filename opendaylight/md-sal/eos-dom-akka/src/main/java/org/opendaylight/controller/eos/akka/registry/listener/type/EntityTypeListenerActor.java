@@ -13,6 +13,7 @@ import akka.actor.typed.javadsl.AbstractBehavior;
 import akka.actor.typed.javadsl.ActorContext;
 import akka.actor.typed.javadsl.Behaviors;
 import akka.actor.typed.javadsl.Receive;
+import akka.cluster.ddata.Key;
 import akka.cluster.ddata.ORMap;
 import akka.cluster.ddata.ORSet;
 import akka.cluster.ddata.typed.javadsl.DistributedData;
@@ -20,7 +21,6 @@ import akka.cluster.ddata.typed.javadsl.Replicator.Changed;
 import akka.cluster.ddata.typed.javadsl.Replicator.SubscribeResponse;
 import akka.cluster.ddata.typed.javadsl.ReplicatorMessageAdapter;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -55,9 +55,12 @@ public class EntityTypeListenerActor extends AbstractBehavior<TypeListenerComman
         this.entityType = entityType;
         this.listener = listener;
 
-        new ReplicatorMessageAdapter<TypeListenerCommand, ORMap<DOMEntity, ORSet<String>>>(context,
-            DistributedData.get(context.getSystem()).replicator(), Duration.ofSeconds(5))
-                .subscribe(CandidateRegistry.KEY, CandidatesChanged::new);
+        final var candidateReplicator = new ReplicatorMessageAdapter<TypeListenerCommand,
+            ORMap<DOMEntity, ORSet<String>>>(context, DistributedData.get(context.getSystem()).replicator(),
+                Duration.ofSeconds(5));
+        for (var key : CandidateRegistry.KEYS) {
+            candidateReplicator.subscribe(key, CandidatesChanged::new);
+        }
     }
 
     public static Behavior<TypeListenerCommand> create(final String localMember, final String entityType,
@@ -77,21 +80,27 @@ public class EntityTypeListenerActor extends AbstractBehavior<TypeListenerComman
     private Behavior<TypeListenerCommand> onCandidatesChanged(final CandidatesChanged notification) {
         final SubscribeResponse<ORMap<DOMEntity, ORSet<String>>> response = notification.getResponse();
         if (response instanceof Changed) {
-            processCandidates(((Changed<ORMap<DOMEntity, ORSet<String>>>) response).get(response.key()).getEntries());
+            processCandidates(response.key(),
+                ((Changed<ORMap<DOMEntity, ORSet<String>>>) response).get(response.key()).getEntries());
         } else {
             LOG.warn("Unexpected notification from replicator: {}", response);
         }
         return this;
     }
 
-    private void processCandidates(final Map<DOMEntity, ORSet<String>> entries) {
+    private void processCandidates(final Key<ORMap<DOMEntity, ORSet<String>>> partition,
+            final Map<DOMEntity, ORSet<String>> entries) {
         final Map<DOMEntity, ORSet<String>> filteredCandidates = entries.entrySet().stream()
             .filter(entry -> entry.getKey().getType().equals(entityType))
             .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
-        LOG.debug("Entity-type: {} current candidates: {}", entityType, filteredCandidates);
+        LOG.debug("Entity-type: {} partition: {} current candidates: {}", entityType, partition.id(),
+            filteredCandidates);
 
-        final Set<DOMEntity> removed =
-                ImmutableSet.copyOf(Sets.difference(activeListeners.keySet(), filteredCandidates.keySet()));
+        // only entities in the changed partition are covered by this notification
+        final Set<DOMEntity> removed = activeListeners.keySet().stream()
+            .filter(entity -> partition.equals(CandidateRegistry.keyFor(entity))
+                && !filteredCandidates.containsKey(entity))
+            .collect(ImmutableSet.toImmutableSet());
         if (!removed.isEmpty()) {
             LOG.debug("Stopping listeners for {}", removed);
             // kill actors for the removed
@@ -293,7 +293,7 @@ public abstract class AbstractNativeEosTest {
             final CompletionStage<Replicator.GetResponse<ORMap<DOMEntity, ORSet<String>>>> ask =
                     AskPattern.ask(distributedData.replicator(),
                             replyTo -> new Replicator.Get<>(
-                                    CandidateRegistry.KEY, Replicator.readLocal(), replyTo),
+                                    CandidateRegistry.keyFor(entity), Replicator.readLocal(), replyTo),
                             Duration.ofSeconds(5),
                             clusterNode.getActorSystem().scheduler());
 
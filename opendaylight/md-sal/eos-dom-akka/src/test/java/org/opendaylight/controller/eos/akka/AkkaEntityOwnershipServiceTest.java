@@ -261,8 +261,8 @@ public class AkkaEntityOwnershipServiceTest extends AbstractNativeEosTest {
                                                    final YangInstanceIdentifier entityId,
                                                    final String candidateName)
             throws ExecutionException, InterruptedException {
-        final Map<DOMEntity, ORSet<String>> entries = getCandidateData();
         final DOMEntity entity = new DOMEntity(entityType, entityId);
+        final Map<DOMEntity, ORSet<String>> entries = getCandidateData(entity);
         assertTrue(entries.containsKey(entity));
         assertTrue(entries.get(entity).getElements().contains(candidateName));
     }
@@ -278,17 +278,19 @@ public class AkkaEntityOwnershipServiceTest extends AbstractNativeEosTest {
                                                 final YangInstanceIdentifier entityId,
                                                 final String candidateName)
             throws ExecutionException, InterruptedException {
-        final Map<DOMEntity, ORSet<String>> entries = getCandidateData();
         final DOMEntity entity = new DOMEntity(entityType, entityId);
+        final Map<DOMEntity, ORSet<String>> entries = getCandidateData(entity);
         assertTrue(entries.containsKey(entity));
         assertFalse(entries.get(entity).getElements().contains(candidateName));
     }
 
-    private Map<DOMEntity, ORSet<String>> getCandidateData() throws ExecutionException, InterruptedException {
+    private Map<DOMEntity, ORSet<String>> getCandidateData(final DOMEntity entity)
+            throws ExecutionException, InterruptedException {
+        final var key = CandidateRegistry.keyFor(entity);
         final CompletionStage<Replicator.GetResponse<ORMap<DOMEntity, ORSet<String>>>> ask =
                 AskPattern.ask(replicator, replyTo ->
                                 new Replicator.Get<>(
-                                        CandidateRegistry.KEY,
+                                        key,
                                         Replicator.readLocal(),
                                         replyTo),
                         Duration.ofSeconds(5),
@@ -300,6 +302,6 @@ public class AkkaEntityOwnershipServiceTest extends AbstractNativeEosTest {
         final Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>> success =
                 (Replicator.GetSuccess<ORMap<DOMEntity, ORSet<String>>>) response;
 
-        return success.get(CandidateRegistry.KEY).getEntries();
+        return success.get(key).getEntries();
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.eos.akka.owner.supervisor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
+
+public class OwnerWriteQueueTest {
+    private static final int MAX_INFLIGHT = OwnerSupervisor.MAX_INFLIGHT_OWNER_WRITES;
+
+    private final List<Map.Entry<DOMEntity, String>> writes = new ArrayList<>();
+
+    private OwnerWriteQueue queue;
+
+    @Before
+    public void before() {
+        queue = new OwnerWriteQueue(MAX_INFLIGHT, (entity, owner) -> writes.add(Map.entry(entity, owner)));
+    }
+
+    @Test
+    public void testQueuedChangesAreCoalesced() {
+        fillInflight();
+
+        final var entity = entity(MAX_INFLIGHT);
+        queue.enqueue(entity, "member-1");
+        queue.enqueue(entity, "member-2");
+        queue.enqueue(entity, "");
+        assertEquals(1, queue.pending());
+
+        queue.completed();
+        assertEquals(MAX_INFLIGHT + 1, writes.size());
+        // Only the last assignment is written
+        assertEquals(Map.entry(entity, ""), writes.get(MAX_INFLIGHT));
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    public void testWritesAboveLimitStayQueued() {
+        fillInflight();
+        queue.enqueue(entity(MAX_INFLIGHT), "member-1");
+        queue.enqueue(entity(MAX_INFLIGHT + 1), "member-1");
+
+        assertEquals(MAX_INFLIGHT, writes.size());
+        assertEquals(MAX_INFLIGHT, queue.inflight());
+        assertEquals(2, queue.pending());
+
+        // Each reply releases exactly one queued write, in the order they were requested
+        queue.completed();
+        assertEquals(MAX_INFLIGHT + 1, writes.size());
+        assertEquals(entity(MAX_INFLIGHT), writes.get(MAX_INFLIGHT).getKey());
+        assertEquals(MAX_INFLIGHT, queue.inflight());
+
+        queue.completed();
+        assertEquals(MAX_INFLIGHT + 2, writes.size());
+        assertEquals(entity(MAX_INFLIGHT + 1), writes.get(MAX_INFLIGHT + 1).getKey());
+        assertEquals(0, queue.pending());
+
+        queue.completed();
+        assertEquals(MAX_INFLIGHT - 1, queue.inflight());
+    }
+
+    @Test
+    public void testFlushAllIgnoresLimit() {
+        fillInflight();
+        queue.enqueue(entity(MAX_INFLIGHT), "member-1");
+        queue.enqueue(entity(MAX_INFLIGHT + 1), "member-2");
+
+        // This is what happens on data center deactivation
+        queue.flushAll();
+        assertEquals(MAX_INFLIGHT + 2, writes.size());
+        assertEquals(MAX_INFLIGHT + 2, queue.inflight());
+        assertEquals(0, queue.pending());
+    }
+
+    private void fillInflight() {
+        for (int i = 0; i < MAX_INFLIGHT; ++i) {
+            queue.enqueue(entity(i), "member-1");
+        }
+        assertEquals(MAX_INFLIGHT, writes.size());
+        assertEquals(0, queue.pending());
+    }
+
+    private static DOMEntity entity(final int index) {
+        return new DOMEntity("test-type", "entity-" + index);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.eos.akka.registry.candidate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opendaylight.mdsal.eos.dom.api.DOMEntity;
+
+/**
+ * Pins the layout of candidate registry partitions. It must not change between releases, as members using a different
+ * layout do not see each other's candidates.
+ */
+public class CandidateRegistryTest {
+    @Test
+    public void testKeyNames() {
+        assertEquals(16, CandidateRegistry.PARTITIONS);
+        assertEquals(CandidateRegistry.PARTITIONS, CandidateRegistry.KEYS.size());
+        for (int i = 0; i < CandidateRegistry.PARTITIONS; ++i) {
+            assertEquals("candidateRegistry-" + i, CandidateRegistry.KEYS.get(i).id());
+        }
+    }
+
+    @Test
+    public void testPartitionOf() {
+        assertEquals(0, CandidateRegistry.partitionOf(""));
+        // negative String.hashCode()
+        assertEquals(3, CandidateRegistry.partitionOf("entity"));
+        assertEquals(15, CandidateRegistry.partitionOf("openflow:1"));
+        assertEquals(0, CandidateRegistry.partitionOf("openflow:2"));
+    }
+
+    @Test
+    public void testKeyForUsesEntityString() {
+        final var entity = new DOMEntity("test-type", "entity-1");
+        assertSame(CandidateRegistry.KEYS.get(CandidateRegistry.partitionOf(entity.toString())),
+            CandidateRegistry.keyFor(entity));
+    }
+}
@@ -25,14 +25,14 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
 
     private final String logContext;
 
-    // We define this as ArrayList so we can use ensureCapacity.
-    private ArrayList<ReplicatedLogEntry> journal;
+    // A circular array, so that trimming entries after a snapshot does not need to shift the remaining entries
+    private final ReplicatedLogEntries journal;
 
     private long snapshotIndex = -1;
     private long snapshotTerm = -1;
 
     // to be used for rollback during save snapshot failure
-    private ArrayList<ReplicatedLogEntry> snapshottedJournal;
+    private List<ReplicatedLogEntry> snapshottedJournal;
     private long previousSnapshotIndex = -1;
     private long previousSnapshotTerm = -1;
     private int dataSize = 0;
@@ -43,7 +43,7 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
         this.snapshotTerm = snapshotTerm;
         this.logContext = logContext;
 
-        journal = new ArrayList<>(unAppliedEntries.size());
+        journal = new ReplicatedLogEntries(unAppliedEntries.size());
         for (ReplicatedLogEntry entry: unAppliedEntries) {
             append(entry);
         }
@@ -74,11 +74,7 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
 
     @Override
     public ReplicatedLogEntry last() {
-        if (journal.isEmpty()) {
-            return null;
-        }
-        // get the last entry directly from the physical index
-        return journal.get(journal.size() - 1);
+        return journal.last();
     }
 
     @Override
@@ -110,11 +106,9 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
             return -1;
         }
 
-        for (int i = adjustedIndex; i < journal.size(); i++) {
-            dataSize -= journal.get(i).size();
-        }
-
-        journal.subList(adjustedIndex , journal.size()).clear();
+        final int prevJournalDataSize = journal.dataSize();
+        journal.removeFrom(adjustedIndex);
+        dataSize -= prevJournalDataSize - journal.dataSize();
 
         return adjustedIndex;
     }
@@ -156,7 +150,7 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
             }
 
             if (maxDataSize == NO_MAX_SIZE) {
-                return new ArrayList<>(journal.subList(adjustedIndex, maxIndex));
+                return journal.copyOf(adjustedIndex, maxIndex);
             } else {
                 return copyJournalEntries(adjustedIndex, maxIndex, maxDataSize);
             }
@@ -235,7 +229,7 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
 
     @Override
     public void clear(final int startIndex, final int endIndex) {
-        journal.subList(startIndex, endIndex).clear();
+        journal.removeRange(startIndex, endIndex);
     }
 
     @Override
@@ -243,12 +237,8 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
         Preconditions.checkArgument(snapshotCapturedIndex >= snapshotIndex,
                 "snapshotCapturedIndex must be greater than or equal to snapshotIndex");
 
-        snapshottedJournal = new ArrayList<>(journal.size());
-
-        final var snapshotJournalEntries = journal.subList(0, (int) (snapshotCapturedIndex - snapshotIndex));
-
-        snapshottedJournal.addAll(snapshotJournalEntries);
-        snapshotJournalEntries.clear();
+        // This does not shift the remaining entries
+        snapshottedJournal = journal.removeFirst((int) (snapshotCapturedIndex - snapshotIndex));
 
         previousSnapshotIndex = snapshotIndex;
         setSnapshotIndex(snapshotCapturedIndex);
@@ -264,11 +254,8 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
         previousSnapshotTerm = -1;
 
         if (updateDataSize) {
-            // need to recalc the datasize based on the entries left after precommit.
-            int newDataSize = 0;
-            for (ReplicatedLogEntry logEntry : journal) {
-                newDataSize += logEntry.size();
-            }
+            // need to recalc the datasize based on the entries left after precommit, which is tracked by the journal
+            final int newDataSize = journal.dataSize();
             LOG.trace("{}: Updated dataSize from {} to {}", logContext, dataSize, newDataSize);
             dataSize = newDataSize;
         }
@@ -276,8 +263,7 @@ public abstract class AbstractReplicatedLogImpl implements ReplicatedLog {
 
     @Override
     public void snapshotRollback() {
-        snapshottedJournal.addAll(journal);
-        journal = snapshottedJournal;
+        journal.prependAll(snapshottedJournal);
         snapshottedJournal = null;
 
         snapshotIndex = previousSnapshotIndex;
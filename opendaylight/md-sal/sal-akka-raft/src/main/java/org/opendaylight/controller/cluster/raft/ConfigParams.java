@@ -89,6 +89,14 @@ public interface ConfigParams {
      */
     int getMaximumMessageSliceSize();
 
+    /**
+     * Returns the maximum number of snapshot chunks a Leader sends to a Follower without having received an
+     * acknowledgement.
+     *
+     * @return the maximum number of unacknowledged snapshot chunks
+     */
+    int getInstallSnapshotWindowSize();
+
     /**
      * Returns the maximum number of journal log entries to batch on recovery before applying.
      *
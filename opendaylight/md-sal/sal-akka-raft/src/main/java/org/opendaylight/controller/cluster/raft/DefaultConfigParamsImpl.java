@@ -43,6 +43,8 @@ public class DefaultConfigParamsImpl implements ConfigParams {
 
     private static final int MAXIMUM_MESSAGE_SLICE_SIZE = 480 * 1024; // 480KiB
 
+    private static final int INSTALL_SNAPSHOT_WINDOW_SIZE = 1;
+
 
     /**
      * The interval at which a heart beat message will be sent to the remote
@@ -74,6 +76,8 @@ public class DefaultConfigParamsImpl implements ConfigParams {
 
     private int maximumMessageSliceSize = MAXIMUM_MESSAGE_SLICE_SIZE;
 
+    private int installSnapshotWindowSize = INSTALL_SNAPSHOT_WINDOW_SIZE;
+
     private long electionTimeoutFactor = 2;
     private long candidateElectionTimeoutDivisor = 1;
     private String customRaftPolicyImplementationClass;
@@ -112,6 +116,11 @@ public class DefaultConfigParamsImpl implements ConfigParams {
         this.maximumMessageSliceSize = maximumMessageSliceSize;
     }
 
+    public void setInstallSnapshotWindowSize(final int installSnapshotWindowSize) {
+        checkArgument(installSnapshotWindowSize > 0);
+        this.installSnapshotWindowSize = installSnapshotWindowSize;
+    }
+
     public void setJournalRecoveryLogBatchSize(final int journalRecoveryLogBatchSize) {
         this.journalRecoveryLogBatchSize = journalRecoveryLogBatchSize;
     }
@@ -195,6 +204,11 @@ public class DefaultConfigParamsImpl implements ConfigParams {
         return maximumMessageSliceSize;
     }
 
+    @Override
+    public int getInstallSnapshotWindowSize() {
+        return installSnapshotWindowSize;
+    }
+
     @Override
     public int getJournalRecoveryLogBatchSize() {
         return journalRecoveryLogBatchSize;
@@ -40,6 +40,18 @@ class RaftActorDelegatingPersistentDataProvider extends DelegatingPersistentData
         doPersist(entry, procedure, true);
     }
 
+    @Override
+    public <T> void persistAll(final Iterable<T> entries, final Procedure<T> procedure) {
+        if (getDelegate().isRecoveryApplicable()) {
+            super.persistAll(entries, procedure);
+        } else {
+            // Only some of the entries may end up being persisted, deal with them one by one
+            for (T entry : entries) {
+                doPersist(entry, procedure, false);
+            }
+        }
+    }
+
     private <T> void doPersist(final T entry, final Procedure<T> procedure, final boolean async) {
         if (!getDelegate().isRecoveryApplicable() && entry instanceof ReplicatedLogEntry replicatedLogEntry
             && replicatedLogEntry.getData() instanceof PersistentPayload payload) {
@@ -117,6 +117,10 @@ class RaftActorRecoverySupport {
 
         Snapshot snapshot = (Snapshot) offer.snapshot();
 
+        // A recovered delta has been combined with its base, otherwise the recovered snapshot is the full snapshot
+        context.getSnapshotManager().setFullSnapshotTimestamp(snapshot.isDelta() ? snapshot.getBaseTimestamp()
+            : offer.metadata().timestamp());
+
         for (ReplicatedLogEntry entry: snapshot.getUnAppliedEntries()) {
             if (isMigratedPayload(entry)) {
                 hasMigratedDataRecovered = true;
@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot.State;
 
 /**
@@ -37,6 +38,29 @@ public interface RaftActorSnapshotCohort {
      */
     void createSnapshot(@NonNull ActorRef actorRef, @NonNull Optional<OutputStream> installSnapshotStream);
 
+    /**
+     * This method is called by the RaftActor when a snapshot needs to be created for the sole purpose of persisting it
+     * locally. Unlike {@link #createSnapshot(ActorRef, Optional)}, the implementation may respond with a
+     * {@link State#isDelta() delta} state relative to the last snapshot reported via
+     * {@link #snapshotPersisted(Snapshot)}. Default implementation defers to
+     * {@link #createSnapshot(ActorRef, Optional)}.
+     *
+     * @param actorRef the actor to which to respond
+     */
+    default void createLocalSnapshot(final @NonNull ActorRef actorRef) {
+        createSnapshot(actorRef, Optional.empty());
+    }
+
+    /**
+     * This method is called when a snapshot, either created by this actor or installed by the leader, has been
+     * persisted. Default implementation does nothing.
+     *
+     * @param snapshot the persisted snapshot
+     */
+    default void snapshotPersisted(final @NonNull Snapshot snapshot) {
+        // No-op
+    }
+
     /**
      * This method is called to apply a snapshot installed by the leader.
      *
@@ -118,6 +118,19 @@ public interface ReplicatedLog {
     boolean appendAndPersist(@NonNull ReplicatedLogEntry replicatedLogEntry,
             @Nullable Consumer<ReplicatedLogEntry> callback, boolean doAsync);
 
+    /**
+     * Appends entries to the in-memory log and persists them as well, using a single journal write. Subsequent messages
+     * are stashed and get delivered after persistence is complete and the callback is executed. Entries which cannot be
+     * appended are skipped.
+     *
+     * @param entries the entries to append
+     * @param callback the callback to be notified with the last appended entry when persistence of all appended
+     *        entries is complete (optional)
+     * @return true if all entries were successfully appended, false otherwise.
+     */
+    boolean appendAndPersistAll(@NonNull List<ReplicatedLogEntry> entries,
+            @Nullable Consumer<ReplicatedLogEntry> callback);
+
     /**
      * Returns a list of log entries starting from the given index to the end of the log.
      *
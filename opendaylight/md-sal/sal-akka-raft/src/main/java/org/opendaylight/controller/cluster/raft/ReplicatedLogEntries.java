@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A sequence of {@link ReplicatedLogEntry}s backed by a circular array. Unlike an {@link ArrayList}, removing entries
+ * from the front of the sequence, as done when the log is trimmed after a snapshot, does not need to shift the
+ * remaining entries. It also keeps track of the total {@link ReplicatedLogEntry#size()} of the entries it contains, so
+ * that it does not need to be recomputed by walking all entries.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+final class ReplicatedLogEntries {
+    private static final int MIN_CAPACITY = 16;
+
+    // Always a power of two, so we can use masking to wrap around
+    private ReplicatedLogEntry[] elements;
+    // Physical offset of the first entry
+    private int head;
+    private int size;
+    private int dataSize;
+
+    ReplicatedLogEntries() {
+        this(MIN_CAPACITY);
+    }
+
+    ReplicatedLogEntries(final int initialCapacity) {
+        elements = new ReplicatedLogEntry[capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Return the number of entries.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the sum of {@link ReplicatedLogEntry#size()} of all entries.
+     *
+     * @return the sum of sizes of all entries
+     */
+    int dataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Return the entry at specified offset.
+     *
+     * @param offset offset of the entry, must be between {@code 0} and {@link #size()}, exclusive
+     * @return the entry at specified offset
+     * @throws IndexOutOfBoundsException if {@code offset} is out of range
+     */
+    @NonNull ReplicatedLogEntry get(final int offset) {
+        return elements[slot(checkIndex(offset))];
+    }
+
+    /**
+     * Return the last entry, if present.
+     *
+     * @return the last entry, or {@code null}
+     */
+    ReplicatedLogEntry last() {
+        return size == 0 ? null : elements[slot(size - 1)];
+    }
+
+    /**
+     * Append an entry to the end of the sequence.
+     *
+     * @param entry the entry to append
+     */
+    void add(final @NonNull ReplicatedLogEntry entry) {
+        requireNonNull(entry);
+        ensureCapacity(size + 1);
+        elements[slot(size)] = entry;
+        size++;
+        dataSize += entry.size();
+    }
+
+    /**
+     * Make sure this sequence can hold at least specified number of entries without needing to grow.
+     *
+     * @param minCapacity required capacity
+     */
+    void ensureCapacity(final int minCapacity) {
+        if (minCapacity > elements.length) {
+            resize(capacityFor(minCapacity));
+        }
+    }
+
+    /**
+     * Remove all entries starting at specified offset.
+     *
+     * @param offset offset of the first entry to remove
+     */
+    void removeFrom(final int offset) {
+        checkPositionIndex(offset);
+        for (int i = offset; i < size; ++i) {
+            final int slot = slot(i);
+            dataSize -= elements[slot].size();
+            elements[slot] = null;
+        }
+        size = offset;
+    }
+
+    /**
+     * Remove specified number of entries from the front of this sequence.
+     *
+     * @param count number of entries to remove
+     * @return removed entries, in their original order
+     */
+    @NonNull List<ReplicatedLogEntry> removeFirst(final int count) {
+        checkPositionIndex(count);
+        final var ret = new ArrayList<ReplicatedLogEntry>(count);
+        for (int i = 0; i < count; ++i) {
+            final int slot = slot(i);
+            final var entry = elements[slot];
+            ret.add(entry);
+            dataSize -= entry.size();
+            elements[slot] = null;
+        }
+        head = slot(count);
+        size -= count;
+        return ret;
+    }
+
+    /**
+     * Insert specified entries in front of this sequence. This is the inverse operation to {@link #removeFirst(int)}.
+     *
+     * @param entries entries to insert
+     */
+    void prependAll(final @NonNull List<ReplicatedLogEntry> entries) {
+        final int count = entries.size();
+        ensureCapacity(size + count);
+        for (int i = count - 1; i >= 0; --i) {
+            final var entry = requireNonNull(entries.get(i));
+            head = (head - 1) & (elements.length - 1);
+            elements[head] = entry;
+            dataSize += entry.size();
+        }
+        size += count;
+    }
+
+    /**
+     * Remove entries in specified range.
+     *
+     * @param fromOffset offset of the first entry to remove, inclusive
+     * @param toOffset offset of the last entry to remove, exclusive
+     */
+    void removeRange(final int fromOffset, final int toOffset) {
+        checkPositionIndex(toOffset);
+        if (fromOffset < 0 || fromOffset > toOffset) {
+            throw new IndexOutOfBoundsException("Invalid range " + fromOffset + ".." + toOffset);
+        }
+        if (fromOffset == 0) {
+            removeFirst(toOffset);
+        } else if (toOffset == size) {
+            removeFrom(fromOffset);
+        } else {
+            final int count = toOffset - fromOffset;
+            for (int i = fromOffset; i < toOffset; ++i) {
+                dataSize -= elements[slot(i)].size();
+            }
+            // Shift the tail down
+            for (int i = toOffset; i < size; ++i) {
+                elements[slot(i - count)] = elements[slot(i)];
+            }
+            for (int i = size - count; i < size; ++i) {
+                elements[slot(i)] = null;
+            }
+            size -= count;
+        }
+    }
+
+    /**
+     * Return a copy of entries in specified range.
+     *
+     * @param fromOffset offset of the first entry, inclusive
+     * @param toOffset offset of the last entry, exclusive
+     * @return a mutable list containing the entries
+     */
+    @NonNull ArrayList<ReplicatedLogEntry> copyOf(final int fromOffset, final int toOffset) {
+        checkPositionIndex(toOffset);
+        if (fromOffset < 0 || fromOffset > toOffset) {
+            throw new IndexOutOfBoundsException("Invalid range " + fromOffset + ".." + toOffset);
+        }
+        final var ret = new ArrayList<ReplicatedLogEntry>(toOffset - fromOffset);
+        for (int i = fromOffset; i < toOffset; ++i) {
+            ret.add(elements[slot(i)]);
+        }
+        return ret;
+    }
+
+    private int slot(final int offset) {
+        return (head + offset) & (elements.length - 1);
+    }
+
+    private int checkIndex(final int offset) {
+        if (offset < 0 || offset >= size) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " out of range 0.." + size);
+        }
+        return offset;
+    }
+
+    private void checkPositionIndex(final int offset) {
+        if (offset < 0 || offset > size) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " out of range 0.." + size);
+        }
+    }
+
+    private void resize(final int newCapacity) {
+        final var newElements = new ReplicatedLogEntry[newCapacity];
+        final int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        head = 0;
+    }
+
+    private static int capacityFor(final int minCapacity) {
+        if (minCapacity <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        final int ret = Integer.highestOneBit(minCapacity - 1) << 1;
+        if (ret <= 0) {
+            throw new IllegalArgumentException("Cannot accommodate " + minCapacity + " entries");
+        }
+        return ret;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("size", size).add("capacity", elements.length)
+            .add("dataSize", dataSize).toString();
+    }
+}
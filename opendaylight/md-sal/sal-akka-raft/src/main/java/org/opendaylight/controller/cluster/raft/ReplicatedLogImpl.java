@@ -9,6 +9,7 @@ package org.opendaylight.controller.cluster.raft;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
@@ -114,6 +115,27 @@ final class ReplicatedLogImpl extends AbstractReplicatedLogImpl {
         return true;
     }
 
+    @Override
+    public boolean appendAndPersistAll(final List<ReplicatedLogEntry> entries,
+            final Consumer<ReplicatedLogEntry> callback) {
+        final var appended = new ArrayList<ReplicatedLogEntry>(entries.size());
+        for (var entry : entries) {
+            context.getLogger().debug("{}: Append log entry and persist {} ", context.getId(), entry);
+            if (append(entry)) {
+                appended.add(entry);
+            }
+        }
+
+        if (!appended.isEmpty()) {
+            // A single write to the journal, the callback is invoked only once the last entry has been persisted
+            final var last = appended.getLast();
+            context.getPersistenceProvider().persistAll(appended,
+                entry -> syncPersistCallback(entry, entry == last ? callback : null));
+        }
+
+        return appended.size() == entries.size();
+    }
+
     private void persistCallback(final ReplicatedLogEntry persistedLogEntry,
             final Consumer<ReplicatedLogEntry> callback) {
         context.getExecutor().execute(() -> syncPersistCallback(persistedLogEntry, callback));
@@ -51,6 +51,10 @@ public class SnapshotManager implements SnapshotState {
     private SnapshotState currentState = IDLE;
     private CaptureSnapshot captureSnapshot;
     private long lastSequenceNumber = -1;
+    // The snapshot being persisted
+    private Snapshot persistingSnapshot;
+    // The timestamp of the last persisted full snapshot, or -1 if not known
+    private long fullSnapshotTimestamp = -1;
 
     private Consumer<Optional<OutputStream>> createSnapshotProcedure = null;
 
@@ -128,6 +132,21 @@ public class SnapshotManager implements SnapshotState {
         this.snapshotCohort = snapshotCohort;
     }
 
+    /**
+     * Record the timestamp of the last persisted full snapshot, as determined from the snapshot recovered from
+     * persistence. This allows deltas persisted after recovery to retain that snapshot.
+     *
+     * @param timestamp the timestamp, or -1 if not known
+     */
+    void setFullSnapshotTimestamp(final long timestamp) {
+        fullSnapshotTimestamp = timestamp;
+    }
+
+    @VisibleForTesting
+    long getFullSnapshotTimestamp() {
+        return fullSnapshotTimestamp;
+    }
+
     public Snapshot.@NonNull State convertSnapshot(final ByteSource snapshotBytes) throws IOException {
         return snapshotCohort.deserializeSnapshot(snapshotBytes);
     }
@@ -344,7 +363,8 @@ public class SnapshotManager implements SnapshotState {
 
             log.debug("lastSequenceNumber prior to persisting applied snapshot: {}", lastSequenceNumber);
 
-            context.getPersistenceProvider().saveSnapshot(toApply.getSnapshot());
+            persistingSnapshot = toApply.getSnapshot();
+            context.getPersistenceProvider().saveSnapshot(persistingSnapshot);
 
             currentState = PERSISTING;
         }
@@ -374,6 +394,7 @@ public class SnapshotManager implements SnapshotState {
                     context.getTermInformation().getCurrentTerm(),
                     context.getTermInformation().getVotedFor(), context.getPeerServerInfo(true));
 
+            persistingSnapshot = snapshot;
             context.getPersistenceProvider().saveSnapshot(snapshot);
 
             log.info("{}: Persisting of snapshot done: {}", persistenceId(), snapshot);
@@ -495,11 +516,27 @@ public class SnapshotManager implements SnapshotState {
                 context.getReplicatedLog().snapshotCommit();
             }
 
-            context.getPersistenceProvider().deleteSnapshots(new SnapshotSelectionCriteria(scala.Long.MaxValue(),
-                    timeStamp - 1, 0L, 0L));
+            final Snapshot persisted = persistingSnapshot;
+            if (persisted != null && persisted.isDelta()) {
+                // A delta is only usable with the full snapshot it was taken against, hence we retain that snapshot
+                // and only delete the deltas which were taken after it. If we do not know which snapshot that is,
+                // we err on the side of caution and keep everything.
+                if (fullSnapshotTimestamp >= 0) {
+                    context.getPersistenceProvider().deleteSnapshots(new SnapshotSelectionCriteria(
+                            scala.Long.MaxValue(), timeStamp - 1, 0L, fullSnapshotTimestamp + 1));
+                }
+            } else {
+                fullSnapshotTimestamp = timeStamp;
+                context.getPersistenceProvider().deleteSnapshots(new SnapshotSelectionCriteria(
+                        scala.Long.MaxValue(), timeStamp - 1, 0L, 0L));
+            }
 
             context.getPersistenceProvider().deleteMessages(lastSequenceNumber);
 
+            if (persisted != null) {
+                snapshotCohort.snapshotPersisted(persisted);
+            }
+
             snapshotComplete();
         }
 
@@ -524,6 +561,7 @@ public class SnapshotManager implements SnapshotState {
         private void snapshotComplete() {
             lastSequenceNumber = -1;
             applySnapshot = null;
+            persistingSnapshot = null;
             currentState = IDLE;
 
             context.getActor().tell(SnapshotComplete.INSTANCE, context.getActor());
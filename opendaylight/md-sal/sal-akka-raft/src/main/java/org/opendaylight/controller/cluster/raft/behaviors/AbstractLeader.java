@@ -17,12 +17,14 @@ import com.google.common.io.ByteSource;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Queue;
@@ -46,6 +48,7 @@ import org.opendaylight.controller.cluster.raft.base.messages.SendHeartBeat;
 import org.opendaylight.controller.cluster.raft.base.messages.SendInstallSnapshot;
 import org.opendaylight.controller.cluster.raft.messages.AppendEntries;
 import org.opendaylight.controller.cluster.raft.messages.AppendEntriesReply;
+import org.opendaylight.controller.cluster.raft.messages.AppendEntriesSerializer;
 import org.opendaylight.controller.cluster.raft.messages.IdentifiablePayload;
 import org.opendaylight.controller.cluster.raft.messages.InstallSnapshot;
 import org.opendaylight.controller.cluster.raft.messages.InstallSnapshotReply;
@@ -98,9 +101,18 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
     private final Map<Long, SharedFileBackedOutputStream> sharedSerializedAppendEntriesStreams = new HashMap<>();
     private final MessageSlicer appendEntriesMessageSlicer;
 
+    /**
+     * The last AppendEntries carrying log entries which has been sent to a follower. It is reused for other followers
+     * at the same position, so that the message is serialized only once, see {@link AppendEntriesSerializer}.
+     */
+    private AppendEntries lastAppendEntries;
+    private short lastAppendEntriesRaftVersion;
+
     private Cancellable heartbeatSchedule = null;
     private Optional<SnapshotHolder> snapshotHolder = Optional.empty();
     private int minReplicationCount;
+    // Scratch space for computing the majority match index, reused to avoid allocation on each AppendEntriesReply
+    private long[] matchIndexes = new long[0];
 
     protected AbstractLeader(final RaftActorContext context, final RaftState state,
             final @Nullable AbstractLeader initializeFromLeader) {
@@ -345,8 +357,14 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         //   If there exists an index N such that N > commitIndex, a majority of matchIndex[i] ≥ N,
         //     and log[N].term == currentTerm:
         //   set commitIndex = N (§5.3, §5.4).
-        for (long index = context.getCommitIndex() + 1; ; index++) {
-            ReplicatedLogEntry replicatedLogEntry = context.getReplicatedLog().get(index);
+        // Rather than counting replicas for each index in turn, we find the highest index replicated to a majority
+        // of voting followers up front.
+        final long majorityMatchIndex = Math.min(followersMajorityMatchIndex(),
+            context.getReplicatedLog().lastIndex());
+
+        ReplicatedLogEntry lastCommittable = null;
+        for (long index = context.getCommitIndex() + 1; index <= majorityMatchIndex; index++) {
+            final ReplicatedLogEntry replicatedLogEntry = context.getReplicatedLog().get(index);
             if (replicatedLogEntry == null) {
                 log.trace("{}: ReplicatedLogEntry not found for index {} - snapshotIndex: {}, journal size: {}",
                         logName(), index, context.getReplicatedLog().getSnapshotIndex(),
@@ -354,50 +372,34 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                 break;
             }
 
-            // Count our entry if it has been persisted.
-            int replicatedCount = replicatedLogEntry.isPersistencePending() ? 0 : 1;
-
-            if (replicatedCount == 0) {
+            if (replicatedLogEntry.isPersistencePending()) {
                 // We don't commit and apply a log entry until we've gotten the ack from our local persistence,
                 // even though there *shouldn't* be any issue with updating the commit index if we get a consensus
                 // amongst the followers w/o the local persistence ack.
                 break;
             }
 
-            log.trace("{}: checking Nth index {}", logName(), index);
-            for (FollowerLogInformation info : followerToLog.values()) {
-                final PeerInfo peerInfo = context.getPeerInfo(info.getId());
-                if (info.getMatchIndex() >= index && peerInfo != null && peerInfo.isVoting()) {
-                    replicatedCount++;
-                } else if (log.isTraceEnabled()) {
-                    log.trace("{}: Not counting follower {} - matchIndex: {}, {}", logName(), info.getId(),
-                            info.getMatchIndex(), peerInfo);
-                }
-            }
-
-            if (log.isTraceEnabled()) {
-                log.trace("{}: replicatedCount {}, minReplicationCount: {}", logName(), replicatedCount,
-                        minReplicationCount);
-            }
+            lastCommittable = replicatedLogEntry;
+        }
 
-            if (replicatedCount >= minReplicationCount) {
-                // Don't update the commit index if the log entry is from a previous term, as per §5.4.1:
-                // "Raft never commits log entries from previous terms by counting replicas".
-                // However we keep looping so we can make progress when new entries in the current term
-                // reach consensus, as per §5.4.1: "once an entry from the current term is committed by
-                // counting replicas, then all prior entries are committed indirectly".
-                if (replicatedLogEntry.term() == currentTerm()) {
-                    log.trace("{}: Setting commit index to {}", logName(), index);
-                    context.setCommitIndex(index);
-                } else {
-                    log.debug("{}: Not updating commit index to {} - retrieved log entry with index {}, "
-                            + "term {} does not match the current term {}", logName(), index,
-                            replicatedLogEntry.index(), replicatedLogEntry.term(), currentTerm());
-                }
+        if (lastCommittable != null) {
+            // Don't update the commit index if the log entry is from a previous term, as per §5.4.1:
+            // "Raft never commits log entries from previous terms by counting replicas".
+            // Terms never decrease along the log, hence if the last entry which reached consensus is from a previous
+            // term, so are all the entries preceding it. Otherwise all prior entries are committed indirectly, as per
+            // §5.4.1: "once an entry from the current term is committed by counting replicas, then all prior entries
+            // are committed indirectly".
+            if (lastCommittable.term() == currentTerm()) {
+                log.trace("{}: Setting commit index to {}", logName(), lastCommittable.index());
+                context.setCommitIndex(lastCommittable.index());
             } else {
-                log.trace("{}: minReplicationCount not reached, actual {} - breaking", logName(), replicatedCount);
-                break;
+                log.debug("{}: Not updating commit index to {} - retrieved log entry term {} does not match "
+                        + "the current term {}", logName(), lastCommittable.index(), lastCommittable.term(),
+                        currentTerm());
             }
+        } else {
+            log.trace("{}: minReplicationCount {} not reached beyond commit index {}", logName(), minReplicationCount,
+                context.getCommitIndex());
         }
 
         // Apply the change to the state machine
@@ -413,6 +415,45 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         }
     }
 
+    /**
+     * Return the highest index which has been replicated to enough voting followers to reach consensus, counting
+     * ourselves as one of the replicas. This is O(followers * log(followers)), as we sort the voting followers' match
+     * indexes.
+     *
+     * @return the majority match index, {@code -1} if there are not enough voting followers
+     */
+    private long followersMajorityMatchIndex() {
+        // We count ourselves as one replica
+        final int required = minReplicationCount - 1;
+        if (required <= 0) {
+            return Long.MAX_VALUE;
+        }
+
+        if (matchIndexes.length < followerToLog.size()) {
+            matchIndexes = new long[followerToLog.size()];
+        }
+
+        int count = 0;
+        for (FollowerLogInformation info : followerToLog.values()) {
+            final PeerInfo peerInfo = context.getPeerInfo(info.getId());
+            if (peerInfo != null && peerInfo.isVoting()) {
+                matchIndexes[count++] = info.getMatchIndex();
+            } else if (log.isTraceEnabled()) {
+                log.trace("{}: Not counting follower {} - matchIndex: {}, {}", logName(), info.getId(),
+                        info.getMatchIndex(), peerInfo);
+            }
+        }
+
+        if (count < required) {
+            log.trace("{}: only {} voting followers, {} required", logName(), count, required);
+            return -1;
+        }
+
+        // The required-th highest match index is present on enough followers
+        Arrays.sort(matchIndexes, 0, count);
+        return matchIndexes[count - required];
+    }
+
     private boolean updateFollowerLogInformation(final FollowerLogInformation followerLogInformation,
             final AppendEntriesReply appendEntriesReply) {
         boolean updated = followerLogInformation.setMatchIndex(appendEntriesReply.getLogLastIndex());
@@ -567,7 +608,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         installSnapshotState.resetChunkTimer();
         followerLogInformation.markFollowerActive();
 
-        if (installSnapshotState.getChunkIndex() == reply.getChunkIndex()) {
+        if (installSnapshotState.isUnacked(reply.getChunkIndex())) {
             boolean wasLastChunk = false;
             if (reply.isSuccess()) {
                 if (installSnapshotState.isLastChunk(reply.getChunkIndex())) {
@@ -596,12 +637,18 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                         log.debug("Sent message UnInitializedFollowerSnapshotReply to self");
                     }
                 } else {
-                    installSnapshotState.markSendStatus(true);
+                    installSnapshotState.markAcked(reply.getChunkIndex());
                 }
             } else {
                 log.warn("{}: Received failed InstallSnapshotReply - will retry: {}", logName(), reply);
 
-                installSnapshotState.markSendStatus(false);
+                // A failure does not acknowledge anything, hence we resend all outstanding chunks. Note Follower reports
+                // failures with INVALID_CHUNK_INDEX, which restarts the install instead, see below.
+                final var followerActor = context.getPeerActorSelection(followerId);
+                if (followerActor != null) {
+                    resendSnapshotChunks(followerActor, followerLogInformation);
+                }
+                return;
             }
 
             if (wasLastChunk) {
@@ -616,16 +663,25 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                 }
             }
 
-        } else {
-            log.error("{}: Chunk index {} in InstallSnapshotReply from follower {} does not match expected index {}",
-                    logName(), reply.getChunkIndex(), followerId,
-                    installSnapshotState.getChunkIndex());
-
-            if (reply.getChunkIndex() == LeaderInstallSnapshotState.INVALID_CHUNK_INDEX) {
-                // Since the Follower did not find this index to be valid we should reset the follower snapshot
-                // so that Installing the snapshot can resume from the beginning
-                installSnapshotState.reset();
+        } else if (reply.getChunkIndex() == LeaderInstallSnapshotState.INVALID_CHUNK_INDEX) {
+            if (installSnapshotState.isRestarting()) {
+                // The follower rejects the chunks which were in flight when it failed until it sees the first chunk
+                // again, hence this is a reply to one of those and the install is already restarting
+                log.debug("{}: Ignoring resend request from follower {} while the snapshot is being resent", logName(),
+                    followerId);
+                return;
             }
+
+            log.error("{}: Follower {} requested the snapshot to be resent, snapshot state: {}", logName(),
+                    followerId, installSnapshotState);
+
+            // Since the Follower did not find this index to be valid we should reset the follower snapshot
+            // so that Installing the snapshot can resume from the beginning
+            installSnapshotState.reset();
+        } else {
+            // This can happen when the follower acknowledges a chunk which we have resent
+            log.debug("{}: Chunk index {} in InstallSnapshotReply from follower {} is not outstanding", logName(),
+                    reply.getChunkIndex(), followerId);
         }
     }
 
@@ -856,11 +912,23 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                 || !followerLogInformation.isFollowerActive() ? -1 : context.getCommitIndex();
 
         long followerNextIndex = followerLogInformation.getNextIndex();
-        AppendEntries appendEntries = new AppendEntries(currentTerm(), context.getId(),
-            getLogEntryIndex(followerNextIndex - 1),
-            getLogEntryTerm(followerNextIndex - 1), entries,
-            leaderCommitIndex, super.getReplicatedToAllIndex(), context.getPayloadVersion(),
-            followerLogInformation.getRaftVersion(), followerLogInformation.needsLeaderAddress(getId()));
+        final long prevLogIndex = getLogEntryIndex(followerNextIndex - 1);
+        final long prevLogTerm = getLogEntryTerm(followerNextIndex - 1);
+        final short raftVersion = followerLogInformation.getRaftVersion();
+        final String leaderAddress = followerLogInformation.needsLeaderAddress(getId());
+
+        AppendEntries appendEntries = lastAppendEntries;
+        if (appendEntries == null || entries.isEmpty() || raftVersion != lastAppendEntriesRaftVersion
+                || !isSameAppendEntries(appendEntries, prevLogIndex, prevLogTerm, entries, leaderCommitIndex,
+                    leaderAddress)) {
+            appendEntries = new AppendEntries(currentTerm(), context.getId(), prevLogIndex, prevLogTerm, entries,
+                leaderCommitIndex, super.getReplicatedToAllIndex(), context.getPayloadVersion(), raftVersion,
+                leaderAddress);
+            if (!entries.isEmpty()) {
+                lastAppendEntries = appendEntries;
+                lastAppendEntriesRaftVersion = raftVersion;
+            }
+        }
 
         if (!entries.isEmpty() || log.isTraceEnabled()) {
             log.debug("{}: Sending AppendEntries to follower {}: {}", logName(), followerLogInformation.getId(),
@@ -871,6 +939,30 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         followerActor.tell(appendEntries, actor());
     }
 
+    private boolean isSameAppendEntries(final AppendEntries appendEntries, final long prevLogIndex,
+            final long prevLogTerm, final List<ReplicatedLogEntry> entries, final long leaderCommitIndex,
+            final @Nullable String leaderAddress) {
+        if (appendEntries.getTerm() != currentTerm() || appendEntries.getPrevLogIndex() != prevLogIndex
+                || appendEntries.getPrevLogTerm() != prevLogTerm || appendEntries.getLeaderCommit() != leaderCommitIndex
+                || appendEntries.getReplicatedToAllIndex() != getReplicatedToAllIndex()
+                || appendEntries.getPayloadVersion() != context.getPayloadVersion()
+                || !Objects.equals(appendEntries.leaderAddress(), leaderAddress)) {
+            return false;
+        }
+
+        // Entries are taken from the replicated log, hence the same entries are the same instances
+        final var sentEntries = appendEntries.getEntries();
+        if (sentEntries.size() != entries.size()) {
+            return false;
+        }
+        for (int i = 0; i < entries.size(); ++i) {
+            if (sentEntries.get(i) != entries.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Initiates a snapshot capture to install on a follower.
      *
@@ -905,8 +997,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         boolean captureInitiated = context.getSnapshotManager().captureToInstall(context.getReplicatedLog().lastMeta(),
             getReplicatedToAllIndex(), followerId);
         if (captureInitiated) {
-            followerLogInfo.setLeaderInstallSnapshotState(new LeaderInstallSnapshotState(
-                context.getConfigParams().getMaximumMessageSliceSize(), logName()));
+            followerLogInfo.setLeaderInstallSnapshotState(newInstallSnapshotState());
         }
 
         return captureInitiated;
@@ -940,16 +1031,21 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
         }
     }
 
+    private LeaderInstallSnapshotState newInstallSnapshotState() {
+        final var configParams = context.getConfigParams();
+        return new LeaderInstallSnapshotState(configParams.getMaximumMessageSliceSize(),
+            configParams.getInstallSnapshotWindowSize(), logName());
+    }
+
     /**
-     *  Sends a snapshot chunk to a given follower
+     *  Sends snapshot chunks to a given follower, as long as the window of unacknowledged chunks allows it.
      *  InstallSnapshot should qualify as a heartbeat too.
      */
     private void sendSnapshotChunk(final ActorSelection followerActor, final FollowerLogInformation followerLogInfo) {
         if (snapshotHolder.isPresent()) {
             LeaderInstallSnapshotState installSnapshotState = followerLogInfo.getInstallSnapshotState();
             if (installSnapshotState == null) {
-                installSnapshotState = new LeaderInstallSnapshotState(
-                        context.getConfigParams().getMaximumMessageSliceSize(), logName());
+                installSnapshotState = newInstallSnapshotState();
                 followerLogInfo.setLeaderInstallSnapshotState(installSnapshotState);
             }
 
@@ -957,29 +1053,16 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
                 // Ensure the snapshot bytes are set - this is a no-op.
                 installSnapshotState.setSnapshotBytes(snapshotHolder.orElseThrow().getSnapshotBytes());
 
-                if (!installSnapshotState.canSendNextChunk()) {
-                    return;
-                }
-
-                byte[] nextSnapshotChunk = installSnapshotState.getNextChunk();
+                while (installSnapshotState.canSendNextChunk()) {
+                    final var chunk = installSnapshotState.nextChunk();
 
-                log.debug("{}: next snapshot chunk size for follower {}: {}", logName(), followerLogInfo.getId(),
-                        nextSnapshotChunk.length);
+                    log.debug("{}: next snapshot chunk size for follower {}: {}", logName(), followerLogInfo.getId(),
+                            chunk.data().length);
 
-                int nextChunkIndex = installSnapshotState.incrementChunkIndex();
-                Optional<ServerConfigurationPayload> serverConfig = Optional.empty();
-                if (installSnapshotState.isLastChunk(nextChunkIndex)) {
-                    serverConfig = Optional.ofNullable(context.getPeerServerInfo(true));
+                    sendSnapshotChunk(followerActor, followerLogInfo, chunk);
                 }
-
-                sendSnapshotChunk(followerActor, followerLogInfo, nextSnapshotChunk, nextChunkIndex, serverConfig);
-
-                log.debug("{}: InstallSnapshot sent to follower {}, Chunk: {}/{}", logName(), followerActor.path(),
-                        installSnapshotState.getChunkIndex(), installSnapshotState.getTotalChunks());
-
             } catch (IOException e) {
-                log.warn("{}: Unable to send chunk: {}/{}. Reseting snapshot progress. Snapshot state: {}", logName(),
-                        installSnapshotState.getChunkIndex(), installSnapshotState.getTotalChunks(),
+                log.warn("{}: Unable to send chunk. Reseting snapshot progress. Snapshot state: {}", logName(),
                         installSnapshotState, e);
                 installSnapshotState.reset();
             }
@@ -987,23 +1070,43 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
     }
 
     private void sendSnapshotChunk(final ActorSelection followerActor, final FollowerLogInformation followerLogInfo,
-                                   final byte[] snapshotChunk, final int chunkIndex,
-                                   final Optional<ServerConfigurationPayload> serverConfig) {
+                                   final LeaderInstallSnapshotState.Chunk chunk) {
         LeaderInstallSnapshotState installSnapshotState = followerLogInfo.getInstallSnapshotState();
 
+        Optional<ServerConfigurationPayload> serverConfig = Optional.empty();
+        if (installSnapshotState.isLastChunk(chunk.index())) {
+            serverConfig = Optional.ofNullable(context.getPeerServerInfo(true));
+        }
+
         installSnapshotState.startChunkTimer();
         followerActor.tell(
                 new InstallSnapshot(currentTerm(), context.getId(),
                         snapshotHolder.orElseThrow().getLastIncludedIndex(),
                         snapshotHolder.orElseThrow().getLastIncludedTerm(),
-                        snapshotChunk,
-                        chunkIndex,
+                        chunk.data(),
+                        chunk.index(),
                         installSnapshotState.getTotalChunks(),
-                        OptionalInt.of(installSnapshotState.getLastChunkHashCode()),
+                        OptionalInt.of(chunk.lastChunkHashCode()),
                         serverConfig,
                         followerLogInfo.getRaftVersion()),
                 actor()
         );
+
+        log.debug("{}: InstallSnapshot sent to follower {}, Chunk: {}/{}", logName(), followerActor.path(),
+                chunk.index(), installSnapshotState.getTotalChunks());
+    }
+
+    /**
+     * Resend all chunks which have not been acknowledged by the follower, in order, and then continue with any new
+     * chunks the window allows. The follower acknowledges duplicate chunks without processing them again.
+     */
+    private void resendSnapshotChunks(final ActorSelection followerActor,
+                                      final FollowerLogInformation followerLogInfo) {
+        final var installSnapshotState = followerLogInfo.getInstallSnapshotState();
+        for (var chunk : installSnapshotState.unackedChunks()) {
+            sendSnapshotChunk(followerActor, followerLogInfo, chunk);
+        }
+        sendSnapshotChunk(followerActor, followerLogInfo);
     }
 
     private boolean resendSnapshotChunk(final ActorSelection followerActor,
@@ -1016,12 +1119,9 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
             return false;
         }
 
-        LeaderInstallSnapshotState installSnapshotState = followerLogInfo.getInstallSnapshotState();
         // we are resending, timer needs to be reset
-        installSnapshotState.resetChunkTimer();
-        installSnapshotState.markSendStatus(false);
-
-        sendSnapshotChunk(followerActor, followerLogInfo);
+        followerLogInfo.getInstallSnapshotState().resetChunkTimer();
+        resendSnapshotChunks(followerActor, followerLogInfo);
 
         return true;
     }
@@ -1064,6 +1164,7 @@ public abstract class AbstractLeader extends AbstractRaftActorBehavior {
     public void close() {
         stopHeartBeat();
         appendEntriesMessageSlicer.close();
+        lastAppendEntries = null;
     }
 
     @Override
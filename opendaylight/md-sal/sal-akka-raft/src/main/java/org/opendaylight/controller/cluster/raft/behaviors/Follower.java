@@ -23,8 +23,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.messaging.MessageAssembler;
 import org.opendaylight.controller.cluster.raft.RaftActorContext;
@@ -63,6 +61,9 @@ public class Follower extends AbstractRaftActorBehavior {
 
     private final Stopwatch lastLeaderMessageTimer = Stopwatch.createStarted();
     private SnapshotTracker snapshotTracker = null;
+    // Set when a chunk could not be applied: the leader restarts the install, so until its first chunk arrives all
+    // chunks still in flight are stale
+    private boolean awaitingFirstChunk;
     private String leaderId;
     private short leaderPayloadVersion;
 
@@ -296,35 +297,28 @@ public class Follower extends AbstractRaftActorBehavior {
         log.debug("{}: After cleanup, lastIndex: {}, entries to be added from: {}", logName(), lastIndex,
                 addEntriesFrom);
 
-        // When persistence successfully completes for each new log entry appended, we need to determine if we
-        // should capture a snapshot to compact the persisted log. shouldCaptureSnapshot tracks whether or not
-        // one of the log entries has exceeded the log size threshold whereby a snapshot should be taken. However
-        // we don't initiate the snapshot at that log entry but rather after the last log entry has been persisted.
-        // This is done because subsequent log entries after the one that tripped the threshold may have been
-        // applied to the state already, as the persistence callback occurs async, and we want those entries
-        // purged from the persisted log as well.
-        final AtomicBoolean shouldCaptureSnapshot = new AtomicBoolean(false);
-        final Consumer<ReplicatedLogEntry> appendAndPersistCallback = logEntry -> {
-            if (shouldCaptureSnapshot.get() && logEntry == entries.getLast()) {
-                context.getSnapshotManager().capture(replLog.lastMeta(), getReplicatedToAllIndex());
-            }
-        };
-
-        // Append any new entries not already in the log
-        for (int i = addEntriesFrom; i < numLogEntries; i++) {
-            ReplicatedLogEntry entry = entries.get(i);
-
+        // Append any new entries not already in the log and persist them with a single journal write. Once that
+        // completes, we need to determine if we should capture a snapshot to compact the persisted log, i.e. whether
+        // or not one of the log entries has exceeded the log size threshold whereby a snapshot should be taken. We do
+        // not initiate the snapshot at that log entry but rather after the last log entry has been persisted. This is
+        // done because subsequent log entries after the one that tripped the threshold may have been applied to the
+        // state already, as the persistence callback occurs async, and we want those entries purged from the
+        // persisted log as well.
+        final var newEntries = entries.subList(addEntriesFrom, numLogEntries);
+        for (var entry : newEntries) {
             log.debug("{}: Append entry to log {}", logName(), entry.getData());
 
-            replLog.appendAndPersist(entry, appendAndPersistCallback, false);
-
-            shouldCaptureSnapshot.compareAndSet(false, replLog.shouldCaptureSnapshot(entry.index()));
-
             if (entry.getData() instanceof ServerConfigurationPayload serverConfiguration) {
                 context.updatePeerIds(serverConfiguration);
             }
         }
 
+        replLog.appendAndPersistAll(newEntries, logEntry -> {
+            if (newEntries.stream().anyMatch(entry -> replLog.shouldCaptureSnapshot(entry.index()))) {
+                context.getSnapshotManager().capture(replLog.lastMeta(), getReplicatedToAllIndex());
+            }
+        });
+
         log.debug("{}: Log size is now {}", logName(), replLog.size());
         return true;
     }
@@ -608,6 +602,15 @@ public class Follower extends AbstractRaftActorBehavior {
 
         leaderId = installSnapshot.getLeaderId();
 
+        if (awaitingFirstChunk) {
+            if (installSnapshot.getChunkIndex() != LeaderInstallSnapshotState.FIRST_CHUNK_INDEX) {
+                log.debug("{}: Ignoring chunk {} while waiting for the install snapshot to restart", logName(),
+                    installSnapshot.getChunkIndex());
+                return;
+            }
+            awaitingFirstChunk = false;
+        }
+
         if (snapshotTracker == null) {
             snapshotTracker = new SnapshotTracker(log, installSnapshot.getTotalChunks(), installSnapshot.getLeaderId(),
                     context);
@@ -663,6 +666,7 @@ public class Follower extends AbstractRaftActorBehavior {
             sender.tell(new InstallSnapshotReply(currentTerm(), context.getId(), -1, false), actor());
 
             closeSnapshotTracker();
+            awaitingFirstChunk = true;
         }
     }
 
@@ -7,19 +7,27 @@
  */
 package org.opendaylight.controller.cluster.raft.behaviors;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Stopwatch;
 import com.google.common.io.ByteSource;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.concurrent.duration.FiniteDuration;
 
 /**
- * Encapsulates the leader state and logic for sending snapshot chunks to a follower.
+ * Encapsulates the leader state and logic for sending snapshot chunks to a follower. Up to a configured number of
+ * chunks can be outstanding at any given time, i.e. sent to the follower without having been acknowledged. This
+ * allows a transfer to proceed without waiting a full round trip for each chunk.
  */
 public final class LeaderInstallSnapshotState implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(LeaderInstallSnapshotState.class);
@@ -30,30 +38,50 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     // The index that the follower should respond with if it needs the install snapshot to be reset
     static final int INVALID_CHUNK_INDEX = -1;
 
-    static final int INITIAL_OFFSET = -1;
-
     // This would be passed as the hash code of the last chunk when sending the first chunk
     static final int INITIAL_LAST_CHUNK_HASH_CODE = -1;
 
+    /**
+     * A chunk of the snapshot, along with the hash code of the preceding chunk.
+     *
+     * @param index the index of this chunk
+     * @param data the bytes of this chunk
+     * @param lastChunkHashCode the hash code of the preceding chunk
+     */
+    record Chunk(int index, byte @NonNull [] data, int lastChunkHashCode) {
+        Chunk {
+            requireNonNull(data);
+        }
+    }
+
+    // Chunks which have been sent, but not acknowledged yet, in the order in which they were sent
+    private final ArrayDeque<Chunk> unackedChunks = new ArrayDeque<>();
+    private final Stopwatch chunkTimer = Stopwatch.createUnstarted();
     private final int snapshotChunkSize;
+    private final int windowSize;
     private final String logName;
+
     private ByteSource snapshotBytes;
-    private long offset = INITIAL_OFFSET;
-    // the next snapshot chunk is sent only if the replyReceivedForOffset matches offset
-    private long replyReceivedForOffset = -1;
-    // if replyStatus is false, the previous chunk is attempted
-    private boolean replyStatus = false;
-    private int chunkIndex = FIRST_CHUNK_INDEX;
+    private InputStream snapshotInputStream;
+    private long snapshotSize;
     private int totalChunks;
+    // The number of bytes read from snapshotInputStream
+    private long offset;
+    // The index of the next chunk to read from snapshotInputStream
+    private int nextChunkIndex = FIRST_CHUNK_INDEX;
+    // The hash code of the last chunk read from snapshotInputStream
     private int lastChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
-    private int nextChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
-    private long snapshotSize;
-    private InputStream snapshotInputStream;
-    private final Stopwatch chunkTimer = Stopwatch.createUnstarted();
-    private byte[] currentChunk = null;
+    // Set when the install has been restarted and no chunk of the restarted transfer has been acknowledged yet
+    private boolean restarting;
 
     LeaderInstallSnapshotState(final int snapshotChunkSize, final String logName) {
+        this(snapshotChunkSize, 1, logName);
+    }
+
+    LeaderInstallSnapshotState(final int snapshotChunkSize, final int windowSize, final String logName) {
+        checkArgument(windowSize > 0, "Invalid window size %s", windowSize);
         this.snapshotChunkSize = snapshotChunkSize;
+        this.windowSize = windowSize;
         this.logName = logName;
     }
 
@@ -69,32 +97,14 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
 
         totalChunks = (int) (snapshotSize / snapshotChunkSize + (snapshotSize % snapshotChunkSize > 0 ? 1 : 0));
 
-        LOG.debug("{}: Snapshot {} bytes, total chunks to send: {}", logName, snapshotSize, totalChunks);
-
-        replyReceivedForOffset = INITIAL_OFFSET;
-        chunkIndex = FIRST_CHUNK_INDEX;
-    }
-
-    private long incrementOffset() {
-        // if offset is -1 doesn't matter whether it was the initial value or reset, move the offset to 0 to begin with
-        if (offset == INITIAL_OFFSET) {
-            offset = 0;
-        } else {
-            offset = offset + snapshotChunkSize;
-        }
-        return offset;
-    }
-
-    int incrementChunkIndex() {
-        if (replyStatus) {
-            // if prev chunk failed, we would want to send the same chunk again
-            chunkIndex =  chunkIndex + 1;
-        }
-        return chunkIndex;
+        LOG.debug("{}: Snapshot {} bytes, total chunks to send: {}, window size: {}", logName, snapshotSize,
+            totalChunks, windowSize);
     }
 
     void startChunkTimer() {
-        chunkTimer.start();
+        if (!chunkTimer.isRunning()) {
+            chunkTimer.start();
+        }
     }
 
     void resetChunkTimer() {
@@ -105,64 +115,95 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
         return chunkTimer.elapsed(TimeUnit.SECONDS) > timeout.toSeconds();
     }
 
-    int getChunkIndex() {
-        return chunkIndex;
-    }
-
     int getTotalChunks() {
         return totalChunks;
     }
 
+    /**
+     * Check whether we can send the next chunk, i.e. there is a next chunk and the window is not full.
+     *
+     * @return {@code true} if {@link #nextChunk()} can be invoked
+     */
     boolean canSendNextChunk() {
-        // we only send a false if a chunk is sent but we have not received a reply yet
-        return snapshotBytes != null && (nextChunkHashCode == INITIAL_LAST_CHUNK_HASH_CODE
-                || replyReceivedForOffset == offset);
+        return snapshotBytes != null && unackedChunks.size() < windowSize && nextChunkIndex <= totalChunks;
     }
 
     boolean isLastChunk(final int index) {
         return totalChunks == index;
     }
 
-    void markSendStatus(final boolean success) {
-        if (success) {
-            // if the chunk sent was successful
-            replyReceivedForOffset = offset;
-            replyStatus = true;
-            lastChunkHashCode = nextChunkHashCode;
-        } else {
-            // if the chunk sent was failure, revert offset to previous so we can retry
-            offset = replyReceivedForOffset;
-            replyStatus = false;
-        }
+    /**
+     * Check whether a chunk has been sent and not acknowledged yet.
+     *
+     * @param chunkIndex the index of the chunk
+     * @return {@code true} if the chunk is outstanding
+     */
+    boolean isUnacked(final int chunkIndex) {
+        final var first = unackedChunks.peekFirst();
+        return first != null && chunkIndex >= first.index() && chunkIndex <= unackedChunks.peekLast().index();
     }
 
-    byte[] getNextChunk() throws IOException {
-        // increment offset to indicate next chunk is in flight, canSendNextChunk() wont let us hit this again until,
-        // markSendStatus() is called with either success or failure
-        final var start = incrementOffset();
-        if (replyStatus || currentChunk == null) {
-            int size = snapshotChunkSize;
-            if (snapshotChunkSize > snapshotSize) {
-                size = (int) snapshotSize;
-            } else if (start + snapshotChunkSize > snapshotSize) {
-                size = (int) (snapshotSize - start);
-            }
+    /**
+     * Return the chunks which have been sent, but not acknowledged yet, in the order in which they were sent.
+     *
+     * @return outstanding chunks
+     */
+    @NonNull List<Chunk> unackedChunks() {
+        return List.copyOf(unackedChunks);
+    }
 
-            currentChunk = new byte[size];
-            final var numRead = snapshotInputStream.read(currentChunk);
-            if (numRead != size) {
-                throw new IOException(String.format(
-                        "The # of bytes read from the input stream, %d, does not match the expected # %d",
-                        numRead, size));
-            }
+    /**
+     * Read the next chunk from the snapshot and mark it as outstanding.
+     *
+     * @return the next chunk
+     * @throws IOException if the chunk cannot be read
+     */
+    @NonNull Chunk nextChunk() throws IOException {
+        final int size = (int) Math.min(snapshotChunkSize, snapshotSize - offset);
+        final var data = new byte[size];
+        final int numRead = snapshotInputStream.readNBytes(data, 0, size);
+        if (numRead != size) {
+            throw new IOException(String.format(
+                "The # of bytes read from the input stream, %d, does not match the expected # %d", numRead, size));
+        }
 
-            nextChunkHashCode = Arrays.hashCode(currentChunk);
+        final var chunk = new Chunk(nextChunkIndex, data, lastChunkHashCode);
+        LOG.debug("{}: Next chunk: total length={}, offset={}, size={}, index={}", logName, snapshotSize, offset, size,
+            nextChunkIndex);
 
-            LOG.debug("{}: Next chunk: total length={}, offset={}, size={}, hashCode={}", logName,
-                    snapshotSize, start, size, nextChunkHashCode);
+        offset += size;
+        nextChunkIndex++;
+        lastChunkHashCode = Arrays.hashCode(data);
+        unackedChunks.add(chunk);
+        return chunk;
+    }
+
+    /**
+     * Mark a chunk as acknowledged by the follower. The follower processes chunks in order, hence this acknowledges all
+     * preceding chunks as well. The chunk timer is restarted if there are chunks still outstanding.
+     *
+     * @param chunkIndex the index of the chunk
+     */
+    void markAcked(final int chunkIndex) {
+        while (!unackedChunks.isEmpty() && unackedChunks.peekFirst().index() <= chunkIndex) {
+            unackedChunks.removeFirst();
+        }
+        restarting = false;
+
+        chunkTimer.reset();
+        if (!unackedChunks.isEmpty()) {
+            chunkTimer.start();
         }
+    }
 
-        return currentChunk;
+    /**
+     * Check whether the install has been {@link #reset()} and the follower has not acknowledged any chunk since.
+     * Replies to chunks sent before the reset may still arrive during this time.
+     *
+     * @return {@code true} if the install is being restarted
+     */
+    boolean isRestarting() {
+        return restarting;
     }
 
     /**
@@ -172,13 +213,11 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
         closeStream();
         chunkTimer.reset();
 
-        offset = INITIAL_OFFSET;
-        replyStatus = false;
-        replyReceivedForOffset = INITIAL_OFFSET;
-        chunkIndex = FIRST_CHUNK_INDEX;
-        currentChunk = null;
+        unackedChunks.clear();
+        offset = 0;
+        nextChunkIndex = FIRST_CHUNK_INDEX;
         lastChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
-        nextChunkHashCode = INITIAL_LAST_CHUNK_HASH_CODE;
+        restarting = true;
 
         try {
             snapshotInputStream = snapshotBytes.openStream();
@@ -190,6 +229,7 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
     @Override
     public void close() {
         closeStream();
+        unackedChunks.clear();
         snapshotBytes = null;
     }
 
@@ -205,21 +245,17 @@ public final class LeaderInstallSnapshotState implements AutoCloseable {
         }
     }
 
-    int getLastChunkHashCode() {
-        return lastChunkHashCode;
-    }
-
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("snapshotChunkSize", snapshotChunkSize)
+                .add("windowSize", windowSize)
                 .add("offset", offset)
-                .add("replyReceivedForOffset", replyReceivedForOffset)
-                .add("replyStatus", replyStatus)
-                .add("chunkIndex", chunkIndex)
+                .add("nextChunkIndex", nextChunkIndex)
+                .add("unackedChunks", unackedChunks.size())
                 .add("totalChunks", totalChunks)
                 .add("lastChunkHashCode", lastChunkHashCode)
-                .add("nextChunkHashCode", nextChunkHashCode)
+                .add("restarting", restarting)
                 .add("snapshotSize", snapshotSize)
                 .add("chunkTimer", chunkTimer)
                 .toString();
@@ -41,7 +41,8 @@ class SnapshotTracker implements AutoCloseable {
     }
 
     /**
-     * Adds a chunk to the tracker.
+     * Adds a chunk to the tracker. Chunks which have already been added are ignored, as the leader may resend chunks
+     * which it has not seen acknowledged.
      *
      * @param chunkIndex the index of the chunk
      * @param chunk the chunk data
@@ -60,6 +61,11 @@ class SnapshotTracker implements AutoCloseable {
                     + " all chunks already received");
         }
 
+        if (chunkIndex >= LeaderInstallSnapshotState.FIRST_CHUNK_INDEX && chunkIndex <= lastChunkIndex) {
+            log.debug("addChunk: ignoring duplicate chunkIndex={}", chunkIndex);
+            return false;
+        }
+
         if (lastChunkIndex + 1 != chunkIndex) {
             throw new InvalidChunkException("Expected chunkIndex " + (lastChunkIndex + 1) + " got " + chunkIndex);
         }
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.List;
+import org.apache.commons.lang3.SerializationUtils;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.raft.RaftVersions;
@@ -55,6 +56,10 @@ public final class AppendEntries extends AbstractRaftRPC {
 
     private final String leaderAddress;
 
+    // Serialized form of this message, computed on first use. This allows the same instance to be sent to multiple
+    // followers while being serialized only once, see AppendEntriesSerializer.
+    private transient volatile byte[] serializedForm;
+
     AppendEntries(final long term, @NonNull final String leaderId, final long prevLogIndex,
             final long prevLogTerm, @NonNull final List<ReplicatedLogEntry> entries, final long leaderCommit,
             final long replicatedToAllIndex, final short payloadVersion, final short recipientRaftVersion,
@@ -124,6 +129,20 @@ public final class AppendEntries extends AbstractRaftRPC {
         return leaderRaftVersion;
     }
 
+    /**
+     * Return the serialized form of this message, serializing it if it has not been serialized yet.
+     *
+     * @return serialized form, must not be modified
+     */
+    byte @NonNull [] serializedForm() {
+        var local = serializedForm;
+        if (local == null) {
+            local = SerializationUtils.serialize(this);
+            serializedForm = local;
+        }
+        return local;
+    }
+
     @Override
     public String toString() {
         return "AppendEntries [leaderId=" + leaderId
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft.messages;
+
+import static java.util.Objects.requireNonNull;
+
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.JSerializer;
+import akka.util.ClassLoaderObjectInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Specialized serializer for {@link AppendEntries}. The serialized form is retained in the message, so that a leader
+ * sending the same instance to multiple followers serializes it only once. The format is the same as produced by Java
+ * serialization.
+ *
+ * <p>
+ * Messages are tagged with this serializer's identifier, which members without it cannot decode. The default
+ * configuration therefore registers this serializer, so that all members can receive such messages, but does not bind
+ * {@link AppendEntries} to it. The binding should be enabled only once all members of the cluster have been upgraded.
+ */
+public final class AppendEntriesSerializer extends JSerializer {
+    private final ExtendedActorSystem system;
+
+    public AppendEntriesSerializer(final ExtendedActorSystem system) {
+        this.system = requireNonNull(system);
+    }
+
+    @Override
+    public int identifier() {
+        return 97439501;
+    }
+
+    @Override
+    public boolean includeManifest() {
+        return false;
+    }
+
+    @Override
+    public byte[] toBinary(final Object obj) {
+        if (!(obj instanceof AppendEntries appendEntries)) {
+            throw new IllegalArgumentException("Unsupported object type " + obj.getClass());
+        }
+        return appendEntries.serializedForm();
+    }
+
+    @Override
+    public Object fromBinaryJava(final byte[] bytes, final Class<?> manifest) {
+        try (var is = new ClassLoaderObjectInputStream(system.dynamicAccess().classLoader(),
+                new ByteArrayInputStream(bytes))) {
+            return is.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Failed to deserialize object", e);
+        }
+    }
+}
@@ -7,8 +7,11 @@
  */
 package org.opendaylight.controller.cluster.raft.persisted;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.persistence.IncrementalSnapshot;
 import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
 
 /**
@@ -16,7 +19,7 @@ import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
  *
  * @author Thomas Pantelis
  */
-public final class Snapshot implements Serializable {
+public final class Snapshot implements IncrementalSnapshot, Serializable {
     /**
      * Implementations of this interface are used as the state payload for a snapshot.
      *
@@ -32,6 +35,29 @@ public final class Snapshot implements Serializable {
         default boolean needsMigration() {
             return false;
         }
+
+        /**
+         * Indicate whether this state holds only the changes made since the last full snapshot persisted by this
+         * actor. Such a state can only be used in conjunction with that snapshot, as provided by
+         * {@link #applyTo(Snapshot)}. Default implementation returns false, i.e. this is a full state.
+         *
+         * @return True if this state is a delta
+         */
+        default boolean isDelta() {
+            return false;
+        }
+
+        /**
+         * Apply this state to the full snapshot it was taken against. Default implementation returns this state, as
+         * a full state supersedes any previous state.
+         *
+         * @param base the full snapshot this state was taken against
+         * @return the combined state
+         * @throws IOException if {@code base} is not the snapshot this state was taken against
+         */
+        default @NonNull State applyTo(final @NonNull Snapshot base) throws IOException {
+            return this;
+        }
     }
 
     @java.io.Serial
@@ -46,10 +72,12 @@ public final class Snapshot implements Serializable {
     private final long electionTerm;
     private final String electionVotedFor;
     private final ServerConfigurationPayload serverConfig;
+    // Not serialized: only known for a delta which has been combined with its base
+    private final long baseTimestamp;
 
     private Snapshot(final State state, final List<ReplicatedLogEntry> unAppliedEntries, final long lastIndex,
             final long lastTerm, final long lastAppliedIndex, final long lastAppliedTerm, final long electionTerm,
-            final String electionVotedFor, final ServerConfigurationPayload serverConfig) {
+            final String electionVotedFor, final ServerConfigurationPayload serverConfig, final long baseTimestamp) {
         this.state = state;
         this.unAppliedEntries = unAppliedEntries;
         this.lastIndex = lastIndex;
@@ -59,13 +87,14 @@ public final class Snapshot implements Serializable {
         this.electionTerm = electionTerm;
         this.electionVotedFor = electionVotedFor;
         this.serverConfig = serverConfig;
+        this.baseTimestamp = baseTimestamp;
     }
 
     public static Snapshot create(final State state, final List<ReplicatedLogEntry> entries, final long lastIndex,
             final long lastTerm, final long lastAppliedIndex, final long lastAppliedTerm, final long electionTerm,
             final String electionVotedFor, final ServerConfigurationPayload serverConfig) {
         return new Snapshot(state, entries, lastIndex, lastTerm, lastAppliedIndex, lastAppliedTerm,
-                electionTerm, electionVotedFor, serverConfig);
+                electionTerm, electionVotedFor, serverConfig, -1);
     }
 
     public State getState() {
@@ -104,6 +133,29 @@ public final class Snapshot implements Serializable {
         return serverConfig;
     }
 
+    /**
+     * Return the timestamp of the full snapshot this delta snapshot has been combined with when it was loaded.
+     *
+     * @return the timestamp of the full snapshot, or -1 if not known
+     */
+    public long getBaseTimestamp() {
+        return baseTimestamp;
+    }
+
+    @Override
+    public boolean isDelta() {
+        return state.isDelta();
+    }
+
+    @Override
+    public Snapshot applyTo(final Object base, final long baseTimestamp) throws IOException {
+        if (!(base instanceof Snapshot baseSnapshot)) {
+            throw new IOException("Unexpected base snapshot " + base);
+        }
+        return new Snapshot(state.applyTo(baseSnapshot), unAppliedEntries, lastIndex, lastTerm, lastAppliedIndex,
+            lastAppliedTerm, electionTerm, electionVotedFor, serverConfig, baseTimestamp);
+    }
+
     @Override
     public String toString() {
         return "Snapshot [lastIndex=" + lastIndex + ", lastTerm=" + lastTerm + ", lastAppliedIndex=" + lastAppliedIndex
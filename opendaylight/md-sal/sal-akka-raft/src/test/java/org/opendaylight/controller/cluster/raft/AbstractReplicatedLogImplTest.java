@@ -340,6 +340,15 @@ public class AbstractReplicatedLogImplTest {
             return true;
         }
 
+        @Override
+        public boolean appendAndPersistAll(final List<ReplicatedLogEntry> entries,
+                final Consumer<ReplicatedLogEntry> callback) {
+            if (callback != null && !entries.isEmpty()) {
+                callback.accept(entries.getLast());
+            }
+            return true;
+        }
+
         @Override
         public void captureSnapshotIfReady(final RaftEntryMeta replicatedLogEntry) {
             // No-op
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -202,6 +203,18 @@ public class MockRaftActorContext extends RaftActorContextImpl {
 
             return true;
         }
+
+        @Override
+        public boolean appendAndPersistAll(final List<ReplicatedLogEntry> entries,
+                final Consumer<ReplicatedLogEntry> callback) {
+            entries.forEach(this::append);
+
+            if (callback != null && !entries.isEmpty()) {
+                callback.accept(entries.getLast());
+            }
+
+            return true;
+        }
     }
 
     public static final class MockPayload extends Payload {
@@ -7,12 +7,14 @@
  */
 package org.opendaylight.controller.cluster.raft;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import akka.japi.Procedure;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -97,6 +99,31 @@ public class RaftActorDelegatingPersistentDataProviderTest {
         verify(mockDelegateProvider).persist(OTHER_DATA_OBJECT, mockProcedure);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testPersistAllWithPersistenceEnabled() {
+        doReturn(true).when(mockDelegateProvider).isRecoveryApplicable();
+
+        final var entries = List.of(mockPersistentLogEntry, mockNonPersistentLogEntry);
+        provider.persistAll(entries, mockProcedure);
+        verify(mockDelegateProvider).persistAll(entries, mockProcedure);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testPersistAllWithPersistenceDisabled() throws Exception {
+        doReturn(false).when(mockDelegateProvider).isRecoveryApplicable();
+
+        provider.persistAll(List.of(mockPersistentLogEntry, mockNonPersistentLogEntry), mockProcedure);
+
+        ArgumentCaptor<Procedure> procedureCaptor = ArgumentCaptor.forClass(Procedure.class);
+        verify(mockPersistentProvider).persist(eq(PERSISTENT_PAYLOAD), procedureCaptor.capture());
+        verify(mockDelegateProvider).persist(mockNonPersistentLogEntry, mockProcedure);
+        verify(mockDelegateProvider, never()).persistAll(any(), any());
+        procedureCaptor.getValue().apply(PERSISTENT_PAYLOAD);
+        verify(mockProcedure).apply(mockPersistentLogEntry);
+    }
+
     static class TestNonPersistentPayload extends Payload {
         @java.io.Serial
         private static final long serialVersionUID = 1L;
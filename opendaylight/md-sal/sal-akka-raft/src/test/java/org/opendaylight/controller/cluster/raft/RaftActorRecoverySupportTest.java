@@ -255,6 +255,7 @@ public class RaftActorRecoverySupportTest {
         assertEquals("Election term", electionTerm, context.getTermInformation().getCurrentTerm());
         assertEquals("Election votedFor", electionVotedFor, context.getTermInformation().getVotedFor());
         assertFalse("Dynamic server configuration", context.isDynamicServerConfigurationInUse());
+        assertEquals("Full snapshot timestamp", 12345, context.getSnapshotManager().getFullSnapshotTimestamp());
 
         verify(mockCohort).applyRecoverySnapshot(snapshotState);
     }
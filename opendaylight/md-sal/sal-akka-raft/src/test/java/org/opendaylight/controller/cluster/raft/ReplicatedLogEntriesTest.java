@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.raft;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.raft.MockRaftActorContext.MockPayload;
+import org.opendaylight.controller.cluster.raft.persisted.SimpleReplicatedLogEntry;
+
+public class ReplicatedLogEntriesTest {
+    private final ReplicatedLogEntries entries = new ReplicatedLogEntries();
+
+    @Test
+    public void testEmpty() {
+        assertTrue(entries.isEmpty());
+        assertEquals(0, entries.size());
+        assertEquals(0, entries.dataSize());
+        assertNull(entries.last());
+        assertThrows(IndexOutOfBoundsException.class, () -> entries.get(0));
+    }
+
+    @Test
+    public void testAddAndGrow() {
+        addEntries(0, 100);
+
+        assertEquals(100, entries.size());
+        assertEquals(100 * 10, entries.dataSize());
+        assertEntries(0, 100);
+        assertEquals(99, entries.last().index());
+    }
+
+    @Test
+    public void testRemoveFirstWrapsAround() {
+        addEntries(0, 12);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L),
+            entries.removeFirst(10).stream().map(ReplicatedLogEntry::index).toList());
+        assertEquals(2, entries.size());
+        assertEquals(20, entries.dataSize());
+
+        // These wrap around the end of the backing array ...
+        addEntries(12, 24);
+        assertEntries(10, 24);
+
+        // ... and this forces a resize of a wrapped array
+        addEntries(24, 40);
+        assertEntries(10, 40);
+        assertEquals(30 * 10, entries.dataSize());
+    }
+
+    @Test
+    public void testPrependAll() {
+        addEntries(0, 20);
+        final var removed = entries.removeFirst(15);
+        addEntries(20, 30);
+        entries.prependAll(removed);
+
+        assertEntries(0, 30);
+        assertEquals(30 * 10, entries.dataSize());
+    }
+
+    @Test
+    public void testRemoveFrom() {
+        addEntries(0, 20);
+        entries.removeFrom(5);
+
+        assertEntries(0, 5);
+        assertEquals(50, entries.dataSize());
+        assertThrows(IndexOutOfBoundsException.class, () -> entries.removeFrom(6));
+    }
+
+    @Test
+    public void testRemoveRange() {
+        addEntries(0, 10);
+        entries.removeRange(3, 6);
+
+        assertEquals(7, entries.size());
+        assertEquals(70, entries.dataSize());
+        assertEquals(List.of(0L, 1L, 2L, 6L, 7L, 8L, 9L),
+            entries.copyOf(0, entries.size()).stream().map(ReplicatedLogEntry::index).toList());
+    }
+
+    @Test
+    public void testCopyOf() {
+        addEntries(0, 10);
+        entries.removeFirst(4);
+
+        assertEquals(List.of(5L, 6L, 7L),
+            entries.copyOf(1, 4).stream().map(ReplicatedLogEntry::index).toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> entries.copyOf(2, 7));
+    }
+
+    private void addEntries(final int from, final int to) {
+        for (int i = from; i < to; ++i) {
+            entries.add(new SimpleReplicatedLogEntry(i, 1, new MockPayload(String.valueOf(i), 10)));
+        }
+    }
+
+    private void assertEntries(final int from, final int to) {
+        assertEquals(to - from, entries.size());
+        for (int i = 0; i < entries.size(); ++i) {
+            assertEquals(from + i, entries.get(i).index());
+        }
+    }
+}
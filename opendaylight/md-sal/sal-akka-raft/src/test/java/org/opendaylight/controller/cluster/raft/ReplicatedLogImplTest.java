@@ -8,7 +8,9 @@
 package org.opendaylight.controller.cluster.raft;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -17,6 +19,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import akka.japi.Procedure;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import org.junit.Before;
@@ -169,6 +172,31 @@ public class ReplicatedLogImplTest {
         assertEquals("size", 2, log.size());
     }
 
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void testAppendAndPersistAll() throws Exception {
+        ReplicatedLog log = ReplicatedLogImpl.newInstance(context);
+
+        final ReplicatedLogEntry logEntry1 = new SimpleReplicatedLogEntry(1, 1, new MockPayload("1"));
+        final ReplicatedLogEntry logEntry2 = new SimpleReplicatedLogEntry(2, 1, new MockPayload("2"));
+        final ReplicatedLogEntry logEntry3 = new SimpleReplicatedLogEntry(3, 1, new MockPayload("3"));
+        log.append(logEntry1);
+
+        Consumer<ReplicatedLogEntry> mockCallback = mock(Consumer.class);
+        assertFalse(log.appendAndPersistAll(List.of(logEntry1, logEntry2, logEntry3), mockCallback));
+        assertEquals("size", 3, log.size());
+
+        // A single write of the newly-appended entries
+        ArgumentCaptor<Procedure> procedure = ArgumentCaptor.forClass(Procedure.class);
+        verify(mockPersistence).persistAll(eq(List.of(logEntry2, logEntry3)), procedure.capture());
+
+        // Callback is invoked only once the last entry has been persisted
+        procedure.getValue().apply(logEntry2);
+        verifyNoMoreInteractions(mockCallback);
+        procedure.getValue().apply(logEntry3);
+        verify(mockCallback).accept(same(logEntry3));
+    }
+
     @Test
     public void testRemoveFromAndPersist() throws Exception {
 
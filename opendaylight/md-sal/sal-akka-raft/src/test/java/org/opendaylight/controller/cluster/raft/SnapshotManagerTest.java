@@ -456,6 +456,69 @@ public class SnapshotManagerTest extends AbstractActorTest {
         MessageCollectorActor.expectFirstMatching(actorRef, SnapshotComplete.class);
     }
 
+    @Test
+    public void testCommitDelta() {
+        final var mockCohort = mock(RaftActorSnapshotCohort.class);
+        snapshotManager.setSnapshotCohort(mockCohort);
+        doReturn(50L).when(mockDataPersistenceProvider).getLastSequenceNumber();
+
+        // A full snapshot first ...
+        snapshotManager.capture(new SimpleReplicatedLogEntry(9, 6, new MockRaftActorContext.MockPayload()), -1);
+        snapshotManager.persist(ByteState.empty(), Optional.empty(), Runtime.getRuntime().totalMemory());
+        snapshotManager.commit(100L, 1234L);
+
+        // ... followed by a delta
+        snapshotManager.capture(new SimpleReplicatedLogEntry(19, 6, new MockRaftActorContext.MockPayload()), -1);
+        snapshotManager.persist(new Snapshot.State() {
+            @java.io.Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean isDelta() {
+                return true;
+            }
+        }, Optional.empty(), Runtime.getRuntime().totalMemory());
+        snapshotManager.commit(200L, 2345L);
+
+        final var criteriaCaptor = ArgumentCaptor.forClass(SnapshotSelectionCriteria.class);
+        verify(mockDataPersistenceProvider, times(2)).deleteSnapshots(criteriaCaptor.capture());
+
+        // The full snapshot must be retained, only the deltas since it are deleted
+        final var criteria = criteriaCaptor.getAllValues().get(1);
+        assertEquals(2344L, criteria.maxTimestamp());
+        assertEquals(1235L, criteria.minTimestamp());
+
+        final var snapshotCaptor = ArgumentCaptor.forClass(Snapshot.class);
+        verify(mockCohort, times(2)).snapshotPersisted(snapshotCaptor.capture());
+        assertFalse(snapshotCaptor.getAllValues().get(0).isDelta());
+        assertTrue(snapshotCaptor.getAllValues().get(1).isDelta());
+    }
+
+    @Test
+    public void testCommitDeltaAfterRecovery() {
+        doReturn(50L).when(mockDataPersistenceProvider).getLastSequenceNumber();
+
+        // The full snapshot is known from recovery
+        snapshotManager.setFullSnapshotTimestamp(1234L);
+
+        snapshotManager.capture(new SimpleReplicatedLogEntry(19, 6, new MockRaftActorContext.MockPayload()), -1);
+        snapshotManager.persist(new Snapshot.State() {
+            @java.io.Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean isDelta() {
+                return true;
+            }
+        }, Optional.empty(), Runtime.getRuntime().totalMemory());
+        snapshotManager.commit(200L, 2345L);
+
+        final var criteriaCaptor = ArgumentCaptor.forClass(SnapshotSelectionCriteria.class);
+        verify(mockDataPersistenceProvider).deleteSnapshots(criteriaCaptor.capture());
+        assertEquals(2344L, criteriaCaptor.getValue().maxTimestamp());
+        assertEquals(1235L, criteriaCaptor.getValue().minTimestamp());
+    }
+
     @Test
     public void testCommitBeforePersist() {
         // when replicatedToAllIndex = -1
@@ -29,9 +29,11 @@ import com.google.common.base.Stopwatch;
 import com.google.common.io.ByteSource;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.After;
@@ -1018,6 +1020,56 @@ public class FollowerTest extends AbstractRaftActorBehaviorTest<Follower> {
         assertNull("Expected null SnapshotTracker", follower.getSnapshotTracker());
     }
 
+    @Test
+    public void testInstallSnapshotIgnoresChunksUntilRestart() {
+        logStart("testInstallSnapshotIgnoresChunksUntilRestart");
+
+        MockRaftActorContext context = createActorContext();
+        context.getTermInformation().update(1, "leader");
+
+        follower = createBehavior(context);
+
+        ByteString bsSnapshot = createSnapshot();
+        int chunkSize = bsSnapshot.size() / 3 + 1;
+        byte[] chunk1 = getNextChunk(bsSnapshot, 0, chunkSize);
+        byte[] chunk2 = getNextChunk(bsSnapshot, chunkSize, chunkSize);
+        byte[] chunk3 = getNextChunk(bsSnapshot, chunkSize * 2, chunkSize);
+
+        // The leader sends the whole window, but the second chunk does not match the first one
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, chunk1, 1, 3));
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, chunk2, 2, 3,
+            OptionalInt.of(Arrays.hashCode(chunk1) + 1), Optional.empty(), RaftVersions.CURRENT_VERSION));
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, chunk3, 3, 3));
+
+        // The third chunk is dropped instead of requesting yet another restart
+        MessageCollectorActor.expectMatching(leaderActor, InstallSnapshotReply.class, 2);
+        List<InstallSnapshotReply> replies = MessageCollectorActor.getAllMatching(leaderActor,
+                InstallSnapshotReply.class);
+        assertEquals("InstallSnapshotReply count", 2, replies.size());
+        assertEquals("getChunkIndex", 1, replies.get(0).getChunkIndex());
+        assertEquals("isSuccess", true, replies.get(0).isSuccess());
+        assertEquals("getChunkIndex", -1, replies.get(1).getChunkIndex());
+        assertEquals("isSuccess", false, replies.get(1).isSuccess());
+        assertNull("Expected null SnapshotTracker", follower.getSnapshotTracker());
+
+        // The restarted install completes
+        MessageCollectorActor.clearMessages(leaderActor);
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, chunk1, 1, 3));
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, chunk2, 2, 3));
+        follower.handleMessage(leaderActor, new InstallSnapshot(1, "leader", 3, 1, chunk3, 3, 3));
+
+        ApplySnapshot applySnapshot = MessageCollectorActor.expectFirstMatching(followerActor,
+                ApplySnapshot.class);
+        assertArrayEquals("getState", bsSnapshot.toByteArray(),
+                ((ByteState)applySnapshot.getSnapshot().getState()).getBytes());
+        applySnapshot.getCallback().onSuccess();
+
+        replies = MessageCollectorActor.expectMatching(leaderActor, InstallSnapshotReply.class, 3);
+        for (InstallSnapshotReply reply : replies) {
+            assertEquals("isSuccess", true, reply.isSuccess());
+        }
+    }
+
     @Test
     public void testFollowerSchedulesElectionTimeoutImmediatelyWhenItHasNoPeers() {
         MockRaftActorContext context = createActorContext();
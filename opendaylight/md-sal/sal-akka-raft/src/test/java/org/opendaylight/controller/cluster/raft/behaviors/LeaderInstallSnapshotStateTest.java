@@ -7,12 +7,16 @@
  */
 package org.opendaylight.controller.cluster.raft.behaviors;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import com.google.common.io.ByteSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import org.junit.Test;
 
@@ -38,19 +42,58 @@ public class LeaderInstallSnapshotStateTest {
                     offset = SIZE;
                 }
                 chunkIndex ++;
-                final byte[] chunk = fts.getNextChunk();
-                assertEquals("byte size not matching for chunk:", expectedChunkSize, chunk.length);
-                assertEquals("chunk index not matching", chunkIndex, fts.getChunkIndex());
-                fts.markSendStatus(true);
-                if (!fts.isLastChunk(chunkIndex)) {
-                    fts.incrementChunkIndex();
-                }
+                final var chunk = fts.nextChunk();
+                assertEquals("byte size not matching for chunk:", expectedChunkSize, chunk.data().length);
+                assertEquals("chunk index not matching", chunkIndex, chunk.index());
+                fts.markAcked(chunkIndex);
             }
 
             assertEquals("totalChunks not matching", chunkIndex, fts.getTotalChunks());
         }
     }
 
+    @Test
+    public void testWindow() throws IOException {
+        final var bytes = new byte[250];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+
+        try (var fts = new LeaderInstallSnapshotState(100, 2, "test")) {
+            fts.setSnapshotBytes(ByteSource.wrap(bytes));
+            assertEquals(3, fts.getTotalChunks());
+
+            final var first = fts.nextChunk();
+            assertEquals(1, first.index());
+            assertEquals(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE, first.lastChunkHashCode());
+            assertTrue(fts.canSendNextChunk());
+
+            final var second = fts.nextChunk();
+            assertEquals(2, second.index());
+            assertEquals(Arrays.hashCode(first.data()), second.lastChunkHashCode());
+            assertFalse(fts.canSendNextChunk());
+            assertEquals(List.of(first, second), fts.unackedChunks());
+
+            // Acknowledging the second chunk implies the first one was received, too
+            fts.markAcked(2);
+            assertFalse(fts.isUnacked(1));
+            assertTrue(fts.canSendNextChunk());
+
+            final var third = fts.nextChunk();
+            assertEquals(3, third.index());
+            assertEquals(50, third.data().length);
+            assertTrue(fts.isUnacked(3));
+            assertFalse(fts.canSendNextChunk());
+
+            // Reset starts from the beginning
+            fts.reset();
+            assertEquals(List.of(), fts.unackedChunks());
+            final var again = fts.nextChunk();
+            assertEquals(1, again.index());
+            assertArrayEquals(first.data(), again.data());
+        }
+    }
+
     private static final class MockByteSource extends ByteSource {
         private final long size;
 
@@ -614,8 +614,7 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         leader.getFollower(FOLLOWER_ID).setLeaderInstallSnapshotState(fts);
 
         //send first chunk and no InstallSnapshotReply received yet
-        fts.getNextChunk();
-        fts.incrementChunkIndex();
+        fts.nextChunk();
 
         Uninterruptibles.sleepUninterruptibly(actorContext.getConfigParams().getHeartBeatInterval().toMillis(),
                 TimeUnit.MILLISECONDS);
@@ -627,7 +626,7 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         assertTrue("AppendEntries should be sent with empty entries", ae.getEntries().isEmpty());
 
         //InstallSnapshotReply received
-        fts.markSendStatus(true);
+        fts.markAcked(1);
 
         leader.handleMessage(leaderActor, SendHeartBeat.INSTANCE);
 
@@ -969,16 +968,19 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
                 actorContext.getConfigParams().getMaximumMessageSliceSize(), leader.logName());
         fts.setSnapshotBytes(ByteSource.wrap(bs.toByteArray()));
         leader.getFollower(FOLLOWER_ID).setLeaderInstallSnapshotState(fts);
-        while (!fts.isLastChunk(fts.getChunkIndex())) {
-            fts.getNextChunk();
-            fts.incrementChunkIndex();
+        int lastChunkIndex = 0;
+        while (fts.canSendNextChunk()) {
+            lastChunkIndex = fts.nextChunk().index();
+            if (!fts.isLastChunk(lastChunkIndex)) {
+                fts.markAcked(lastChunkIndex);
+            }
         }
 
         //clears leaders log
         actorContext.getReplicatedLog().removeFrom(0);
 
         RaftActorBehavior raftBehavior = leader.handleMessage(followerActor,
-                new InstallSnapshotReply(currentTerm, FOLLOWER_ID, fts.getChunkIndex(), true));
+                new InstallSnapshotReply(currentTerm, FOLLOWER_ID, lastChunkIndex, true));
 
         assertTrue(raftBehavior instanceof Leader);
 
@@ -1195,6 +1197,163 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         assertEquals(OptionalInt.of(hashCode), installSnapshot.getLastChunkHashCode());
     }
 
+    @Test
+    public void testWindowedInstallSnapshot() {
+        logStart("testWindowedInstallSnapshot");
+
+        MockRaftActorContext actorContext = createActorContextWithFollower();
+
+        final int commitIndex = 3;
+        final int snapshotIndex = 2;
+        final int snapshotTerm = 1;
+        final int currentTerm = 2;
+
+        DefaultConfigParamsImpl configParams = new DefaultConfigParamsImpl() {
+            @Override
+            public int getMaximumMessageSliceSize() {
+                return 50;
+            }
+        };
+        configParams.setInstallSnapshotWindowSize(2);
+        actorContext.setConfigParams(configParams);
+        actorContext.setCommitIndex(commitIndex);
+
+        leader = new Leader(actorContext);
+        actorContext.setCurrentBehavior(leader);
+
+        leader.getFollower(FOLLOWER_ID).setMatchIndex(-1);
+        leader.getFollower(FOLLOWER_ID).setNextIndex(0);
+
+        Map<String, String> leadersSnapshot = new HashMap<>();
+        leadersSnapshot.put("1", "A");
+        leadersSnapshot.put("2", "B");
+        leadersSnapshot.put("3", "C");
+
+        // set the snapshot variables in replicatedlog
+        actorContext.getReplicatedLog().setSnapshotIndex(snapshotIndex);
+        actorContext.getReplicatedLog().setSnapshotTerm(snapshotTerm);
+        actorContext.getTermInformation().update(currentTerm, leaderActor.path().toString());
+
+        ByteString bs = toByteString(leadersSnapshot);
+        Snapshot snapshot = Snapshot.create(ByteState.of(bs.toByteArray()),
+                List.of(), commitIndex, snapshotTerm, commitIndex, snapshotTerm, -1, null, null);
+
+        leader.handleMessage(leaderActor, new SendInstallSnapshot(snapshot, ByteSource.wrap(bs.toByteArray())));
+
+        // Two chunks are sent without waiting for a reply
+        List<InstallSnapshot> installSnapshots = MessageCollectorActor.expectMatching(followerActor,
+                InstallSnapshot.class, 2);
+        assertEquals(1, installSnapshots.get(0).getChunkIndex());
+        assertEquals(2, installSnapshots.get(1).getChunkIndex());
+        assertEquals(3, installSnapshots.get(1).getTotalChunks());
+        assertEquals(OptionalInt.of(Arrays.hashCode(installSnapshots.get(0).getData())),
+                installSnapshots.get(1).getLastChunkHashCode());
+
+        // Acknowledging the first chunk opens the window for the third chunk
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 1, true));
+
+        InstallSnapshot installSnapshot = MessageCollectorActor.expectFirstMatching(followerActor,
+                InstallSnapshot.class);
+        assertEquals(3, installSnapshot.getChunkIndex());
+
+        // A failed second chunk results in all outstanding chunks, i.e. the second and third, being resent
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 2, false));
+
+        installSnapshots = MessageCollectorActor.expectMatching(followerActor, InstallSnapshot.class, 2);
+        assertEquals(2, installSnapshots.get(0).getChunkIndex());
+        assertEquals(3, installSnapshots.get(1).getChunkIndex());
+
+        // Acknowledging the last chunk completes the install
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 3, true));
+
+        FollowerLogInformation fli = leader.getFollower(FOLLOWER_ID);
+        assertNull(fli.getInstallSnapshotState());
+        assertEquals(commitIndex, fli.getMatchIndex());
+        assertEquals(commitIndex + 1, fli.getNextIndex());
+    }
+
+    @Test
+    public void testWindowedInstallSnapshotRestart() {
+        logStart("testWindowedInstallSnapshotRestart");
+
+        MockRaftActorContext actorContext = createActorContextWithFollower();
+
+        final int commitIndex = 3;
+        final int snapshotIndex = 2;
+        final int snapshotTerm = 1;
+        final int currentTerm = 2;
+
+        DefaultConfigParamsImpl configParams = new DefaultConfigParamsImpl() {
+            @Override
+            public int getMaximumMessageSliceSize() {
+                return 50;
+            }
+        };
+        configParams.setInstallSnapshotWindowSize(3);
+        actorContext.setConfigParams(configParams);
+        actorContext.setCommitIndex(commitIndex);
+
+        leader = new Leader(actorContext);
+        actorContext.setCurrentBehavior(leader);
+
+        leader.getFollower(FOLLOWER_ID).setMatchIndex(-1);
+        leader.getFollower(FOLLOWER_ID).setNextIndex(0);
+
+        Map<String, String> leadersSnapshot = new HashMap<>();
+        leadersSnapshot.put("1", "A");
+        leadersSnapshot.put("2", "B");
+        leadersSnapshot.put("3", "C");
+
+        // set the snapshot variables in replicatedlog
+        actorContext.getReplicatedLog().setSnapshotIndex(snapshotIndex);
+        actorContext.getReplicatedLog().setSnapshotTerm(snapshotTerm);
+        actorContext.getTermInformation().update(currentTerm, leaderActor.path().toString());
+
+        ByteString bs = toByteString(leadersSnapshot);
+        Snapshot snapshot = Snapshot.create(ByteState.of(bs.toByteArray()),
+                List.of(), commitIndex, snapshotTerm, commitIndex, snapshotTerm, -1, null, null);
+
+        leader.handleMessage(leaderActor, new SendInstallSnapshot(snapshot, ByteSource.wrap(bs.toByteArray())));
+
+        List<InstallSnapshot> installSnapshots = MessageCollectorActor.expectMatching(followerActor,
+                InstallSnapshot.class, 3);
+        assertEquals(3, installSnapshots.get(2).getChunkIndex());
+
+        // The follower fails to apply the second chunk, which restarts the install
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 1, true));
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, -1, false));
+
+        FollowerLogInformation fli = leader.getFollower(FOLLOWER_ID);
+        assertTrue(fli.getInstallSnapshotState().isRestarting());
+
+        followerActor.underlyingActor().clear();
+        Uninterruptibles.sleepUninterruptibly(actorContext.getConfigParams().getHeartBeatInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+        leader.handleMessage(leaderActor, SendHeartBeat.INSTANCE);
+
+        installSnapshots = MessageCollectorActor.expectMatching(followerActor, InstallSnapshot.class, 3);
+        assertEquals(1, installSnapshots.get(0).getChunkIndex());
+        assertEquals(3, installSnapshots.get(2).getChunkIndex());
+
+        // A stale failure, e.g. for the third chunk of the first attempt, does not reset the install again
+        followerActor.underlyingActor().clear();
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, -1, false));
+        assertTrue(fli.getInstallSnapshotState().isRestarting());
+        assertEquals(3, fli.getInstallSnapshotState().unackedChunks().size());
+        MessageCollectorActor.assertNoneMatching(followerActor, InstallSnapshot.class, 200);
+
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 1, true));
+        assertFalse(fli.getInstallSnapshotState().isRestarting());
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 2, true));
+        leader.handleMessage(followerActor, new InstallSnapshotReply(currentTerm, FOLLOWER_ID, 3, true));
+
+        assertNull(fli.getInstallSnapshotState());
+        assertEquals(commitIndex, fli.getMatchIndex());
+        assertEquals(commitIndex + 1, fli.getNextIndex());
+    }
+
     @Test
     public void testLeaderInstallSnapshotState() throws IOException {
         logStart("testLeaderInstallSnapshotState");
@@ -1221,14 +1380,11 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
                 length = barray.length;
             }
 
-            byte[] chunk = fts.getNextChunk();
-            assertEquals("bytestring size not matching for chunk:" + chunkIndex, length - i, chunk.length);
-            assertEquals("chunkindex not matching", chunkIndex, fts.getChunkIndex());
+            final var chunk = fts.nextChunk();
+            assertEquals("bytestring size not matching for chunk:" + chunkIndex, length - i, chunk.data().length);
+            assertEquals("chunkindex not matching", chunkIndex, chunk.index());
 
-            fts.markSendStatus(true);
-            if (!fts.isLastChunk(chunkIndex)) {
-                fts.incrementChunkIndex();
-            }
+            fts.markAcked(chunkIndex);
         }
 
         assertEquals("totalChunks not matching", chunkIndex, fts.getTotalChunks());
@@ -2089,6 +2245,38 @@ public class LeaderTest extends AbstractLeaderTest<Leader> {
         MessageCollectorActor.expectFirstMatching(leaderActor, ApplyState.class);
     }
 
+    @Test
+    public void testCommitIndexAdvancedToMajorityMatchIndex() {
+        logStart("testCommitIndexAdvancedToMajorityMatchIndex");
+
+        MockRaftActorContext leaderActorContext = createActorContextWithFollower();
+        ((DefaultConfigParamsImpl)leaderActorContext.getConfigParams()).setHeartBeatInterval(
+                new FiniteDuration(1000, TimeUnit.SECONDS));
+        leaderActorContext.getTermInformation().update(1, "");
+        leaderActorContext.setReplicatedLog(
+                new MockRaftActorContext.MockReplicatedLogBuilder().createEntries(0, 10, 1).build());
+        leaderActorContext.setCommitIndex(-1);
+        leaderActorContext.setLastApplied(-1);
+
+        String follower2Id = "follower2";
+        ActorRef follower2Actor = actorFactory.createActor(
+                MessageCollectorActor.props(), actorFactory.generateActorId(follower2Id));
+        leaderActorContext.addToPeers(follower2Id, follower2Actor.path().toString(), VotingState.VOTING);
+
+        leader = new Leader(leaderActorContext);
+        leaderActorContext.setCurrentBehavior(leader);
+
+        // With 3 voting members an acknowledgement from a single follower reaches consensus
+        leader.handleMessage(leaderActor, new AppendEntriesReply(FOLLOWER_ID, 1, true, 6, 1, (short)0));
+        assertEquals("Commit index", 6, leaderActorContext.getCommitIndex());
+
+        leader.handleMessage(leaderActor, new AppendEntriesReply(follower2Id, 1, true, 3, 1, (short)0));
+        assertEquals("Commit index", 6, leaderActorContext.getCommitIndex());
+
+        leader.handleMessage(leaderActor, new AppendEntriesReply(follower2Id, 1, true, 9, 1, (short)0));
+        assertEquals("Commit index", 9, leaderActorContext.getCommitIndex());
+    }
+
     @Test
     public void testTransferLeadershipWithFollowerInSync() {
         logStart("testTransferLeadershipWithFollowerInSync");
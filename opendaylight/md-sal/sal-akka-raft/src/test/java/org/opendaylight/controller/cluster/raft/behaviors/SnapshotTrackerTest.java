@@ -8,6 +8,8 @@
 package org.opendaylight.controller.cluster.raft.behaviors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -92,6 +94,20 @@ public class SnapshotTrackerTest {
         }
     }
 
+    @Test
+    public void testDuplicateChunk() throws IOException {
+        try (SnapshotTracker tracker = new SnapshotTracker(LOG, 3, "leader", mockContext)) {
+            tracker.addChunk(1, chunk1, OptionalInt.of(LeaderInstallSnapshotState.INITIAL_LAST_CHUNK_HASH_CODE));
+            tracker.addChunk(2, chunk2, OptionalInt.of(Arrays.hashCode(chunk1)));
+            // Resent chunk is ignored
+            assertFalse(tracker.addChunk(2, chunk2, OptionalInt.of(Arrays.hashCode(chunk1))));
+            assertTrue(tracker.addChunk(3, chunk3, OptionalInt.of(Arrays.hashCode(chunk2))));
+
+            ByteSource snapshotBytes = tracker.getSnapshotBytes();
+            assertEquals("Deserialized", data, SerializationUtils.deserialize(snapshotBytes.read()));
+        }
+    }
+
     @Test(expected = SnapshotTracker.InvalidChunkException.class)
     public void testOutOfSequenceChunk() throws IOException {
         try (SnapshotTracker tracker = new SnapshotTracker(LOG, 2, "leader", mockContext)) {
@@ -7,8 +7,12 @@
  */
 package org.opendaylight.controller.cluster.raft.messages;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
 import java.util.Iterator;
 import java.util.List;
 import org.apache.commons.lang3.SerializationUtils;
@@ -55,6 +59,28 @@ public class AppendEntriesTest {
         verifyAppendEntries(expected, cloned, RaftVersions.CURRENT_VERSION);
     }
 
+    @Test
+    public void testSerializer() {
+        final var expected = new AppendEntries(5L, "node1", 7L, 8L,
+            List.of(new SimpleReplicatedLogEntry(1, 2, new MockPayload("payload1"))), 10L, -1, (short) 5,
+            RaftVersions.CURRENT_VERSION, null);
+
+        final var system = (ExtendedActorSystem) ExtendedActorSystem.create("test");
+        final Object deserialized;
+        try {
+            final var serializer = new AppendEntriesSerializer(system);
+            final byte[] bytes = serializer.toBinary(expected);
+            assertArrayEquals(SerializationUtils.serialize(expected), bytes);
+            // The serialized form is reused
+            assertSame(bytes, serializer.toBinary(expected));
+            deserialized = serializer.fromBinary(bytes, AppendEntries.class);
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+
+        verifyAppendEntries(expected, (AppendEntries) deserialized, RaftVersions.CURRENT_VERSION);
+    }
+
     private static void verifyAppendEntries(final AppendEntries expected, final AppendEntries actual,
             final short recipientRaftVersion) {
         assertEquals("getLeaderId", expected.getLeaderId(), actual.getLeaderId());
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.akka.segjournal;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.JavaSerializer;
+import com.google.common.base.VerifyException;
+import io.atomix.storage.journal.JournalSerdes.EntryInput;
+import io.atomix.storage.journal.JournalSerdes.EntryOutput;
+import io.atomix.storage.journal.JournalSerdes.EntrySerdes;
+import java.io.IOException;
+import java.util.UUID;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.opendaylight.controller.akka.segjournal.DataJournalEntry.FromPersistence;
+import org.opendaylight.controller.akka.segjournal.DataJournalEntry.ToCompactPersistence;
+
+/**
+ * Compact serializer for {@link DataJournalEntry}. It is registered alongside {@link DataJournalEntrySerdes} and is
+ * used to write {@link ToCompactPersistence} entries. Each entry is self-contained and has the following format:
+ * <ul>
+ *   <li>{@code flags} (variable-length integer), a combination of {@link #FLAG_BINARY_UUID} and {@link #FLAG_LZ4}</li>
+ *   <li>{@code manifest} (string)</li>
+ *   <li>{@code writerUuid}, either as two longs if {@link #FLAG_BINARY_UUID} is set, or as a string</li>
+ *   <li>{@code length} (variable-length integer) of the stored payload</li>
+ *   <li>{@code uncompressedLength} (variable-length integer) of the payload, present only if {@link #FLAG_LZ4} is set
+ *   </li>
+ *   <li>{@code payload} bytes, Java-serialized and optionally LZ4-compressed</li>
+ * </ul>
+ */
+final class CompactDataJournalEntrySerdes implements EntrySerdes<DataJournalEntry> {
+    /**
+     * The writer UUID is stored as two longs rather than as a string.
+     */
+    static final int FLAG_BINARY_UUID = 0x01;
+    /**
+     * The payload is LZ4-compressed.
+     */
+    static final int FLAG_LZ4 = 0x02;
+
+    // Payloads smaller than this are not worth compressing
+    private static final int MIN_COMPRESS_SIZE = 256;
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    // The writer UUID is constant for each incarnation of the writer, hence we remember the last one we have seen
+    private record CachedUuid(String string, long msb, long lsb) {
+        // Nothing else
+    }
+
+    private final LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4_FACTORY.safeDecompressor();
+    private final JavaSerializer javaSerializer;
+
+    // Not volatile, as it is just a cache of an immutable object
+    private CachedUuid lastUuid = new CachedUuid("", 0, 0);
+
+    CompactDataJournalEntrySerdes(final ActorSystem actorSystem) {
+        javaSerializer = new JavaSerializer((ExtendedActorSystem) actorSystem);
+    }
+
+    @Override
+    public void write(final EntryOutput output, final DataJournalEntry entry) throws IOException {
+        if (!(entry instanceof ToCompactPersistence toPersistence)) {
+            throw new VerifyException("Unexpected entry " + entry);
+        }
+
+        final var repr = toPersistence.repr();
+        final var uuid = toBinaryUuid(repr.writerUuid());
+        final var payload = javaSerializer.toBinary(repr.payload());
+        final var compressed = compress(payload);
+
+        output.writeVarInt((uuid != null ? FLAG_BINARY_UUID : 0) | (compressed != null ? FLAG_LZ4 : 0));
+        output.writeString(repr.manifest());
+        if (uuid != null) {
+            output.writeLong(uuid.msb);
+            output.writeLong(uuid.lsb);
+        } else {
+            output.writeString(repr.writerUuid());
+        }
+        if (compressed != null) {
+            output.writeVarInt(compressed.length);
+            output.writeVarInt(payload.length);
+            output.writeBytes(compressed);
+        } else {
+            output.writeVarInt(payload.length);
+            output.writeBytes(payload);
+        }
+    }
+
+    @Override
+    public DataJournalEntry read(final EntryInput input) throws IOException {
+        final int flags = input.readVarInt();
+        final var manifest = input.readString();
+        final var writerUuid = (flags & FLAG_BINARY_UUID) != 0 ? fromBinaryUuid(input.readLong(), input.readLong())
+            : input.readString();
+
+        final int length = input.readVarInt();
+        final byte[] payload;
+        if ((flags & FLAG_LZ4) != 0) {
+            final int uncompressedLength = input.readVarInt();
+            payload = decompress(input.readBytes(length), uncompressedLength);
+        } else {
+            payload = input.readBytes(length);
+        }
+
+        return new FromPersistence(manifest, writerUuid, javaSerializer.fromBinary(payload));
+    }
+
+    private CachedUuid toBinaryUuid(final String writerUuid) {
+        final var cached = lastUuid;
+        if (cached.string.equals(writerUuid)) {
+            return cached;
+        }
+
+        final UUID uuid;
+        try {
+            uuid = UUID.fromString(writerUuid);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        // UUID.fromString() is lenient, make sure we can reproduce the string exactly
+        if (!writerUuid.equals(uuid.toString())) {
+            return null;
+        }
+
+        final var ret = new CachedUuid(writerUuid, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        lastUuid = ret;
+        return ret;
+    }
+
+    private String fromBinaryUuid(final long msb, final long lsb) {
+        final var cached = lastUuid;
+        if (cached.msb == msb && cached.lsb == lsb && !cached.string.isEmpty()) {
+            return cached.string;
+        }
+
+        final var string = new UUID(msb, lsb).toString();
+        lastUuid = new CachedUuid(string, msb, lsb);
+        return string;
+    }
+
+    private byte[] compress(final byte[] payload) {
+        if (payload.length < MIN_COMPRESS_SIZE) {
+            return null;
+        }
+        final var compressed = compressor.compress(payload);
+        return compressed.length < payload.length ? compressed : null;
+    }
+
+    private byte[] decompress(final byte[] compressed, final int uncompressedLength) throws IOException {
+        final byte[] ret;
+        try {
+            ret = decompressor.decompress(compressed, uncompressedLength);
+        } catch (LZ4Exception e) {
+            throw new IOException("Failed to decompress payload", e);
+        }
+        if (ret.length != uncompressedLength) {
+            throw new IOException("Expected " + uncompressedLength + " payload bytes, got " + ret.length);
+        }
+        return ret;
+    }
+}
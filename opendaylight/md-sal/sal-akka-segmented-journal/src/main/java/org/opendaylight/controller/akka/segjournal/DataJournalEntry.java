@@ -20,7 +20,7 @@ abstract sealed class DataJournalEntry {
     /**
      * A single data journal entry on its way to the backing file.
      */
-    static final class ToPersistence extends DataJournalEntry {
+    static sealed class ToPersistence extends DataJournalEntry permits ToCompactPersistence {
         private final PersistentRepr repr;
 
         ToPersistence(final PersistentRepr repr) {
@@ -32,6 +32,16 @@ abstract sealed class DataJournalEntry {
         }
     }
 
+    /**
+     * A single data journal entry on its way to the backing file, to be stored in the compact format implemented by
+     * {@link CompactDataJournalEntrySerdes}.
+     */
+    static final class ToCompactPersistence extends ToPersistence {
+        ToCompactPersistence(final PersistentRepr repr) {
+            super(repr);
+        }
+    }
+
     /**
      * A single data journal entry on its way from the backing file.
      */
@@ -10,6 +10,7 @@ package org.opendaylight.controller.akka.segjournal;
 import akka.actor.ActorSystem;
 import akka.persistence.PersistentRepr;
 import com.codahale.metrics.Histogram;
+import com.google.common.base.Throwables;
 import com.google.common.base.VerifyException;
 import io.atomix.storage.journal.JournalReader;
 import io.atomix.storage.journal.JournalSerdes;
@@ -17,15 +18,27 @@ import io.atomix.storage.journal.JournalWriter;
 import io.atomix.storage.journal.SegmentedByteBufJournal;
 import io.atomix.storage.journal.SegmentedJournal;
 import io.atomix.storage.journal.StorageLevel;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.akka.segjournal.DataJournalEntry.FromPersistence;
+import org.opendaylight.controller.akka.segjournal.DataJournalEntry.ToCompactPersistence;
 import org.opendaylight.controller.akka.segjournal.DataJournalEntry.ToPersistence;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.ReplayMessages;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.WriteMessages;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.WrittenMessages;
+import org.opendaylight.controller.raft.journal.EntryReader;
+import org.opendaylight.controller.raft.journal.FromByteBufMapper;
+import org.opendaylight.controller.raft.journal.RaftJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.jdk.javaapi.CollectionConverters;
@@ -35,24 +48,53 @@ import scala.jdk.javaapi.CollectionConverters;
  */
 final class DataJournalV0 extends DataJournal {
     private static final Logger LOG = LoggerFactory.getLogger(DataJournalV0.class);
+    // Maximum number of entries deserialized by a single replay task
+    private static final int REPLAY_BATCH_ENTRIES = 64;
+    // Maximum number of bytes deserialized by a single replay task
+    private static final int REPLAY_BATCH_BYTES = 1024 * 1024;
+    // Maximum number of replay tasks in flight
+    private static final int REPLAY_WINDOW = 16;
+
+    /**
+     * A copy of an entry's bytes. We need to copy them, as the reader is free to reuse its buffer once we move to the
+     * next entry.
+     */
+    private record RawEntry(long index, byte @NonNull [] bytes) {
+        // Nothing else
+    }
 
     private final SegmentedJournal<DataJournalEntry> entries;
+    private final RaftJournal journal;
+    private final FromByteBufMapper<DataJournalEntry> readMapper;
+    private final @Nullable Executor replayExecutor;
+    private final boolean useLz4Compression;
 
     DataJournalV0(final String persistenceId, final Histogram messageSize, final ActorSystem system,
-            final StorageLevel storage, final File directory, final int maxEntrySize, final int maxSegmentSize) {
+            final StorageLevel storage, final File directory, final int maxEntrySize, final int maxSegmentSize,
+            final boolean groupCommit, final boolean preallocateSegments, final boolean useLz4Compression,
+            final @Nullable Executor replayExecutor) {
         super(persistenceId, messageSize);
+        this.useLz4Compression = useLz4Compression;
+        this.replayExecutor = replayExecutor;
 
+        // Both formats are always registered, so that we can read entries written with either of them
         final var serdes = JournalSerdes.builder()
             .register(new DataJournalEntrySerdes(system), FromPersistence.class, ToPersistence.class)
+            .register(new CompactDataJournalEntrySerdes(system), ToCompactPersistence.class)
             .build();
 
-        entries = new SegmentedJournal<>(SegmentedByteBufJournal.builder()
+        journal = SegmentedByteBufJournal.builder()
             .withDirectory(directory)
             .withName("data")
             .withStorageLevel(storage)
             .withMaxEntrySize(maxEntrySize)
             .withMaxSegmentSize(maxSegmentSize)
-            .build(), serdes.toReadMapper(), serdes.toWriteMapper());
+            .withGroupCommit(groupCommit)
+            .withSegmentPreallocation(preallocateSegments)
+            .withIndexFiles()
+            .build();
+        readMapper = serdes.toReadMapper();
+        entries = new SegmentedJournal<>(journal, readMapper, serdes.toWriteMapper());
     }
 
     @Override
@@ -84,8 +126,17 @@ final class DataJournalV0 extends DataJournal {
     @Override
     @SuppressWarnings("checkstyle:illegalCatch")
     void handleReplayMessages(final ReplayMessages message, final long fromSequenceNr) {
-        try (var reader = entries.openReader(fromSequenceNr)) {
-            handleReplayMessages(reader, message);
+        final var executor = replayExecutor;
+        try {
+            if (executor != null) {
+                try (var reader = journal.openReader(fromSequenceNr)) {
+                    handleReplayMessages(reader, message, executor);
+                }
+            } else {
+                try (var reader = entries.openReader(fromSequenceNr)) {
+                    handleReplayMessages(reader, message);
+                }
+            }
         } catch (Exception e) {
             LOG.warn("{}: failed to replay messages for {}", persistenceId, message, e);
             message.promise.failure(e);
@@ -94,6 +145,80 @@ final class DataJournalV0 extends DataJournal {
         }
     }
 
+    /**
+     * Replay messages, deserializing them on specified executor. Entry bytes are read here in batches, which are then
+     * deserialized concurrently. Resulting messages are handed to the replay callback on this thread, in journal order.
+     */
+    private void handleReplayMessages(final EntryReader reader, final ReplayMessages message,
+            final Executor executor) {
+        final var pending = new ArrayDeque<CompletableFuture<List<PersistentRepr>>>(REPLAY_WINDOW);
+        long remaining = message.max;
+        boolean exhausted = false;
+        int count = 0;
+
+        while (true) {
+            // Keep the window full
+            while (!exhausted && pending.size() < REPLAY_WINDOW) {
+                final var batch = new ArrayList<RawEntry>();
+                int batchBytes = 0;
+                while (batch.size() < REPLAY_BATCH_ENTRIES && batchBytes < REPLAY_BATCH_BYTES) {
+                    if (remaining <= 0 || reader.nextIndex() > message.toSequenceNr) {
+                        exhausted = true;
+                        break;
+                    }
+                    final var entry = reader.tryNext(
+                        (index, bytes) -> new RawEntry(index, ByteBufUtil.getBytes(bytes)));
+                    if (entry == null) {
+                        exhausted = true;
+                        break;
+                    }
+
+                    updateLargestSize(entry.bytes.length);
+                    batch.add(entry);
+                    batchBytes += entry.bytes.length;
+                    remaining--;
+                }
+
+                if (!batch.isEmpty()) {
+                    pending.add(CompletableFuture.supplyAsync(() -> toReprs(batch), executor));
+                }
+            }
+
+            final var head = pending.poll();
+            if (head == null) {
+                break;
+            }
+
+            final List<PersistentRepr> reprs;
+            try {
+                reprs = head.join();
+            } catch (CompletionException e) {
+                // Report the deserialization failure itself
+                Throwables.throwIfUnchecked(e.getCause());
+                throw e;
+            }
+            for (var repr : reprs) {
+                LOG.debug("{}: replaying {}", persistenceId, repr);
+                message.replayCallback.accept(repr);
+                count++;
+            }
+        }
+        LOG.debug("{}: successfully replayed {} entries", persistenceId, count);
+    }
+
+    private List<PersistentRepr> toReprs(final List<RawEntry> batch) {
+        final var ret = new ArrayList<PersistentRepr>(batch.size());
+        for (var raw : batch) {
+            final var entry = readMapper.bytesToObject(raw.index, Unpooled.wrappedBuffer(raw.bytes));
+            LOG.trace("{}: replay index={} entry={}", persistenceId, raw.index, entry);
+            if (!(entry instanceof FromPersistence fromPersistence)) {
+                throw new VerifyException("Unexpected entry " + entry);
+            }
+            ret.add(fromPersistence.toRepr(persistenceId, raw.index));
+        }
+        return ret;
+    }
+
     private void handleReplayMessages(final JournalReader<DataJournalEntry> reader, final ReplayMessages message) {
         int count = 0;
         while (count < message.max && reader.getNextIndex() <= message.toSequenceNr) {
@@ -156,7 +281,8 @@ final class DataJournalV0 extends DataJournal {
             }
 
             LOG.trace("{}: starting append of {}", persistenceId, payload);
-            final var entry = writer.append(new ToPersistence(repr));
+            final var entry = writer.append(useLz4Compression ? new ToCompactPersistence(repr)
+                : new ToPersistence(repr));
             final int size = entry.size();
             LOG.trace("{}: finished append of {} with {} bytes at {}", persistenceId, payload, size, entry.index());
             recordMessageSize(size);
@@ -16,6 +16,7 @@ import akka.dispatch.Futures;
 import akka.persistence.AtomicWrite;
 import akka.persistence.PersistentRepr;
 import akka.persistence.journal.japi.AsyncWriteJournal;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.typesafe.config.Config;
 import io.atomix.storage.journal.SegmentedJournal;
 import io.atomix.storage.journal.StorageLevel;
@@ -26,7 +27,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.AsyncMessage;
 import org.opendaylight.controller.akka.segjournal.SegmentedJournalActor.WriteMessages;
 import org.slf4j.Logger;
@@ -46,6 +50,10 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
     public static final int STORAGE_MAX_SEGMENT_SIZE_DEFAULT = STORAGE_MAX_ENTRY_SIZE_DEFAULT * 8;
     public static final String STORAGE_MAX_UNFLUSHED_BYTES = "max-unflushed-bytes";
     public static final String STORAGE_MEMORY_MAPPED = "memory-mapped";
+    public static final String STORAGE_GROUP_COMMIT = "group-commit";
+    public static final String STORAGE_PREALLOCATE_SEGMENTS = "preallocate-segments";
+    public static final String STORAGE_USE_LZ4_COMPRESSION = "use-lz4-compression";
+    public static final String STORAGE_REPLAY_PARALLELISM = "replay-parallelism";
 
     private static final Logger LOG = LoggerFactory.getLogger(SegmentedFileJournal.class);
 
@@ -55,6 +63,10 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
     private final int maxEntrySize;
     private final int maxSegmentSize;
     private final int maxUnflushedBytes;
+    private final boolean groupCommit;
+    private final boolean preallocateSegments;
+    private final boolean useLz4Compression;
+    private final @Nullable ExecutorService replayExecutor;
 
     public SegmentedFileJournal(final Config config) {
         rootDir = new File(config.getString(STORAGE_ROOT_DIRECTORY));
@@ -73,8 +85,38 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
         } else {
             storage = StorageLevel.DISK;
         }
+        groupCommit = config.hasPath(STORAGE_GROUP_COMMIT) && config.getBoolean(STORAGE_GROUP_COMMIT);
+        preallocateSegments = config.hasPath(STORAGE_PREALLOCATE_SEGMENTS)
+            && config.getBoolean(STORAGE_PREALLOCATE_SEGMENTS);
+        useLz4Compression = config.hasPath(STORAGE_USE_LZ4_COMPRESSION)
+            && config.getBoolean(STORAGE_USE_LZ4_COMPRESSION);
+
+        final int replayParallelism = config.hasPath(STORAGE_REPLAY_PARALLELISM)
+            ? config.getInt(STORAGE_REPLAY_PARALLELISM) : 0;
+        if (replayParallelism > 1) {
+            replayExecutor = Executors.newFixedThreadPool(replayParallelism, new ThreadFactoryBuilder()
+                .setNameFormat("segmented-journal-replay-%d")
+                .setDaemon(true)
+                .build());
+        } else {
+            replayExecutor = null;
+        }
+
+        LOG.info("Initialized with root directory {} with storage {}{}{}{}{}", rootDir, storage,
+            groupCommit ? " and group commit" : "", preallocateSegments ? " and segment preallocation" : "",
+            useLz4Compression ? " and LZ4 compression" : "",
+            replayExecutor != null ? " and " + replayParallelism + " replay threads" : "");
+    }
 
-        LOG.info("Initialized with root directory {} with storage {}", rootDir, storage);
+    @Override
+    public void postStop() throws Exception {
+        try {
+            super.postStop();
+        } finally {
+            if (replayExecutor != null) {
+                replayExecutor.shutdownNow();
+            }
+        }
     }
 
     @Override
@@ -120,7 +162,8 @@ public class SegmentedFileJournal extends AsyncWriteJournal {
         LOG.debug("Creating handler for {} in directory {}", persistenceId, directory);
 
         final var handler = context().actorOf(SegmentedJournalActor.props(persistenceId, directory, storage,
-            maxEntrySize, maxSegmentSize, maxUnflushedBytes));
+            maxEntrySize, maxSegmentSize, maxUnflushedBytes, groupCommit, preallocateSegments, useLz4Compression,
+            replayExecutor));
         LOG.debug("Directory {} handled by {}", directory, handler);
         return handler;
     }
@@ -33,8 +33,10 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.common.actor.MeteringBehavior;
 import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.opendaylight.controller.raft.journal.FromByteBufMapper;
@@ -185,6 +187,10 @@ abstract sealed class SegmentedJournalActor extends AbstractActor {
      * <p>
      * The combination of these mechanisms ensure we use a minimal delay while also ensuring we take advantage of
      * batching opportunities.
+     *
+     * <p>
+     * This actor is also used when group commit is enabled, so that all {@link WriteMessages} queued in the mailbox
+     * are written out and synced to storage by a single flush before any of them is completed.
      */
     private static final class Delayed extends SegmentedJournalActor {
         private static final class Flush extends AsyncMessage<Void> {
@@ -210,8 +216,11 @@ abstract sealed class SegmentedJournalActor extends AbstractActor {
         private long unflushedBytes = 0;
 
         Delayed(final String persistenceId, final File directory, final StorageLevel storage,
-                final int maxEntrySize, final int maxSegmentSize, final int maxUnflushedBytes) {
-            super(persistenceId, directory, storage, maxEntrySize, maxSegmentSize);
+                final int maxEntrySize, final int maxSegmentSize, final int maxUnflushedBytes,
+                final boolean groupCommit, final boolean preallocateSegments, final boolean useLz4Compression,
+                final @Nullable Executor replayExecutor) {
+            super(persistenceId, directory, storage, maxEntrySize, maxSegmentSize, groupCommit, preallocateSegments,
+                useLz4Compression, replayExecutor);
             this.maxUnflushedBytes = maxUnflushedBytes;
         }
 
@@ -268,8 +277,11 @@ abstract sealed class SegmentedJournalActor extends AbstractActor {
 
     private static final class Immediate extends SegmentedJournalActor {
         Immediate(final String persistenceId, final File directory, final StorageLevel storage,
-                final int maxEntrySize, final int maxSegmentSize) {
-            super(persistenceId, directory, storage, maxEntrySize, maxSegmentSize);
+                final int maxEntrySize, final int maxSegmentSize, final boolean groupCommit,
+                final boolean preallocateSegments, final boolean useLz4Compression,
+                final @Nullable Executor replayExecutor) {
+            super(persistenceId, directory, storage, maxEntrySize, maxSegmentSize, groupCommit, preallocateSegments,
+                useLz4Compression, replayExecutor);
         }
 
         @Override
@@ -302,6 +314,10 @@ abstract sealed class SegmentedJournalActor extends AbstractActor {
     private final StorageLevel storage;
     private final int maxSegmentSize;
     private final int maxEntrySize;
+    private final boolean groupCommit;
+    private final boolean preallocateSegments;
+    private final boolean useLz4Compression;
+    private final @Nullable Executor replayExecutor;
     private final File directory;
 
     // Tracks the time it took us to write a batch of messages
@@ -322,20 +338,37 @@ abstract sealed class SegmentedJournalActor extends AbstractActor {
     private long lastDelete;
 
     private SegmentedJournalActor(final String persistenceId, final File directory, final StorageLevel storage,
-            final int maxEntrySize, final int maxSegmentSize) {
+            final int maxEntrySize, final int maxSegmentSize, final boolean groupCommit,
+            final boolean preallocateSegments, final boolean useLz4Compression,
+            final @Nullable Executor replayExecutor) {
         this.persistenceId = requireNonNull(persistenceId);
         this.directory = requireNonNull(directory);
         this.storage = requireNonNull(storage);
         this.maxEntrySize = maxEntrySize;
         this.maxSegmentSize = maxSegmentSize;
+        this.groupCommit = groupCommit;
+        this.preallocateSegments = preallocateSegments;
+        this.useLz4Compression = useLz4Compression;
+        this.replayExecutor = replayExecutor;
     }
 
     static Props props(final String persistenceId, final File directory, final StorageLevel storage,
-            final int maxEntrySize, final int maxSegmentSize, final int maxUnflushedBytes) {
+            final int maxEntrySize, final int maxSegmentSize, final int maxUnflushedBytes, final boolean groupCommit,
+            final boolean preallocateSegments, final boolean useLz4Compression,
+            final @Nullable Executor replayExecutor) {
         final var pid = requireNonNull(persistenceId);
-        return maxUnflushedBytes > 0
-            ? Props.create(Delayed.class, pid, directory, storage, maxEntrySize, maxSegmentSize, maxUnflushedBytes)
-            : Props.create(Immediate.class, pid, directory, storage, maxEntrySize, maxSegmentSize);
+        if (maxUnflushedBytes > 0) {
+            return Props.create(Delayed.class, pid, directory, storage, maxEntrySize, maxSegmentSize,
+                maxUnflushedBytes, groupCommit, preallocateSegments, useLz4Compression, replayExecutor);
+        }
+        if (groupCommit) {
+            // Group commit needs to gather writes across requests, hence it always delays flushes, up to a single
+            // maximum-sized entry
+            return Props.create(Delayed.class, pid, directory, storage, maxEntrySize, maxSegmentSize, maxEntrySize,
+                true, preallocateSegments, useLz4Compression, replayExecutor);
+        }
+        return Props.create(Immediate.class, pid, directory, storage, maxEntrySize, maxSegmentSize, false,
+            preallocateSegments, useLz4Compression, replayExecutor);
     }
 
     final String persistenceId() {
@@ -515,7 +548,7 @@ abstract sealed class SegmentedJournalActor extends AbstractActor {
         lastDelete = lastDeleteRecovered == null ? 0 : lastDeleteRecovered;
 
         dataJournal = new DataJournalV0(persistenceId, messageSize, context().system(), storage, directory,
-            maxEntrySize, maxSegmentSize);
+            maxEntrySize, maxSegmentSize, groupCommit, preallocateSegments, useLz4Compression, replayExecutor);
         dataJournal.deleteTo(lastDelete);
         LOG.debug("{}: journal open in {} with last index {}, deleted to {}", persistenceId, sw,
             dataJournal.lastWrittenSequenceNr(), lastDelete);
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.akka.segjournal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import akka.actor.ActorSystem;
+import akka.persistence.PersistentRepr;
+import akka.testkit.javadsl.TestKit;
+import io.atomix.storage.journal.JournalSerdes;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.controller.akka.segjournal.DataJournalEntry.FromPersistence;
+import org.opendaylight.controller.akka.segjournal.DataJournalEntry.ToCompactPersistence;
+import org.opendaylight.controller.akka.segjournal.DataJournalEntry.ToPersistence;
+
+class CompactDataJournalEntrySerdesTest {
+    private static ActorSystem SYSTEM;
+    private static JournalSerdes SERDES;
+
+    @BeforeAll
+    static void beforeClass() {
+        SYSTEM = ActorSystem.create("test");
+        SERDES = JournalSerdes.builder()
+            .register(new DataJournalEntrySerdes(SYSTEM), FromPersistence.class, ToPersistence.class)
+            .register(new CompactDataJournalEntrySerdes(SYSTEM), ToCompactPersistence.class)
+            .build();
+    }
+
+    @AfterAll
+    static void afterClass() {
+        TestKit.shutdownActorSystem(SYSTEM);
+        SYSTEM = null;
+        SERDES = null;
+    }
+
+    @Test
+    void testCompressedPayload() {
+        final var uuid = UUID.randomUUID().toString();
+        final var payload = "a".repeat(16384);
+        final var compact = SERDES.serialize(new ToCompactPersistence(repr(payload, uuid)));
+        final var legacy = SERDES.serialize(new ToPersistence(repr(payload, uuid)));
+        assertTrue(compact.length < legacy.length / 10, "Compact entry is " + compact.length + " bytes");
+
+        assertRepr(payload, uuid, SERDES.deserialize(compact));
+        assertRepr(payload, uuid, SERDES.deserialize(legacy));
+    }
+
+    @Test
+    void testSmallPayload() {
+        final var uuid = UUID.randomUUID().toString();
+        final var compact = SERDES.serialize(new ToCompactPersistence(repr("small", uuid)));
+        final var legacy = SERDES.serialize(new ToPersistence(repr("small", uuid)));
+        assertTrue(compact.length < legacy.length, "Compact entry is " + compact.length + " bytes");
+
+        assertRepr("small", uuid, SERDES.deserialize(compact));
+    }
+
+    @Test
+    void testNonUuidWriter() {
+        final var payload = "b".repeat(1024);
+        assertRepr(payload, "uuid", SERDES.deserialize(SERDES.serialize(new ToCompactPersistence(repr(payload,
+            "uuid")))));
+        // Non-canonical form must be preserved, too
+        final var lenient = "1-1-1-1-1";
+        assertRepr(payload, lenient, SERDES.deserialize(SERDES.serialize(new ToCompactPersistence(repr(payload,
+            lenient)))));
+    }
+
+    private static PersistentRepr repr(final String payload, final String writerUuid) {
+        return PersistentRepr.apply(payload, 1, "foo", "manifest", false, null, writerUuid);
+    }
+
+    private static void assertRepr(final String payload, final String writerUuid, final Object entry) {
+        final var repr = assertInstanceOf(FromPersistence.class, entry).toRepr("foo", 1);
+        assertEquals(payload, repr.payload());
+        assertEquals("manifest", repr.manifest());
+        assertEquals(writerUuid, repr.writerUuid());
+    }
+}
@@ -32,6 +32,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
@@ -188,6 +191,72 @@ class SegmentedFileJournalTest {
         assertReplayCount(0);
     }
 
+    @Test
+    void testParallelReplay() {
+        final int count = 300;
+        final WriteMessages write = new WriteMessages();
+        final List<Future<Optional<Exception>>> requests = new ArrayList<>();
+        for (int i = 1; i <= count; ++i) {
+            requests.add(write.add(AtomicWrite.apply(PersistentRepr.apply("entry" + i, i, "foo", null, false,
+                kit.getRef(), "uuid"))));
+        }
+        actor.tell(write, ActorRef.noSender());
+        requests.forEach(future -> assertFalse(getFuture(future).isPresent()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            actor = actor(executor);
+
+            assertReplayed(0, Long.MAX_VALUE, Long.MAX_VALUE, 1, count);
+            assertReplayed(100, 199, Long.MAX_VALUE, 100, 199);
+            assertReplayed(100, 199, 50, 100, 149);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGroupCommit() {
+        final var props = SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE, SEGMENT_SIZE,
+            0, true, false, false, null);
+        // Group commit defers flushes even when max-unflushed-bytes is not set
+        assertEquals("Delayed", props.actorClass().getSimpleName());
+
+        actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        actor = kit.childActorOf(props.withDispatcher(CallingThreadDispatcher.Id()));
+
+        final List<Future<Optional<Exception>>> requests = new ArrayList<>();
+        for (int i = 1; i <= 3; ++i) {
+            final WriteMessages write = new WriteMessages();
+            requests.add(write.add(AtomicWrite.apply(PersistentRepr.apply("entry" + i, i, "foo", null, false,
+                kit.getRef(), "uuid"))));
+            actor.tell(write, ActorRef.noSender());
+        }
+        requests.forEach(future -> assertFalse(getFuture(future).isPresent()));
+
+        restartActor();
+        assertHighestSequenceNr(3);
+        assertReplayCount(3);
+    }
+
+    private void assertReplayed(final long fromSequenceNr, final long toSequenceNr, final long max,
+            final long expectedFirst, final long expectedLast) {
+        final List<PersistentRepr> replayed = new ArrayList<>();
+        final AsyncMessage<Void> replay = SegmentedJournalActor.replayMessages(fromSequenceNr, toSequenceNr, max,
+            replayed::add);
+        actor.tell(replay, ActorRef.noSender());
+        assertNull(get(replay));
+
+        assertEquals(expectedLast - expectedFirst + 1, replayed.size());
+        long expected = expectedFirst;
+        for (var repr : replayed) {
+            assertEquals(expected, repr.sequenceNr());
+            assertEquals("entry" + expected, repr.payload());
+            expected++;
+        }
+    }
+
     private void restartActor() {
         actor.tell(PoisonPill.getInstance(), ActorRef.noSender());
         actor = actor();
@@ -210,8 +279,13 @@ class SegmentedFileJournalTest {
     }
 
     private ActorRef actor() {
+        return actor(null);
+    }
+
+    private ActorRef actor(final Executor replayExecutor) {
         return kit.childActorOf(SegmentedJournalActor.props("foo", DIRECTORY, StorageLevel.DISK, MESSAGE_SIZE,
-            SEGMENT_SIZE, FLUSH_SIZE).withDispatcher(CallingThreadDispatcher.Id()));
+            SEGMENT_SIZE, FLUSH_SIZE, false, false, false, replayExecutor)
+            .withDispatcher(CallingThreadDispatcher.Id()));
     }
 
     private void deleteEntries(final long deleteTo) {
@@ -237,7 +311,10 @@ class SegmentedFileJournalTest {
     }
 
     private static void assertFileCount(final long dataFiles, final long deleteFiles) throws IOException {
-        List<File> contents = Files.list(DIRECTORY.toPath()).map(Path::toFile).collect(Collectors.toList());
+        // count only segment files, not their persisted indexes
+        List<File> contents = Files.list(DIRECTORY.toPath()).map(Path::toFile)
+            .filter(file -> file.getName().endsWith(".log"))
+            .collect(Collectors.toList());
         assertEquals(dataFiles, contents.stream().filter(file -> file.getName().startsWith("data-")).count());
         assertEquals(deleteFiles, contents.stream().filter(file -> file.getName().startsWith("delete-")).count());
     }
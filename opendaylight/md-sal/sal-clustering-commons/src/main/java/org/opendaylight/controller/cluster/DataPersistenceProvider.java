@@ -46,6 +46,16 @@ public interface DataPersistenceProvider {
      */
     <T> void persistAsync(T entry, Procedure<T> procedure);
 
+    /**
+     * Persists multiple entries to the applicable journal synchronously, using a single atomic write. The callback is
+     * invoked for each entry, in order.
+     *
+     * @param entries the journal entries to persist
+     * @param procedure the callback when persistence of an entry is complete
+     * @param <T> the type of the journal entries
+     */
+    <T> void persistAll(Iterable<T> entries, Procedure<T> procedure);
+
     /**
      * Saves a snapshot.
      *
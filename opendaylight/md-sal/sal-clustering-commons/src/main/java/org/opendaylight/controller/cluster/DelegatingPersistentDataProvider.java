@@ -47,6 +47,11 @@ public class DelegatingPersistentDataProvider implements DataPersistenceProvider
         delegate.persistAsync(entry, procedure);
     }
 
+    @Override
+    public <T> void persistAll(final Iterable<T> entries, final Procedure<T> procedure) {
+        delegate.persistAll(entries, procedure);
+    }
+
     @Override
     public void saveSnapshot(final Object entry) {
         delegate.saveSnapshot(entry);
@@ -42,6 +42,11 @@ public class PersistentDataProvider implements DataPersistenceProvider {
         persistentActor.persistAsync(entry, procedure);
     }
 
+    @Override
+    public <T> void persistAll(final Iterable<T> entries, final Procedure<T> procedure) {
+        persistentActor.persistAll(entries, procedure);
+    }
+
     @Override
     public void saveSnapshot(final Object snapshot) {
         persistentActor.saveSnapshot(snapshot);
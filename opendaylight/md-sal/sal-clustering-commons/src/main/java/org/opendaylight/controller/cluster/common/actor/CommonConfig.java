@@ -19,6 +19,7 @@ public class CommonConfig extends AbstractConfig {
 
     protected static final String TAG_ACTOR_SYSTEM_NAME = "actor-system-name";
     protected static final String TAG_METRIC_CAPTURE_ENABLED = "metric-capture-enabled";
+    protected static final String TAG_METRIC_CAPTURE_SAMPLE_INTERVAL = "metric-capture-sample-interval";
     protected static final String TAG_MAILBOX_CAPACITY = "mailbox-capacity";
     protected static final String TAG_MAILBOX = "bounded-mailbox";
     protected static final String TAG_MAILBOX_PUSH_TIMEOUT = "mailbox-push-timeout-time";
@@ -27,11 +28,13 @@ public class CommonConfig extends AbstractConfig {
     // https://bugs.opendaylight.org/show_bug.cgi?id=1709
     private static final int DEFAULT_MAILBOX_CAPACITY = 1000;
     private static final int DEFAULT_MAILBOX_PUSH_TIMEOUT = 100;
+    private static final int DEFAULT_METRIC_CAPTURE_SAMPLE_INTERVAL = 1;
 
     //locally cached values
     private FiniteDuration cachedMailBoxPushTimeout;
     private Integer cachedMailBoxCapacity;
     private Boolean cachedMetricCaptureEnableFlag;
+    private Integer cachedMetricCaptureSampleInterval;
 
     public CommonConfig(Config config) {
         super(config);
@@ -53,6 +56,25 @@ public class CommonConfig extends AbstractConfig {
         return cachedMetricCaptureEnableFlag;
     }
 
+    /**
+     * Return the interval at which messages are metered when metric capture is enabled, i.e. only one in this many
+     * messages is timed.
+     *
+     * @return metric capture sample interval, 1 if all messages are metered
+     */
+    public int getMetricCaptureSampleInterval() {
+        if (cachedMetricCaptureSampleInterval != null) {
+            return cachedMetricCaptureSampleInterval;
+        }
+
+        final int interval = get().hasPath(TAG_METRIC_CAPTURE_SAMPLE_INTERVAL)
+                ? get().getInt(TAG_METRIC_CAPTURE_SAMPLE_INTERVAL)
+                : DEFAULT_METRIC_CAPTURE_SAMPLE_INTERVAL;
+
+        cachedMetricCaptureSampleInterval = Math.max(interval, 1);
+        return cachedMetricCaptureSampleInterval;
+    }
+
     public String getMailBoxName() {
         return TAG_MAILBOX;
     }
@@ -105,6 +127,13 @@ public class CommonConfig extends AbstractConfig {
             return (T)this;
         }
 
+        @SuppressWarnings("unchecked")
+        public T metricCaptureSampleInterval(int interval) {
+            checkArgument(interval > 0, "metric capture sample interval must be >0");
+            configHolder.put(TAG_METRIC_CAPTURE_SAMPLE_INTERVAL, interval);
+            return (T)this;
+        }
+
         @SuppressWarnings("unchecked")
         public T mailboxCapacity(int capacity) {
             checkArgument(capacity > 0, "mailbox capacity must be >0");
@@ -10,6 +10,9 @@ package org.opendaylight.controller.cluster.common.actor;
 import akka.actor.AbstractActor;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import scala.PartialFunction;
 import scala.runtime.AbstractPartialFunction;
@@ -32,14 +35,22 @@ public class MeteringBehavior extends AbstractPartialFunction<Object, BoxedUnit>
     private static final String MSG_PROCESSING_RATE = "msg-rate";
 
     private final MetricRegistry metricRegistry = MetricsReporter.getInstance(DOMAIN).getMetricsRegistry();
+    // Timers by message type. Accessed only from the actor, hence it does not need to be thread-safe.
+    private final Map<Class<?>, Timer> msgProcessingTimersByMsgType = new HashMap<>();
     private final String actorQualifiedName;
     private final Timer msgProcessingTimer;
     private final PartialFunction<Object, BoxedUnit> receive;
+    private final int sampleInterval;
+
+    // Number of messages to process before timing the next one
+    private int sampleCountdown;
 
     private MeteringBehavior(final String actorName, final AbstractActor meteredActor) {
         actorQualifiedName = meteredActor.getSelf().path().parent().toStringWithoutAddress() + "/" + actorName;
         msgProcessingTimer = metricRegistry.timer(MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE));
         receive = meteredActor.createReceive().onMessage();
+        sampleInterval = new CommonConfig(meteredActor.getContext().system().settings().config())
+            .getMetricCaptureSampleInterval();
     }
 
     /**
@@ -63,7 +74,12 @@ public class MeteringBehavior extends AbstractPartialFunction<Object, BoxedUnit>
 
     /**
      * Uses 2 timers to measure message processing rate. One for overall message processing rate and
-     * another to measure rate by message type. The timers are re-used if they were previously created.
+     * another to measure rate by message type. The timers are re-used if they were previously created and the timer
+     * for each message type is looked up in the registry only once.
+     *
+     * <p>
+     * If a sample interval is configured, only one in that many messages is timed, the rest are processed without
+     * being metered.
      *
      * <p>
      * {@link com.codahale.metrics.MetricRegistry} maintains a reservoir for different timers where
@@ -80,21 +96,31 @@ public class MeteringBehavior extends AbstractPartialFunction<Object, BoxedUnit>
      */
     @Override
     public BoxedUnit apply(final Object message) {
-        final String messageType = message.getClass().getSimpleName();
-        final String msgProcessingTimeByMsgType =
-                MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE, messageType);
-        final Timer msgProcessingTimerByMsgType = metricRegistry.timer(msgProcessingTimeByMsgType);
+        if (sampleCountdown > 0) {
+            sampleCountdown--;
+            return receive.apply(message);
+        }
+        sampleCountdown = sampleInterval - 1;
 
-        //start timers
-        final Timer.Context context = msgProcessingTimer.time();
-        final Timer.Context contextByMsgType = msgProcessingTimerByMsgType.time();
+        final Timer msgProcessingTimerByMsgType = msgProcessingTimerByMsgType(message.getClass());
 
+        final long startNanos = System.nanoTime();
         try {
             return receive.apply(message);
         } finally {
-            //stop timers
-            contextByMsgType.stop();
-            context.stop();
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            msgProcessingTimerByMsgType.update(elapsedNanos, TimeUnit.NANOSECONDS);
+            msgProcessingTimer.update(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer msgProcessingTimerByMsgType(final Class<?> messageType) {
+        Timer timer = msgProcessingTimersByMsgType.get(messageType);
+        if (timer == null) {
+            timer = metricRegistry.timer(MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE,
+                messageType.getSimpleName()));
+            msgProcessingTimersByMsgType.put(messageType, timer);
         }
+        return timer;
     }
 }
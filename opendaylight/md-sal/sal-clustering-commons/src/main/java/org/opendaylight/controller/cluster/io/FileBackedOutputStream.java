@@ -89,6 +89,8 @@ public class FileBackedOutputStream extends OutputStream {
                 public InputStream openStream() throws IOException {
                     synchronized (FileBackedOutputStream.this) {
                         if (file != null) {
+                            // The file is deleted as soon as it has been read, hence we must not map it: mappings
+                            // are only released at garbage collection, which prevents deletion on some platforms
                             return Files.newInputStream(file.toPath());
                         } else {
                             return new ByteArrayInputStream(memory.buf(), 0, memory.count());
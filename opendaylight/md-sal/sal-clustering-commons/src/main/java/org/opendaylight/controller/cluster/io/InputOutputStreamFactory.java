@@ -13,6 +13,7 @@ import com.google.common.annotations.Beta;
 import com.google.common.io.ByteSource;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -49,8 +50,19 @@ public abstract class InputOutputStreamFactory {
 
     public abstract @NonNull OutputStream wrapOutputStream(OutputStream output) throws IOException;
 
-    static @NonNull BufferedInputStream defaultCreateInputStream(final File file) throws FileNotFoundException {
-        return new BufferedInputStream(new FileInputStream(file));
+    static @NonNull InputStream defaultCreateInputStream(final ByteSource input) throws IOException {
+        final InputStream stream = input.openStream();
+        // Streams backed by memory do not benefit from buffering, it would only add another copy
+        return stream instanceof BufferedInputStream || stream instanceof ByteArrayInputStream
+            || stream instanceof ChunkedInputStream || stream instanceof MappedFileInputStream ? stream
+                : new BufferedInputStream(stream);
+    }
+
+    static @NonNull InputStream defaultCreateInputStream(final File file) throws IOException {
+        // Snapshot files are deleted once they are superseded, which a lingering mapping would prevent on some
+        // platforms
+        return MappedFileInputStream.CAN_DELETE_MAPPED_FILES ? MappedFileInputStream.open(file)
+            : new BufferedInputStream(new FileInputStream(file));
     }
 
     static @NonNull BufferedOutputStream defaultCreateOutputStream(final File file) throws FileNotFoundException {
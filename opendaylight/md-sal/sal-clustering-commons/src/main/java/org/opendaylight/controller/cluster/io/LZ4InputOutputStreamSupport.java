@@ -9,7 +9,6 @@ package org.opendaylight.controller.cluster.io;
 
 import com.google.common.io.ByteSource;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,13 +40,13 @@ final class LZ4InputOutputStreamSupport extends InputOutputStreamFactory {
         } catch (IOException e) {
             stream.close();
             LOG.warn("Error loading with lz4 decompression, using default one", e);
-            return input.openBufferedStream();
+            return defaultCreateInputStream(input);
         }
     }
 
     @Override
     public InputStream createInputStream(final File file) throws IOException {
-        final FileInputStream fileInput = new FileInputStream(file);
+        final InputStream fileInput = defaultCreateInputStream(file);
         try {
             return new LZ4FrameInputStream(fileInput, LZ4_FACTORY.safeDecompressor(), HASH_FACTORY.hash32());
         } catch (IOException e) {
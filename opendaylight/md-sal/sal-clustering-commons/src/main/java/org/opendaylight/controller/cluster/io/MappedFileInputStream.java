@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.io;
+
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An {@link InputStream} reading a file through read-only memory mappings. The file is mapped in regions of up to
+ * {@value #MAX_REGION_SIZE} bytes, so files exceeding {@link Integer#MAX_VALUE} bytes are supported. Reads are served
+ * directly from the page cache, without going through a {@link java.io.BufferedInputStream} and without incurring a
+ * system call for each buffer refill.
+ *
+ * <p>
+ * Mappings are not released when this stream is closed, but only when it is garbage-collected. This has two
+ * consequences:
+ * <ul>
+ *   <li>the file must not be truncated while it is being read. Should that happen, reads fail with an
+ *       {@link IOException}</li>
+ *   <li>on platforms which do not allow mapped files to be deleted, i.e. Windows, the file cannot be deleted until the
+ *       stream has been garbage-collected. Files which are deleted right after they have been read should therefore be
+ *       read through a plain stream. {@link #CAN_DELETE_MAPPED_FILES} indicates whether this restriction applies.</li>
+ * </ul>
+ */
+final class MappedFileInputStream extends InputStream {
+    // 1GiB, which keeps the number of mappings low while not requiring a huge contiguous address range
+    static final int MAX_REGION_SIZE = 1 << 30;
+    /**
+     * {@code true} if the platform allows a file to be deleted while it is mapped.
+     */
+    static final boolean CAN_DELETE_MAPPED_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private final ByteBuffer[] regions;
+
+    private long remaining;
+    private int currentRegion;
+
+    private MappedFileInputStream(final ByteBuffer[] regions, final long size) {
+        this.regions = requireNonNull(regions);
+        remaining = size;
+    }
+
+    static MappedFileInputStream open(final File file) throws IOException {
+        return open(file, MAX_REGION_SIZE);
+    }
+
+    @VisibleForTesting
+    static MappedFileInputStream open(final File file, final int regionSize) throws IOException {
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final var regions = new ByteBuffer[(int) ((size + regionSize - 1) / regionSize)];
+            for (int i = 0; i < regions.length; ++i) {
+                final long offset = (long) i * regionSize;
+                regions[i] = channel.map(MapMode.READ_ONLY, offset, Math.min(regionSize, size - offset));
+            }
+            // Mappings remain valid after the channel is closed
+            return new MappedFileInputStream(regions, size);
+        }
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var region = currentRegion();
+        if (region == null) {
+            return -1;
+        }
+
+        final int result;
+        try {
+            result = region.get() & 0xff;
+        } catch (InternalError e) {
+            throw accessFailed(e);
+        }
+        remaining--;
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:ParameterName")
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+
+        final var region = currentRegion();
+        if (region == null) {
+            return -1;
+        }
+
+        final int count = Math.min(len, region.remaining());
+        try {
+            region.get(b, off, count);
+        } catch (InternalError e) {
+            throw accessFailed(e);
+        }
+        remaining -= count;
+        return count;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:ParameterName")
+    public long skip(final long n) {
+        long toSkip = Math.min(n, remaining);
+        final long result = Math.max(toSkip, 0);
+        while (toSkip > 0) {
+            final var region = currentRegion();
+            final int count = (int) Math.min(toSkip, region.remaining());
+            region.position(region.position() + count);
+            remaining -= count;
+            toSkip -= count;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        remaining = 0;
+        currentRegion = regions.length;
+        Arrays.fill(regions, null);
+    }
+
+    // Accessing a mapping of a file which has been truncated in the meantime results in an InternalError being thrown
+    private static IOException accessFailed(final InternalError cause) {
+        return new IOException("Failed to access mapped file, it may have been truncated", cause);
+    }
+
+    private ByteBuffer currentRegion() {
+        while (currentRegion < regions.length) {
+            final var region = regions[currentRegion];
+            if (region.hasRemaining()) {
+                return region;
+            }
+            // Drop the reference so the mapping can be released as soon as possible
+            regions[currentRegion++] = null;
+        }
+        return null;
+    }
+}
@@ -23,7 +23,7 @@ final class PlainInputOutputStreamSupport extends InputOutputStreamFactory {
 
     @Override
     public InputStream createInputStream(final ByteSource input) throws IOException {
-        return input.openBufferedStream();
+        return defaultCreateInputStream(input);
     }
 
     @Override
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.persistence;
+
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A snapshot object which may hold only the changes made since a preceding full snapshot, i.e. a delta. When
+ * {@link LocalSnapshotStore} loads a delta, it also loads the youngest full snapshot preceding it and combines the
+ * two via {@link #applyTo(Object, long)}. Deltas are expected to be cumulative, i.e. any delta snapshots between the
+ * full snapshot and the delta being loaded are not consulted.
+ */
+public interface IncrementalSnapshot {
+    /**
+     * Indicate whether this snapshot is a delta and needs to be applied to a preceding full snapshot.
+     *
+     * @return {@code true} if this snapshot is a delta
+     */
+    boolean isDelta();
+
+    /**
+     * Apply this delta to the full snapshot it was taken against.
+     *
+     * @param base the preceding full snapshot
+     * @param baseTimestamp the timestamp of the preceding full snapshot, as recorded in its metadata
+     * @return the combined snapshot
+     * @throws IOException if {@code base} is not the snapshot this delta was taken against
+     */
+    @NonNull Object applyTo(@NonNull Object base, long baseTimestamp) throws IOException;
+}
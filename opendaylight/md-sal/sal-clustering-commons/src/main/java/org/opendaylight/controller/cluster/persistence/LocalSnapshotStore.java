@@ -33,11 +33,9 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -57,11 +55,24 @@ import scala.concurrent.Future;
  * to the file which will fail if the data reaches or exceeds Integer.MAX_VALUE in size. This class avoids that issue
  * by serializing the data directly to the file.
  *
+ * <p>
+ * Files holding {@link IncrementalSnapshot delta snapshots} carry a {@code .delta} suffix, so that the base snapshot
+ * of a delta can be located without deserializing the snapshots in between.
+ *
  * @author Thomas Pantelis
  */
 public final class LocalSnapshotStore extends SnapshotStore {
     private static final Logger LOG = LoggerFactory.getLogger(LocalSnapshotStore.class);
     private static final int PERSISTENCE_ID_START_INDEX = "snapshot-".length();
+    // Suffix of files holding delta snapshots, so that we can find the base of a delta without deserializing each file
+    private static final String DELTA_SUFFIX = ".delta";
+
+    /**
+     * A snapshot file along with the metadata and the delta flag encoded in its name.
+     */
+    private record SnapshotFile(File file, SnapshotMetadata metadata, boolean isDelta) {
+        // Nothing else
+    }
 
     private final InputOutputStreamFactory streamFactory;
     private final ExecutionContext executionContext;
@@ -106,24 +117,26 @@ public final class LocalSnapshotStore extends SnapshotStore {
 
         // Select the youngest 'maxLoadAttempts' snapshots that match the criteria. This may help in situations where
         // saving of a snapshot could not be completed because of a JVM crash. Hence, an attempt to load that snapshot
-        // will fail but loading an older snapshot may succeed.
+        // will fail but loading an older snapshot may succeed. We keep the older snapshots around, as they may be
+        // needed as the base of a delta snapshot.
 
-        Deque<SnapshotMetadata> metadatas = getSnapshotMetadatas(persistenceId, criteria).stream()
-                .sorted(LocalSnapshotStore::compare).collect(reverse()).stream().limit(maxLoadAttempts)
-                    .collect(Collectors.toCollection(ArrayDeque::new));
+        final List<SnapshotFile> snapshots = getSnapshots(persistenceId, criteria).stream()
+                .sorted((f1, f2) -> compare(f1.metadata(), f2.metadata())).collect(reverse());
 
-        if (metadatas.isEmpty()) {
+        if (snapshots.isEmpty()) {
             return Futures.successful(Optional.empty());
         }
 
-        LOG.debug("doLoadAsync - found: {}", metadatas);
+        LOG.debug("doLoadAsync - found: {}", snapshots);
 
-        return Futures.future(() -> doLoad(metadatas), executionContext);
+        return Futures.future(() -> doLoad(snapshots, 0), executionContext);
     }
 
-    private Optional<SelectedSnapshot> doLoad(final Deque<SnapshotMetadata> metadatas) throws IOException {
-        SnapshotMetadata metadata = metadatas.removeFirst();
-        File file = toSnapshotFile(metadata);
+    private Optional<SelectedSnapshot> doLoad(final List<SnapshotFile> snapshots, final int attempt)
+            throws IOException {
+        SnapshotFile snapshot = snapshots.get(attempt);
+        SnapshotMetadata metadata = snapshot.metadata();
+        File file = snapshot.file();
 
         LOG.debug("doLoad {}", file);
 
@@ -132,18 +145,39 @@ public final class LocalSnapshotStore extends SnapshotStore {
 
             LOG.debug("deserialized data: {}", data);
 
+            if (data instanceof IncrementalSnapshot incremental && incremental.isDelta()) {
+                data = loadBase(incremental, snapshots.subList(attempt + 1, snapshots.size()));
+            }
+
             return Optional.of(new SelectedSnapshot(metadata, data));
         } catch (IOException e) {
-            LOG.error("Error loading snapshot file {}, remaining attempts: {}", file, metadatas.size(), e);
+            final int remaining = Math.min(maxLoadAttempts, snapshots.size()) - attempt - 1;
+            LOG.error("Error loading snapshot file {}, remaining attempts: {}", file, remaining, e);
 
-            if (metadatas.isEmpty()) {
+            if (remaining <= 0) {
                 throw e;
             }
 
-            return doLoad(metadatas);
+            return doLoad(snapshots, attempt + 1);
         }
     }
 
+    private Object loadBase(final IncrementalSnapshot delta, final List<SnapshotFile> olderSnapshots)
+            throws IOException {
+        // Deltas are cumulative, hence we only need the youngest full snapshot preceding the delta
+        final var base = olderSnapshots.stream().filter(snapshot -> !snapshot.isDelta()).findFirst()
+            .orElseThrow(() -> new IOException("Failed to find the base snapshot of delta snapshot " + delta));
+
+        final File file = base.file();
+        final Object data = deserialize(file);
+        if (data instanceof IncrementalSnapshot incremental && incremental.isDelta()) {
+            throw new IOException("Base snapshot file " + file + " contains a delta snapshot");
+        }
+
+        LOG.debug("Applying delta snapshot to base {}", file);
+        return delta.applyTo(data, base.metadata().timestamp());
+    }
+
     private Object deserialize(final File file) throws IOException {
         return JavaSerializer.currentSystem().withValue((ExtendedActorSystem) context().system(),
             (Callable<Object>) () -> {
@@ -180,7 +214,8 @@ public final class LocalSnapshotStore extends SnapshotStore {
     }
 
     private Void doSave(final SnapshotMetadata metadata, final Object snapshot) throws IOException {
-        final File actual = toSnapshotFile(metadata);
+        final File actual = toSnapshotFile(metadata,
+            snapshot instanceof IncrementalSnapshot incremental && incremental.isDelta());
         final File temp = File.createTempFile(actual.getName(), null, snapshotDir);
 
         LOG.debug("Saving to temp file: {}", temp);
@@ -228,8 +263,8 @@ public final class LocalSnapshotStore extends SnapshotStore {
     }
 
     private Void doDelete(final String persistenceId, final SnapshotSelectionCriteria criteria) {
-        final List<File> files = getSnapshotMetadatas(persistenceId, criteria).stream()
-                .flatMap(md -> Stream.of(toSnapshotFile(md))).collect(Collectors.toList());
+        final List<File> files = getSnapshots(persistenceId, criteria).stream()
+                .map(SnapshotFile::file).collect(Collectors.toList());
 
         LOG.debug("Deleting files: {}", files);
 
@@ -281,24 +316,26 @@ public final class LocalSnapshotStore extends SnapshotStore {
 
     private Collection<File> getSnapshotFiles(final SnapshotMetadata metadata) {
         return getSnapshotFiles(metadata.persistenceId()).stream().filter(file -> {
-            SnapshotMetadata possible = extractMetadata(file);
-            return possible != null && possible.sequenceNr() == metadata.sequenceNr()
-                    && (metadata.timestamp() == 0L || possible.timestamp() == metadata.timestamp());
+            SnapshotFile possible = extractSnapshot(file);
+            return possible != null && possible.metadata().sequenceNr() == metadata.sequenceNr()
+                    && (metadata.timestamp() == 0L || possible.metadata().timestamp() == metadata.timestamp());
         }).collect(Collectors.toList());
     }
 
-    private Collection<SnapshotMetadata> getSnapshotMetadatas(final String persistenceId,
+    private Collection<SnapshotFile> getSnapshots(final String persistenceId,
             final SnapshotSelectionCriteria criteria) {
-        return getSnapshotFiles(persistenceId).stream().flatMap(file -> toStream(extractMetadata(file)))
-                .filter(criteria::matches).collect(Collectors.toList());
+        return getSnapshotFiles(persistenceId).stream().flatMap(file -> toStream(extractSnapshot(file)))
+                .filter(snapshot -> criteria.matches(snapshot.metadata())).collect(Collectors.toList());
     }
 
-    private static Stream<SnapshotMetadata> toStream(final @Nullable SnapshotMetadata md) {
-        return md != null ? Stream.of(md) : Stream.empty();
+    private static Stream<SnapshotFile> toStream(final @Nullable SnapshotFile snapshot) {
+        return snapshot != null ? Stream.of(snapshot) : Stream.empty();
     }
 
-    private static @Nullable SnapshotMetadata extractMetadata(final File file) {
-        String name = file.getName();
+    private static @Nullable SnapshotFile extractSnapshot(final File file) {
+        final String fileName = file.getName();
+        final boolean isDelta = fileName.endsWith(DELTA_SUFFIX);
+        String name = isDelta ? fileName.substring(0, fileName.length() - DELTA_SUFFIX.length()) : fileName;
         int sequenceNumberEndIndex = name.lastIndexOf('-');
         int persistenceIdEndIndex = name.lastIndexOf('-', sequenceNumberEndIndex - 1);
         if (PERSISTENCE_ID_START_INDEX >= persistenceIdEndIndex) {
@@ -311,15 +348,15 @@ public final class LocalSnapshotStore extends SnapshotStore {
             String persistenceId = decode(name.substring(PERSISTENCE_ID_START_INDEX, persistenceIdEndIndex));
             long sequenceNumber = Long.parseLong(name.substring(persistenceIdEndIndex + 1, sequenceNumberEndIndex));
             long timestamp = Long.parseLong(name.substring(sequenceNumberEndIndex + 1));
-            return new SnapshotMetadata(persistenceId, sequenceNumber, timestamp);
+            return new SnapshotFile(file, new SnapshotMetadata(persistenceId, sequenceNumber, timestamp), isDelta);
         } catch (NumberFormatException e) {
             return null;
         }
     }
 
-    private File toSnapshotFile(final SnapshotMetadata metadata) {
-        return new File(snapshotDir, String.format("snapshot-%s-%d-%d", encode(metadata.persistenceId()),
-            metadata.sequenceNr(), metadata.timestamp()));
+    private File toSnapshotFile(final SnapshotMetadata metadata, final boolean isDelta) {
+        return new File(snapshotDir, String.format("snapshot-%s-%d-%d%s", encode(metadata.persistenceId()),
+            metadata.sequenceNr(), metadata.timestamp(), isDelta ? DELTA_SUFFIX : ""));
     }
 
     private static <T> Collector<T, ?, List<T>> reverse() {
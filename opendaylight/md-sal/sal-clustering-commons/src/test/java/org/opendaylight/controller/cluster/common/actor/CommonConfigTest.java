@@ -27,6 +27,7 @@ public class CommonConfigTest {
         assertNotNull(config.getMailBoxName());
         assertNotNull(config.getMailBoxPushTimeout());
         assertNotNull(config.isMetricCaptureEnabled());
+        assertEquals(1, config.getMetricCaptureSampleInterval());
     }
 
     @Test
@@ -38,6 +39,7 @@ public class CommonConfigTest {
                 .mailboxCapacity(expectedCapacity)
                 .mailboxPushTimeout(timeoutValue)
                 .metricCaptureEnabled(true)
+                .metricCaptureSampleInterval(10)
                 .build();
 
         assertEquals(expectedCapacity, config.getMailBoxCapacity().intValue());
@@ -46,5 +48,6 @@ public class CommonConfigTest {
         assertEquals(expectedTimeout.toMillis(), config.getMailBoxPushTimeout().toMillis());
 
         assertTrue(config.isMetricCaptureEnabled());
+        assertEquals(10, config.getMetricCaptureSampleInterval());
     }
 }
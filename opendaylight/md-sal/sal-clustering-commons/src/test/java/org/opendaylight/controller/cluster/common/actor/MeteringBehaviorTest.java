@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.common.actor;
+
+import static org.junit.Assert.assertEquals;
+
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
+
+public class MeteringBehaviorTest {
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("testsystem", new CommonConfig.Builder<>("testsystem")
+            .metricCaptureEnabled(true)
+            .metricCaptureSampleInterval(2)
+            .build().get());
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void testSampledMessagesAreMetered() {
+        final var kit = new TestKit(actorSystem);
+        final var actor = actorSystem.actorOf(Props.create(EchoActor.class), "metering-behavior-test");
+
+        for (int i = 0; i < 4; ++i) {
+            actor.tell("ping", kit.getRef());
+        }
+        kit.receiveN(4);
+
+        // Every other message is metered, the fourth message completing implies the third one has been metered
+        final var registry = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry();
+        assertEquals(2, registry.timer(MetricRegistry.name("/user/metering-behavior-test", "msg-rate", "String"))
+            .getCount());
+        assertEquals(2, registry.timer(MetricRegistry.name("/user/metering-behavior-test", "msg-rate")).getCount());
+    }
+
+    public static final class EchoActor extends AbstractUntypedActorWithMetering {
+        @Override
+        protected void handleReceive(final Object message) {
+            getSender().tell(message, getSelf());
+        }
+    }
+}
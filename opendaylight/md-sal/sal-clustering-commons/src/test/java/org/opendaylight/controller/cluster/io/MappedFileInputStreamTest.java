@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedFileInputStreamTest {
+    private File file;
+
+    @Before
+    public void setup() throws IOException {
+        file = File.createTempFile("MappedFileInputStreamTest", null);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        try (var in = MappedFileInputStream.open(file)) {
+            assertEquals(0, in.available());
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[10], 0, 10));
+        }
+    }
+
+    @Test
+    public void testReadAcrossRegions() throws IOException {
+        final var bytes = new byte[100];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+        Files.write(file.toPath(), bytes);
+
+        try (var in = MappedFileInputStream.open(file, 16)) {
+            assertEquals(100, in.available());
+            assertEquals(0, in.read());
+            assertEquals(10, in.skip(10));
+            assertEquals(11, in.read());
+
+            final var rest = in.readAllBytes();
+            assertArrayEquals(Arrays.copyOfRange(bytes, 12, 100), rest);
+            assertEquals(0, in.available());
+            assertEquals(-1, in.read());
+            assertEquals(0, in.skip(5));
+        }
+    }
+
+    @Test
+    public void testTruncatedFile() throws IOException {
+        // Truncating a mapped file is not possible everywhere
+        assumeTrue(MappedFileInputStream.CAN_DELETE_MAPPED_FILES);
+
+        Files.write(file.toPath(), new byte[8192]);
+        try (var in = MappedFileInputStream.open(file)) {
+            try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+                channel.truncate(0);
+            }
+            assertThrows(IOException.class, in::read);
+            assertThrows(IOException.class, () -> in.read(new byte[10], 0, 10));
+        }
+    }
+}
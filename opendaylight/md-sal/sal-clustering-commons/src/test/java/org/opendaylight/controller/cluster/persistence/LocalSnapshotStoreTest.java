@@ -32,6 +32,7 @@ import com.typesafe.config.ConfigFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.Serializable;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import org.apache.commons.io.FileUtils;
@@ -185,9 +186,65 @@ public class LocalSnapshotStoreTest {
         assertEquals("SelectedSnapshot snapshot", "one", possibleSnapshot.get().snapshot());
     }
 
-    private static void createSnapshotFile(final String persistenceId, final String payload, final int seqNr,
+    @Test
+    public void testDoLoadAsyncWithDeltaSnapshot() throws IOException {
+        createSnapshotFile(PERSISTENCE_ID, "one", 0, 1000);
+        createSnapshotFile(PERSISTENCE_ID, "two", 1, 2000);
+        createSnapshotFile(PERSISTENCE_ID, new TestDelta("-three"), 2, 3000);
+        createSnapshotFile(PERSISTENCE_ID, new TestDelta("-four"), 3, 4000);
+
+        SnapshotMetadata metadata = new SnapshotMetadata(PERSISTENCE_ID, 3, 4000);
+
+        TestKit probe = new TestKit(system);
+        snapshotStore.tell(new LoadSnapshot(PERSISTENCE_ID,
+                SnapshotSelectionCriteria.latest(), Long.MAX_VALUE), probe.getRef());
+        LoadSnapshotResult result = probe.expectMsgClass(LoadSnapshotResult.class);
+        Option<SelectedSnapshot> possibleSnapshot = result.snapshot();
+
+        // Deltas are cumulative, hence only the youngest full snapshot is combined with the delta
+        assertEquals("SelectedSnapshot present", TRUE, possibleSnapshot.nonEmpty());
+        assertEquals("SelectedSnapshot metadata", metadata, possibleSnapshot.get().metadata());
+        assertEquals("SelectedSnapshot snapshot", "two-four", possibleSnapshot.get().snapshot());
+    }
+
+    @Test
+    public void testDoLoadAsyncDoesNotReadIntermediateDeltas() throws IOException {
+        createSnapshotFile(PERSISTENCE_ID, "one", 0, 1000);
+        // Not a valid snapshot, but it need not be read as its name marks it as a delta
+        try (FileOutputStream fos = new FileOutputStream(new File(SNAPSHOT_DIR,
+                toSnapshotName(PERSISTENCE_ID, 1, 2000) + ".delta"))) {
+            fos.write(new byte[] { 1, 2, 3 });
+        }
+        createSnapshotFile(PERSISTENCE_ID, new TestDelta("-three"), 2, 3000);
+
+        TestKit probe = new TestKit(system);
+        snapshotStore.tell(new LoadSnapshot(PERSISTENCE_ID,
+                SnapshotSelectionCriteria.latest(), Long.MAX_VALUE), probe.getRef());
+        LoadSnapshotResult result = probe.expectMsgClass(LoadSnapshotResult.class);
+        Option<SelectedSnapshot> possibleSnapshot = result.snapshot();
+
+        assertEquals("SelectedSnapshot present", TRUE, possibleSnapshot.nonEmpty());
+        assertEquals("SelectedSnapshot snapshot", "one-three", possibleSnapshot.get().snapshot());
+    }
+
+    @SuppressWarnings("checkstyle:illegalThrows")
+    @Test(expected = IOException.class)
+    public void testDoLoadAsyncWithMissingDeltaBase() throws Throwable {
+        createSnapshotFile(PERSISTENCE_ID, new TestDelta("-one"), 1, 2000);
+
+        TestKit probe = new TestKit(system);
+        snapshotStore.tell(new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID,
+                SnapshotSelectionCriteria.latest(), Long.MAX_VALUE), probe.getRef());
+        LoadSnapshotFailed failed = probe.expectMsgClass(LoadSnapshotFailed.class);
+        throw failed.cause();
+    }
+
+    private static void createSnapshotFile(final String persistenceId, final Serializable payload, final int seqNr,
             final int timestamp) throws IOException {
         String name = toSnapshotName(persistenceId, seqNr, timestamp);
+        if (payload instanceof IncrementalSnapshot incremental && incremental.isDelta()) {
+            name = name + ".delta";
+        }
         try (FileOutputStream fos = new FileOutputStream(new File(SNAPSHOT_DIR, name))) {
             if (payload != null) {
                 fos.write(SerializationUtils.serialize(payload));
@@ -195,6 +252,18 @@ public class LocalSnapshotStoreTest {
         }
     }
 
+    private record TestDelta(String suffix) implements IncrementalSnapshot, Serializable {
+        @Override
+        public boolean isDelta() {
+            return true;
+        }
+
+        @Override
+        public Object applyTo(final Object base, final long baseTimestamp) {
+            return base + suffix;
+        }
+    }
+
     private static String toSnapshotName(final String persistenceId, final int seqNr, final int timestamp) {
         return "snapshot-" + URLEncoder.encode(persistenceId, StandardCharsets.UTF_8) + "-" + seqNr + "-" + timestamp;
     }
@@ -12,10 +12,10 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
-import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
@@ -115,9 +115,9 @@ public abstract class AbstractClientHandle<T extends AbstractProxyTransaction> e
         return localState.computeIfAbsent(shard, this::createProxy);
     }
 
-    final Stream<T> ensureAllProxies() {
+    final List<T> ensureProxies(final YangInstanceIdentifier path) {
         final var local = getState();
-        return parent.resolveAllShards().map(shard -> ensureProxy(local, shard));
+        return parent.resolveShardsForPath(path).map(shard -> ensureProxy(local, shard)).toList();
     }
 
     final AbstractClientHistory parent() {
@@ -119,8 +119,8 @@ public abstract class AbstractClientHistory extends LocalAbortable implements Id
         return client.resolveShardForPath(path);
     }
 
-    final Stream<Long> resolveAllShards() {
-        return client.resolveAllShards();
+    final Stream<Long> resolveShardsForPath(final YangInstanceIdentifier path) {
+        return client.resolveShardsForPath(path);
     }
 
     final ActorUtils actorUtils() {
@@ -226,7 +226,7 @@ abstract class AbstractDataStoreClientBehavior extends ClientActorBehavior<Shard
 
     abstract Long resolveShardForPath(YangInstanceIdentifier path);
 
-    abstract Stream<Long> resolveAllShards();
+    abstract Stream<Long> resolveShardsForPath(YangInstanceIdentifier path);
 
     final ActorUtils actorUtils() {
         return ((AbstractShardBackendResolver) resolver()).actorUtils();
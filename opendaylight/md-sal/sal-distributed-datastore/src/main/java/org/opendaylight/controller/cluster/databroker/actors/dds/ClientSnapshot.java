@@ -9,6 +9,8 @@ package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Optional;
 import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier;
 import org.opendaylight.controller.cluster.datastore.utils.RootScatterGather;
@@ -29,16 +31,19 @@ public class ClientSnapshot extends AbstractClientHandle<AbstractProxyTransactio
     }
 
     public FluentFuture<Boolean> exists(final YangInstanceIdentifier path) {
-        return ensureProxy(path).exists(path);
+        final var proxies = ensureProxies(path);
+        if (proxies.size() == 1) {
+            return proxies.get(0).exists(path);
+        }
+        return FluentFuture.from(Futures.transform(
+            Futures.allAsList(proxies.stream().map(proxy -> proxy.exists(path)).toList()),
+            results -> results.contains(Boolean.TRUE), MoreExecutors.directExecutor()));
     }
 
     public FluentFuture<Optional<NormalizedNode>> read(final YangInstanceIdentifier path) {
-        return path.isEmpty() ? readRoot() : ensureProxy(path).read(path);
-    }
-
-    private FluentFuture<Optional<NormalizedNode>> readRoot() {
-        return RootScatterGather.gather(parent().actorUtils(), ensureAllProxies()
-            .map(proxy -> proxy.read(YangInstanceIdentifier.of())));
+        final var proxies = ensureProxies(path);
+        return proxies.size() == 1 ? proxies.get(0).read(path)
+            : RootScatterGather.gather(parent().actorUtils(), path, proxies.stream().map(proxy -> proxy.read(path)));
     }
 
     @Override
@@ -8,9 +8,12 @@
 package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -19,8 +22,6 @@ import org.opendaylight.controller.cluster.access.concepts.TransactionIdentifier
 import org.opendaylight.controller.cluster.datastore.utils.RootScatterGather;
 import org.opendaylight.mdsal.dom.spi.store.DOMStoreThreePhaseCommitCohort;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
-import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
@@ -60,56 +61,47 @@ public class ClientTransaction extends AbstractClientHandle<AbstractProxyTransac
     }
 
     public FluentFuture<Boolean> exists(final YangInstanceIdentifier path) {
-        return ensureProxy(path).exists(path);
+        final var proxies = ensureProxies(path);
+        if (proxies.size() == 1) {
+            return proxies.get(0).exists(path);
+        }
+        return FluentFuture.from(Futures.transform(
+            Futures.allAsList(proxies.stream().map(proxy -> proxy.exists(path)).toList()),
+            results -> results.contains(Boolean.TRUE), MoreExecutors.directExecutor()));
     }
 
     public FluentFuture<Optional<NormalizedNode>> read(final YangInstanceIdentifier path) {
-        return path.isEmpty() ? readRoot() : ensureProxy(path).read(path);
-    }
-
-    private FluentFuture<Optional<NormalizedNode>> readRoot() {
-        return RootScatterGather.gather(parent().actorUtils(), ensureAllProxies()
-            .map(proxy -> proxy.read(YangInstanceIdentifier.of())));
+        final var proxies = ensureProxies(path);
+        return proxies.size() == 1 ? proxies.get(0).read(path)
+            : RootScatterGather.gather(parent().actorUtils(), path, proxies.stream().map(proxy -> proxy.read(path)));
     }
 
     public void delete(final YangInstanceIdentifier path) {
-        if (path.isEmpty()) {
-            ensureAllProxies().forEach(proxy -> proxy.delete(YangInstanceIdentifier.of()));
-        } else {
-            ensureProxy(path).delete(path);
-        }
+        ensureProxies(path).forEach(proxy -> proxy.delete(path));
     }
 
     public void merge(final YangInstanceIdentifier path, final NormalizedNode data) {
-        if (path.isEmpty()) {
-            mergeRoot(RootScatterGather.castRootNode(data));
+        final var proxies = ensureProxies(path);
+        if (proxies.size() == 1) {
+            proxies.get(0).merge(path, data);
         } else {
-            ensureProxy(path).merge(path, data);
-        }
-    }
-
-    private void mergeRoot(final @NonNull ContainerNode rootData) {
-        if (!rootData.isEmpty()) {
-            RootScatterGather.scatterTouched(rootData, this::ensureProxy).forEach(
-                scattered -> scattered.shard().merge(YangInstanceIdentifier.of(), scattered.container()));
+            RootScatterGather.scatterTouched(path, checkData(path, data), this::ensureProxies).forEach(
+                scattered -> scattered.shard().merge(path, scattered.node()));
         }
     }
 
     public void write(final YangInstanceIdentifier path, final NormalizedNode data) {
-        if (path.isEmpty()) {
-            writeRoot(RootScatterGather.castRootNode(data));
+        final var proxies = ensureProxies(path);
+        if (proxies.size() == 1) {
+            proxies.get(0).write(path, data);
         } else {
-            ensureProxy(path).write(path, data);
+            RootScatterGather.scatterAll(path, checkData(path, data), this::ensureProxies).forEach(
+                scattered -> scattered.shard().write(path, scattered.node()));
         }
     }
 
-    private void writeRoot(final @NonNull ContainerNode rootData) {
-        RootScatterGather.scatterAll(rootData, this::ensureProxy, ensureAllProxies()).forEach(
-            scattered -> scattered.shard().write(YangInstanceIdentifier.of(), scattered.container()));
-    }
-
-    private AbstractProxyTransaction ensureProxy(final PathArgument childId) {
-        return ensureProxy(YangInstanceIdentifier.of(childId));
+    private static @NonNull NormalizedNode checkData(final YangInstanceIdentifier path, final NormalizedNode data) {
+        return path.isEmpty() ? RootScatterGather.castRootNode(data) : requireNonNull(data);
     }
 
     public DOMStoreThreePhaseCommitCohort ready() {
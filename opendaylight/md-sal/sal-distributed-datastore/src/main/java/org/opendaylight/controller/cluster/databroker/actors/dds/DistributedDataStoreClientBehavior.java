@@ -36,8 +36,8 @@ final class DistributedDataStoreClientBehavior extends AbstractDataStoreClientBe
     }
 
     @Override
-    Stream<Long> resolveAllShards() {
-        return resolver.resolveAllShards();
+    Stream<Long> resolveShardsForPath(final YangInstanceIdentifier path) {
+        return resolver.resolveShardsForPath(path);
     }
 
     @Override
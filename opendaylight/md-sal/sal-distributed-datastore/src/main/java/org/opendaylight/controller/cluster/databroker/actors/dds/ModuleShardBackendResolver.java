@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.databroker.actors.dds;
 
 import static com.google.common.base.Verify.verifyNotNull;
+import static java.util.Objects.requireNonNull;
 
 import akka.dispatch.ExecutionContexts;
 import akka.dispatch.OnComplete;
@@ -21,12 +22,16 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.access.client.BackendInfoResolver;
 import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
 import org.opendaylight.controller.cluster.datastore.shardmanager.RegisterForShardAvailabilityChanges;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.DefaultShardStrategy;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,9 +48,23 @@ import scala.concurrent.Future;
  * @author Robert Varga
  */
 final class ModuleShardBackendResolver extends AbstractShardBackendResolver {
+    /**
+     * Cached routing information for a module, as identified by the first path argument.
+     *
+     * @param generation {@link Configuration#getGeneration()} this route has been computed for
+     * @param strategy strategy to consult for paths within the module
+     * @param cookie cookie of the shard holding all data of the module, or {@code null} if it depends on the path
+     */
+    private record ModuleRoute(long generation, @NonNull ShardStrategy strategy, @Nullable Long cookie) {
+        ModuleRoute {
+            requireNonNull(strategy);
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(ModuleShardBackendResolver.class);
 
     private final ConcurrentMap<Long, ShardState> backends = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QNameModule, ModuleRoute> routes = new ConcurrentHashMap<>();
 
     private final Future<Registration> shardAvailabilityChangesRegFuture;
 
@@ -86,7 +105,45 @@ final class ModuleShardBackendResolver extends AbstractShardBackendResolver {
     }
 
     Long resolveShardForPath(final YangInstanceIdentifier path) {
-        return resolveCookie(actorUtils().getShardStrategyFactory().getStrategy(path).findShard(path));
+        if (path.isEmpty()) {
+            return resolveCookie(actorUtils().getShardStrategyFactory().getStrategy(path).findShard(path));
+        }
+
+        final var route = resolveRoute(path);
+        final var cookie = route.cookie();
+        return cookie != null ? cookie : resolveCookie(route.strategy().findShard(path));
+    }
+
+    Stream<Long> resolveShardsForPath(final YangInstanceIdentifier path) {
+        if (path.isEmpty()) {
+            return resolveAllShards();
+        }
+
+        final var route = resolveRoute(path);
+        final var cookie = route.cookie();
+        return cookie != null ? Stream.of(cookie) : route.strategy().findShards(path).stream()
+            .map(this::resolveCookie);
+    }
+
+    /*
+     * Resolving the strategy involves a string-keyed lookup of the module by namespace, which is too expensive to do
+     * for every modification. Cache the result per module of the first path argument instead, recomputing it when
+     * the configuration changes.
+     */
+    private @NonNull ModuleRoute resolveRoute(final YangInstanceIdentifier path) {
+        final var module = path.getPathArguments().get(0).getNodeType().getModule();
+        final long generation = actorUtils().getConfiguration().getGeneration();
+        final var existing = routes.get(module);
+        if (existing != null && existing.generation() == generation) {
+            return existing;
+        }
+
+        final var strategy = actorUtils().getShardStrategyFactory().getStrategy(path);
+        final var route = new ModuleRoute(generation, strategy,
+            strategy.isPathIndependent() ? resolveCookie(strategy.findShard(path)) : null);
+        LOG.debug("Resolved module {} to {}", module, route);
+        routes.put(module, route);
+        return route;
     }
 
     Stream<Long> resolveAllShards() {
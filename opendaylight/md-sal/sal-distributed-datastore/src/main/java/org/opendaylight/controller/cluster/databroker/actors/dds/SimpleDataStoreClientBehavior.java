@@ -37,7 +37,7 @@ final class SimpleDataStoreClientBehavior extends AbstractDataStoreClientBehavio
     }
 
     @Override
-    Stream<Long> resolveAllShards() {
+    Stream<Long> resolveShardsForPath(final YangInstanceIdentifier path) {
         return Stream.of(ZERO);
     }
 }
@@ -16,6 +16,7 @@ import akka.actor.Props;
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.common.util.concurrent.Uninterruptibles;
@@ -157,22 +158,21 @@ public abstract class AbstractDataStore implements DistributedDataStoreInterface
 
         /*
          * We need to potentially deal with multi-shard composition for registration targeting the root of the data
-         * store. If that is the case, we delegate to a more complicated setup invol
+         * store, or a subtree partitioned across shards. If that is the case, we delegate to a more complicated setup
+         * involving data composition.
          */
-        if (treeId.isEmpty()) {
-            // User is targeting root of the datastore. If there is more than one shard, we have to register with them
-            // all and perform data composition.
-            final var shardNames = actorUtils.getConfiguration().getAllShardNames();
-            if (shardNames.size() > 1) {
-                if (!clustered) {
-                    throw new IllegalArgumentException(
-                        "Cannot listen on root without non-clustered listener " + listener);
-                }
-                return new RootDataTreeChangeListenerProxy<>(actorUtils, listener, shardNames);
+        final var strategy = actorUtils.getShardStrategyFactory().getStrategy(treeId);
+        final var shardNames = treeId.isEmpty() ? actorUtils.getConfiguration().getAllShardNames()
+            : ImmutableSet.copyOf(strategy.findShards(treeId));
+        if (shardNames.size() > 1) {
+            if (!clustered) {
+                throw new IllegalArgumentException(
+                    "Cannot listen on " + treeId + " spanning multiple shards with non-clustered listener " + listener);
             }
+            return new RootDataTreeChangeListenerProxy<>(actorUtils, listener, treeId, shardNames);
         }
 
-        final var shardName = actorUtils.getShardStrategyFactory().getStrategy(treeId).findShard(treeId);
+        final var shardName = strategy.findShard(treeId);
         LOG.debug("Registering tree listener: {} for tree: {} shard: {}", listener, treeId, shardName);
 
         return DataTreeChangeListenerProxy.of(actorUtils, listener, treeId, clustered, shardName);
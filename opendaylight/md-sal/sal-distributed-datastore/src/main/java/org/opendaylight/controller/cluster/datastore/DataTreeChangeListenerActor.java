@@ -28,15 +28,27 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 class DataTreeChangeListenerActor extends AbstractUntypedActor {
     private final DOMDataTreeChangeListener listener;
     private final YangInstanceIdentifier registeredPath;
+    // Either the listener itself or a QueuedDataTreeChangeListener wrapping it
+    private final DOMDataTreeChangeListener delivery;
 
     private boolean notificationsEnabled = false;
     private long notificationCount;
     private String logContext = "";
 
     DataTreeChangeListenerActor(final DOMDataTreeChangeListener listener,
-            final YangInstanceIdentifier registeredPath) {
+            final YangInstanceIdentifier registeredPath, final int queueSize, final boolean aggregate) {
         this.listener = requireNonNull(listener);
         this.registeredPath = requireNonNull(registeredPath);
+        delivery = queueSize > 0
+            ? new QueuedDataTreeChangeListener(listener, getContext().getDispatcher(), queueSize, aggregate) : listener;
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (delivery instanceof QueuedDataTreeChangeListener queued) {
+            queued.close();
+        }
+        super.postStop();
     }
 
     @Override
@@ -60,7 +72,7 @@ class DataTreeChangeListenerActor extends AbstractUntypedActor {
         LOG.debug("{}: Notifying onInitialData to listener {}", logContext, listener);
 
         try {
-            listener.onInitialData();
+            delivery.onInitialData();
         } catch (Exception e) {
             LOG.error("{}: Error notifying listener {}", logContext, listener, e);
         }
@@ -87,7 +99,7 @@ class DataTreeChangeListenerActor extends AbstractUntypedActor {
         notificationCount++;
 
         try {
-            listener.onDataTreeChanged(changes);
+            delivery.onDataTreeChanged(changes);
         } catch (Exception e) {
             LOG.error("{}: Error notifying listener {}", logContext, listener, e);
         }
@@ -109,6 +121,11 @@ class DataTreeChangeListenerActor extends AbstractUntypedActor {
     }
 
     static Props props(final DOMDataTreeChangeListener listener, final YangInstanceIdentifier registeredPath) {
-        return Props.create(DataTreeChangeListenerActor.class, listener, registeredPath);
+        return props(listener, registeredPath, 0);
+    }
+
+    static Props props(final DOMDataTreeChangeListener listener, final YangInstanceIdentifier registeredPath,
+            final int queueSize) {
+        return Props.create(DataTreeChangeListenerActor.class, listener, registeredPath, queueSize, true);
     }
 }
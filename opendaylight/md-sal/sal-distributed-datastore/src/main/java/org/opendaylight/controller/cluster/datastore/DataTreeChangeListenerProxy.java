@@ -53,7 +53,8 @@ final class DataTreeChangeListenerProxy extends AbstractObjectRegistration<DOMDa
         this.registeredPath = requireNonNull(registeredPath);
         this.clustered = clustered;
         dataChangeListenerActor = actorUtils.getActorSystem().actorOf(
-                DataTreeChangeListenerActor.props(getInstance(), registeredPath)
+                DataTreeChangeListenerActor.props(getInstance(), registeredPath,
+                    actorUtils.getDatastoreContext().getDataTreeChangeListenerQueueSize())
                     .withDispatcher(actorUtils.getNotificationDispatcherPath()));
         LOG.debug("{}: Created actor {} for DTCL {}", actorUtils.getDatastoreContext().getLogicalStoreType(),
                 dataChangeListenerActor, listener);
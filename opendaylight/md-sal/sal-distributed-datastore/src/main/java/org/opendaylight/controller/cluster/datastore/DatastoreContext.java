@@ -58,6 +58,7 @@ public class DatastoreContext implements ClientActorConfig {
     public static final FileAkkaConfigurationReader DEFAULT_CONFIGURATION_READER = new FileAkkaConfigurationReader();
     public static final int DEFAULT_SHARD_SNAPSHOT_DATA_THRESHOLD_PERCENTAGE = 12;
     public static final int DEFAULT_SHARD_SNAPSHOT_DATA_THRESHOLD = 0;
+    public static final int DEFAULT_SHARD_SNAPSHOT_DELTA_COUNT = 0;
     public static final int DEFAULT_SHARD_ELECTION_TIMEOUT_FACTOR = 2;
     public static final int DEFAULT_SHARD_CANDIDATE_ELECTION_TIMEOUT_DIVISOR = 1;
     public static final int DEFAULT_TX_CREATION_INITIAL_RATE_LIMIT = 100;
@@ -67,6 +68,7 @@ public class DatastoreContext implements ClientActorConfig {
             TimeUnit.MILLISECONDS.convert(2, TimeUnit.MINUTES);
     public static final int DEFAULT_MAX_MESSAGE_SLICE_SIZE = 480 * 1024; // 480KiB
     public static final int DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY = 512;
+    public static final int DEFAULT_DATA_TREE_CHANGE_LISTENER_QUEUE_SIZE = 0;
     public static final ExportOnRecovery DEFAULT_EXPORT_ON_RECOVERY = ExportOnRecovery.Off;
     public static final String DEFAULT_RECOVERY_EXPORT_BASE_DIR = "persistence-export";
 
@@ -94,6 +96,7 @@ public class DatastoreContext implements ClientActorConfig {
     private LogicalDatastoreType logicalStoreType = LogicalDatastoreType.OPERATIONAL;
     private YangInstanceIdentifier storeRoot = YangInstanceIdentifier.of();
     private int shardBatchedModificationCount = DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT;
+    private int shardSnapshotDeltaCount = DEFAULT_SHARD_SNAPSHOT_DELTA_COUNT;
     private boolean writeOnlyTransactionOptimizationsEnabled = true;
     private long shardCommitQueueExpiryTimeoutInMillis = DEFAULT_SHARD_COMMIT_QUEUE_EXPIRY_TIMEOUT_IN_MS;
     private boolean transactionDebugContextEnabled = false;
@@ -103,6 +106,7 @@ public class DatastoreContext implements ClientActorConfig {
     private long requestTimeout = AbstractClientConnection.DEFAULT_REQUEST_TIMEOUT_NANOS;
     private long noProgressTimeout = AbstractClientConnection.DEFAULT_NO_PROGRESS_TIMEOUT_NANOS;
     private int initialPayloadSerializedBufferCapacity = DEFAULT_INITIAL_PAYLOAD_SERIALIZED_BUFFER_CAPACITY;
+    private int dataTreeChangeListenerQueueSize = DEFAULT_DATA_TREE_CHANGE_LISTENER_QUEUE_SIZE;
     private boolean useLz4Compression = false;
     private ExportOnRecovery exportOnRecovery = DEFAULT_EXPORT_ON_RECOVERY;
     private String recoveryExportBaseDir = DEFAULT_RECOVERY_EXPORT_BASE_DIR;
@@ -142,6 +146,7 @@ public class DatastoreContext implements ClientActorConfig {
         logicalStoreType = other.logicalStoreType;
         storeRoot = other.storeRoot;
         shardBatchedModificationCount = other.shardBatchedModificationCount;
+        shardSnapshotDeltaCount = other.shardSnapshotDeltaCount;
         writeOnlyTransactionOptimizationsEnabled = other.writeOnlyTransactionOptimizationsEnabled;
         shardCommitQueueExpiryTimeoutInMillis = other.shardCommitQueueExpiryTimeoutInMillis;
         transactionDebugContextEnabled = other.transactionDebugContextEnabled;
@@ -150,6 +155,7 @@ public class DatastoreContext implements ClientActorConfig {
         requestTimeout = other.requestTimeout;
         noProgressTimeout = other.noProgressTimeout;
         initialPayloadSerializedBufferCapacity = other.initialPayloadSerializedBufferCapacity;
+        dataTreeChangeListenerQueueSize = other.dataTreeChangeListenerQueueSize;
         useLz4Compression = other.useLz4Compression;
         exportOnRecovery = other.exportOnRecovery;
         recoveryExportBaseDir = other.recoveryExportBaseDir;
@@ -165,6 +171,7 @@ public class DatastoreContext implements ClientActorConfig {
         setCandidateElectionTimeoutDivisor(other.raftConfig.getCandidateElectionTimeoutDivisor());
         setCustomRaftPolicyImplementation(other.raftConfig.getCustomRaftPolicyImplementationClass());
         setMaximumMessageSliceSize(other.getMaximumMessageSliceSize());
+        setInstallSnapshotWindowSize(other.raftConfig.getInstallSnapshotWindowSize());
         setPeerAddressResolver(other.raftConfig.getPeerAddressResolver());
         setTempFileDirectory(other.getTempFileDirectory());
         setFileBackedStreamingThreshold(other.getFileBackedStreamingThreshold());
@@ -333,6 +340,10 @@ public class DatastoreContext implements ClientActorConfig {
         this.maximumMessageSliceSize = maximumMessageSliceSize;
     }
 
+    private void setInstallSnapshotWindowSize(final int installSnapshotWindowSize) {
+        raftConfig.setInstallSnapshotWindowSize(installSnapshotWindowSize);
+    }
+
     private void setSyncIndexThreshold(final long syncIndexThreshold) {
         raftConfig.setSyncIndexThreshold(syncIndexThreshold);
     }
@@ -341,6 +352,10 @@ public class DatastoreContext implements ClientActorConfig {
         return shardBatchedModificationCount;
     }
 
+    public int getShardSnapshotDeltaCount() {
+        return shardSnapshotDeltaCount;
+    }
+
     public boolean isWriteOnlyTransactionOptimizationsEnabled() {
         return writeOnlyTransactionOptimizationsEnabled;
     }
@@ -389,6 +404,10 @@ public class DatastoreContext implements ClientActorConfig {
         return initialPayloadSerializedBufferCapacity;
     }
 
+    public int getDataTreeChangeListenerQueueSize() {
+        return dataTreeChangeListenerQueueSize;
+    }
+
     public static class Builder {
         private final DatastoreContext datastoreContext;
 
@@ -462,6 +481,12 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder shardSnapshotDeltaCount(final int shardSnapshotDeltaCount) {
+            checkArgument(shardSnapshotDeltaCount >= 0);
+            datastoreContext.shardSnapshotDeltaCount = shardSnapshotDeltaCount;
+            return this;
+        }
+
         public Builder shardHeartbeatIntervalInMillis(final int shardHeartbeatIntervalInMillis) {
             datastoreContext.setHeartbeatInterval(shardHeartbeatIntervalInMillis);
             return this;
@@ -620,6 +645,12 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder installSnapshotWindowSize(final int installSnapshotWindowSize) {
+            checkArgument(installSnapshotWindowSize > 0);
+            datastoreContext.setInstallSnapshotWindowSize(installSnapshotWindowSize);
+            return this;
+        }
+
         public Builder shardPeerAddressResolver(final PeerAddressResolver resolver) {
             datastoreContext.setPeerAddressResolver(resolver);
             return this;
@@ -660,6 +691,12 @@ public class DatastoreContext implements ClientActorConfig {
             return this;
         }
 
+        public Builder dataTreeChangeListenerQueueSize(final int queueSize) {
+            checkArgument(queueSize >= 0);
+            datastoreContext.dataTreeChangeListenerQueueSize = queueSize;
+            return this;
+        }
+
         public DatastoreContext build() {
             if (datastoreContext.dataStoreName != null) {
                 GLOBAL_DATASTORE_NAMES.add(datastoreContext.dataStoreName);
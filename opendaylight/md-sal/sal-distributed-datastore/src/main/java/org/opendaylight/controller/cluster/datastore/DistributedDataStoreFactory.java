@@ -59,6 +59,8 @@ public final class DistributedDataStoreFactory {
         LOG.info("Create data store instance of type : {}", datastoreName);
 
         final var actorSystem = actorSystemProvider.getActorSystem();
+        ShardSnapshotCohort.checkDeltaSnapshotSupport(actorSystem.settings().config(), initialDatastoreContext);
+
         final var restoreFromSnapshot = datastoreSnapshotRestore.getAndRemove(datastoreName).orElse(null);
 
         final Configuration config;
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DOMDataTreeChangeListener} which queues notifications and delivers them to a delegate listener from an
+ * {@link Executor}, one batch at a time. Changes queued while the delegate is busy are delivered together. If enabled,
+ * once a batch grows beyond the configured threshold, its changes are aggregated into a single change per subtree.
+ *
+ * <p>
+ * The threshold does not bound the queue: changes which cannot be aggregated, or all changes if aggregation is
+ * disabled, are retained until the delegate catches up.
+ */
+final class QueuedDataTreeChangeListener implements DOMDataTreeChangeListener {
+    /**
+     * Changes pending delivery. A {@code null} list indicates an {@link #onInitialData()} notification.
+     */
+    private static final class Batch {
+        final List<DataTreeCandidate> changes;
+        int aggregateThreshold;
+
+        Batch(final List<DataTreeCandidate> changes, final int aggregateThreshold) {
+            this.changes = changes;
+            this.aggregateThreshold = aggregateThreshold;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueuedDataTreeChangeListener.class);
+
+    private final DOMDataTreeChangeListener delegate;
+    private final Executor executor;
+    private final int maxQueuedChanges;
+    private final boolean aggregate;
+
+    @GuardedBy("this")
+    private final ArrayDeque<Batch> queue = new ArrayDeque<>();
+    @GuardedBy("this")
+    private boolean scheduled;
+    @GuardedBy("this")
+    private boolean closed;
+
+    QueuedDataTreeChangeListener(final DOMDataTreeChangeListener delegate, final Executor executor,
+            final int maxQueuedChanges) {
+        this(delegate, executor, maxQueuedChanges, true);
+    }
+
+    QueuedDataTreeChangeListener(final DOMDataTreeChangeListener delegate, final Executor executor,
+            final int maxQueuedChanges, final boolean aggregate) {
+        this.delegate = requireNonNull(delegate);
+        this.executor = requireNonNull(executor);
+        checkArgument(maxQueuedChanges > 0);
+        this.maxQueuedChanges = maxQueuedChanges;
+        this.aggregate = aggregate;
+    }
+
+    @Override
+    public synchronized void onDataTreeChanged(final List<DataTreeCandidate> changes) {
+        if (closed || changes.isEmpty()) {
+            return;
+        }
+
+        final var last = queue.peekLast();
+        if (last == null || last.changes == null) {
+            queue.addLast(new Batch(new ArrayList<>(changes), maxQueuedChanges));
+        } else {
+            last.changes.addAll(changes);
+            if (aggregate && last.changes.size() > last.aggregateThreshold) {
+                final int size = last.changes.size();
+                final var aggregated = aggregate(last.changes);
+                last.changes.clear();
+                last.changes.addAll(aggregated);
+                // Do not attempt to aggregate again until another maxQueuedChanges changes have been queued
+                last.aggregateThreshold = aggregated.size() + maxQueuedChanges;
+                LOG.debug("Listener {} is falling behind, aggregated {} changes into {}", delegate, size,
+                    aggregated.size());
+            }
+        }
+        schedule();
+    }
+
+    @Override
+    public synchronized void onInitialData() {
+        if (!closed) {
+            queue.addLast(new Batch(null, 0));
+            schedule();
+        }
+    }
+
+    /**
+     * Stop delivering notifications to the delegate, discarding any that have been queued.
+     */
+    synchronized void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    @GuardedBy("this")
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void drain() {
+        while (true) {
+            final Batch batch;
+            synchronized (this) {
+                batch = queue.pollFirst();
+                if (batch == null) {
+                    scheduled = false;
+                    return;
+                }
+            }
+
+            try {
+                if (batch.changes == null) {
+                    delegate.onInitialData();
+                } else if (!batch.changes.isEmpty()) {
+                    delegate.onDataTreeChanged(batch.changes);
+                }
+            } catch (Exception e) {
+                LOG.error("Error notifying listener {}", delegate, e);
+            }
+        }
+    }
+
+    /*
+     * Aggregate consecutive changes rooted at the same path. Changes which cannot be aggregated are retained as they
+     * are, while aggregates with no net effect are dropped.
+     */
+    @VisibleForTesting
+    static List<DataTreeCandidate> aggregate(final List<DataTreeCandidate> changes) {
+        final var result = new ArrayList<DataTreeCandidate>();
+        int start = 0;
+        for (int i = 1; i <= changes.size(); ++i) {
+            if (i < changes.size() && changes.get(i).getRootPath().equals(changes.get(start).getRootPath())) {
+                continue;
+            }
+
+            final var run = changes.subList(start, i);
+            start = i;
+            if (run.size() == 1) {
+                result.add(run.get(0));
+                continue;
+            }
+
+            final DataTreeCandidate aggregated;
+            try {
+                aggregated = DataTreeCandidates.aggregate(run);
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Failed to aggregate {} changes", run.size(), e);
+                result.addAll(run);
+                continue;
+            }
+            if (aggregated.getRootNode().modificationType() != ModificationType.UNMODIFIED) {
+                result.add(aggregated);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -23,12 +23,12 @@ import java.util.List;
 import java.util.Map;
 import org.opendaylight.controller.cluster.datastore.messages.DataTreeChanged;
 import org.opendaylight.controller.cluster.datastore.messages.OnInitialData;
+import org.opendaylight.controller.cluster.datastore.utils.RootScatterGather;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.opendaylight.yangtools.yang.data.api.schema.builder.DataContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateNodes;
@@ -36,14 +36,19 @@ import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor {
+    private final YangInstanceIdentifier path;
     private final int shardCount;
 
     // Initial messages, retaining order in which we have received them
     private Map<ActorRef, Object> initialMessages = new LinkedHashMap<>();
     private Deque<DataTreeChanged> otherMessages = new ArrayDeque<>();
 
-    private RootDataTreeChangeListenerActor(final DOMDataTreeChangeListener listener, final int shardCount) {
-        super(listener, YangInstanceIdentifier.of());
+    private RootDataTreeChangeListenerActor(final DOMDataTreeChangeListener listener,
+            final YangInstanceIdentifier path, final int shardCount, final int queueSize) {
+        // Changes from all shards are rooted at YangInstanceIdentifier.of(), hence aggregating them would merge
+        // changes from different shards. Queue them, but never aggregate them.
+        super(listener, path, queueSize, false);
+        this.path = path;
         this.shardCount = shardCount;
     }
 
@@ -87,22 +92,23 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
          * ordering is partially guaranteed (on shard boundaries). The data layout in shards is such that each DataTree
          * is rooted at YangInstanceIdentifier.of(), but their contents vary:
          *
-         * 1) non-default shards contain immediate children of root from one module
+         * 1) non-default shards contain immediate children of root from one module, or a subset of entries of a list
+         *    partitioned across multiple shards, along with that list's ancestors
          * 2) default shard contains everything else
-         * 3) there is no overlap between shards
+         * 3) there is no overlap between shards, except for ancestors of partitioned lists
          *
-         * When we subscribe to each of the shards, each of them will report root as being written, which is an accurate
-         * view from each shard's perspective, but it does not reflect the aggregate reality.
+         * When we subscribe to each of the shards, each of them will report the registered path as being written, which
+         * is an accurate view from each shard's perspective, but it does not reflect the aggregate reality.
          *
-         * Construct an overall NormalizedNode view of the entire datastore by combining first-level children from all
-         * reported initial state reports, report that node as written and then report any additional deltas.
+         * Construct an overall NormalizedNode view of the registered path by combining all reported initial state
+         * reports, report that node as written and then report any additional deltas.
          */
         final List<DataTreeCandidate> initialChanges = new ArrayList<>();
         // Reserve first item
         initialChanges.add(null);
 
-        final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> rootBuilder = Builders.containerBuilder()
-                .withNodeIdentifier(NodeIdentifier.create(SchemaContext.NAME));
+        NormalizedNode combined = path.isEmpty() ? Builders.containerBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(SchemaContext.NAME)).build() : null;
         for (Object message : initialMessages.values()) {
             if (message instanceof DataTreeChanged) {
                 final Collection<DataTreeCandidate> changes = ((DataTreeChanged) message).getChanges();
@@ -116,18 +122,32 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
                     initial = Iterables.get(changes, 0);
                 }
 
-                final NormalizedNode root = initial.getRootNode().getDataAfter();
-                verify(root instanceof ContainerNode, "Unexpected root node %s", root);
-                ((ContainerNode) root).body().forEach(rootBuilder::withChild);
+                final NormalizedNode data = initial.getRootNode().getDataAfter();
+                if (path.isEmpty()) {
+                    verify(data instanceof ContainerNode, "Unexpected root node %s", data);
+                }
+                if (data != null) {
+                    combined = combined == null ? data : RootScatterGather.merge(combined, data);
+                }
             }
         }
         // We will not be intercepting any other messages, allow initial state to be reclaimed as soon as possible
         initialMessages = null;
 
-        // Replace first element with the combined initial change, report initial changes and clear the map
-        initialChanges.set(0, DataTreeCandidates.newDataTreeCandidate(YangInstanceIdentifier.of(),
-            DataTreeCandidateNodes.written(rootBuilder.build())));
-        super.dataTreeChanged(new DataTreeChanged(initialChanges));
+        if (combined != null) {
+            // Replace first element with the combined initial change, report initial changes and clear the map
+            initialChanges.set(0, DataTreeCandidates.newDataTreeCandidate(path,
+                DataTreeCandidateNodes.written(combined)));
+            super.dataTreeChanged(new DataTreeChanged(initialChanges));
+        } else {
+            // No shard has any data at the registered path
+            initialChanges.remove(0);
+            if (initialChanges.isEmpty()) {
+                super.onInitialData(OnInitialData.INSTANCE);
+            } else {
+                super.dataTreeChanged(new DataTreeChanged(initialChanges));
+            }
+        }
 
         // Now go through all messages we have held back and report them. Note we are removing them from the queue
         // to allow them to be reclaimed as soon as possible.
@@ -137,7 +157,8 @@ final class RootDataTreeChangeListenerActor extends DataTreeChangeListenerActor
         otherMessages = null;
     }
 
-    static Props props(final DOMDataTreeChangeListener instance, final int shardCount) {
-        return Props.create(RootDataTreeChangeListenerActor.class, instance, shardCount);
+    static Props props(final DOMDataTreeChangeListener instance, final YangInstanceIdentifier path,
+            final int shardCount, final int queueSize) {
+        return Props.create(RootDataTreeChangeListenerActor.class, instance, path, shardCount, queueSize);
     }
 }
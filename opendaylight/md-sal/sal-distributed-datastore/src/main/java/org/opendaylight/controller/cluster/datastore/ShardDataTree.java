@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -59,6 +60,7 @@ import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardData
 import org.opendaylight.controller.cluster.datastore.persisted.PayloadVersion;
 import org.opendaylight.controller.cluster.datastore.persisted.PurgeLocalHistoryPayload;
 import org.opendaylight.controller.cluster.datastore.persisted.PurgeTransactionPayload;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardDeltaSnapshotState;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshotMetadata;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
@@ -131,6 +133,10 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
      * result in StackOverflowError.
      */
     private static final int MAX_TRANSACTION_BATCH = 100;
+    /**
+     * Maximum number of tracked delta candidates. Once exceeded, tracked candidates are folded into their aggregate.
+     */
+    private static final int MAX_DELTA_CANDIDATES = 256;
 
     private final Map<LocalHistoryIdentifier, ShardDataTreeTransactionChain> transactionChains = new HashMap<>();
     private final DataTreeCohortActorRegistry cohortRegistry = new DataTreeCohortActorRegistry();
@@ -163,6 +169,13 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
 
     private int currentTransactionBatch;
 
+    /**
+     * Candidates committed since the last full snapshot, in commit order. These are tracked only when delta snapshots
+     * are enabled, otherwise this field is null. The list is bounded by {@link #MAX_DELTA_CANDIDATES}, see
+     * {@link #trackDeltaCandidate(DataTreeCandidate)}.
+     */
+    private List<DataTreeCandidate> deltaCandidates;
+
     ShardDataTree(final Shard shard, final EffectiveModelContext schemaContext, final DataTree dataTree,
             final ShardDataTreeChangeListenerPublisher treeChangeListenerPublisher,
             final String logContext,
@@ -232,7 +245,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
      *
      * @return A state snapshot
      */
-    @NonNull ShardDataTreeSnapshot takeStateSnapshot() {
+    @NonNull MetadataShardDataTreeSnapshot takeStateSnapshot() {
         final var rootNode = takeSnapshot().readNode(YangInstanceIdentifier.of()).orElseThrow();
         final var metaBuilder =
             ImmutableMap.<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>builder();
@@ -247,6 +260,69 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         return new MetadataShardDataTreeSnapshot(rootNode, metaBuilder.build());
     }
 
+    /**
+     * Start tracking committed candidates, discarding any previously-tracked ones. This should be invoked when the
+     * current state becomes the base for subsequent delta snapshots.
+     */
+    final void startDeltaTracking() {
+        deltaCandidates = new ArrayList<>();
+    }
+
+    /**
+     * Return the candidates committed since {@link #startDeltaTracking()} was last invoked. Older candidates may have
+     * been folded into a single aggregate candidate.
+     *
+     * @return Tracked candidates, or null if candidates are not being tracked
+     */
+    final @Nullable List<DataTreeCandidate> deltaCandidates() {
+        return deltaCandidates;
+    }
+
+    /**
+     * Replace a number of tracked candidates with their aggregate. This keeps the number of tracked candidates in check
+     * once they have been captured in a delta snapshot.
+     *
+     * @param tracked Candidate list, as returned from {@link #deltaCandidates()}
+     * @param count Number of candidates to replace
+     * @param aggregate Aggregate candidate, null if there were no changes
+     */
+    final void compactDeltaCandidates(final List<DataTreeCandidate> tracked, final int count,
+            final @Nullable DataTreeCandidate aggregate) {
+        // Tracking may have been restarted, or the candidates folded, in the meantime
+        if (tracked == deltaCandidates) {
+            tracked.subList(0, count).clear();
+            if (aggregate != null) {
+                tracked.add(0, aggregate);
+            }
+        }
+    }
+
+    private void trackDeltaCandidate(final DataTreeCandidate candidate) {
+        if (deltaCandidates == null) {
+            return;
+        }
+
+        deltaCandidates.add(candidate);
+        if (deltaCandidates.size() > MAX_DELTA_CANDIDATES) {
+            // Fold tracked candidates into their aggregate, so we do not retain every candidate between snapshots. Note
+            // this replaces the list, hence any compaction requested against the old list is ignored.
+            final DataTreeCandidate aggregate;
+            try {
+                aggregate = DataTreeCandidates.aggregate(deltaCandidates);
+            } catch (IllegalArgumentException e) {
+                // Stop tracking: the next local snapshot will be a full one
+                LOG.warn("{}: failed to aggregate {} candidates, disabling delta tracking until next full snapshot",
+                    logContext, deltaCandidates.size(), e);
+                deltaCandidates = null;
+                return;
+            }
+
+            LOG.debug("{}: folded {} delta candidates", logContext, deltaCandidates.size());
+            deltaCandidates = new ArrayList<>();
+            deltaCandidates.add(aggregate);
+        }
+    }
+
     private boolean anyPendingTransactions() {
         return !pendingTransactions.isEmpty() || !pendingCommits.isEmpty() || !pendingFinishCommits.isEmpty();
     }
@@ -259,17 +335,8 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
             LOG.warn("{}: applying state snapshot with pending transactions", logContext);
         }
 
-        final var snapshotMeta = snapshot instanceof MetadataShardDataTreeSnapshot ms ? ms.getMetadata()
-            : Map.<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>of();
-
-        for (var m : metadata) {
-            final var s = snapshotMeta.get(m.getSupportedType());
-            if (s != null) {
-                m.applySnapshot(s);
-            } else {
-                m.reset();
-            }
-        }
+        applySnapshotMetadata(snapshot instanceof MetadataShardDataTreeSnapshot ms ? ms.getMetadata()
+            : Map.<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>of());
 
         final DataTreeModification unwrapped = newModification();
         final DataTreeModification mod = wrapper.apply(unwrapped);
@@ -286,11 +353,25 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         dataTree.validate(unwrapped);
         DataTreeCandidateTip candidate = dataTree.prepare(unwrapped);
         dataTree.commit(candidate);
+        // The entire tree has been replaced, any tracked candidates are meaningless now
+        deltaCandidates = null;
         notifyListeners(candidate);
 
         LOG.debug("{}: state snapshot applied in {}", logContext, elapsed);
     }
 
+    private void applySnapshotMetadata(final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>,
+            ShardDataTreeSnapshotMetadata<?>> snapshotMeta) {
+        for (var m : metadata) {
+            final var s = snapshotMeta.get(m.getSupportedType());
+            if (s != null) {
+                m.applySnapshot(s);
+            } else {
+                m.reset();
+            }
+        }
+    }
+
     /**
      * Apply a snapshot coming from the leader. This method assumes the leader and follower SchemaContexts match and
      * does not perform any pruning.
@@ -324,6 +405,37 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         }
     }
 
+    /**
+     * Apply a delta snapshot coming from recovery. This applies the full snapshot the delta is based on, followed by
+     * the changes in the delta. Like {@link #applyRecoverySnapshot(ShardSnapshotState)}, this method performs data
+     * pruning.
+     *
+     * @param snapshot Delta snapshot, combined with its base
+     * @throws DataValidationFailedException when the snapshot fails to apply
+     */
+    final void applyRecoveryDeltaSnapshot(final @NonNull ShardDeltaSnapshotState snapshot)
+            throws DataValidationFailedException {
+        final var base = snapshot.getBase();
+        checkState(base != null, "Delta snapshot %s has not been combined with its base", snapshot);
+        applyRecoverySnapshot(base);
+
+        final Stopwatch elapsed = Stopwatch.createStarted();
+        applySnapshotMetadata(snapshot.getMetadata());
+
+        final var candidate = snapshot.getCandidate();
+        if (candidate != null) {
+            final var unwrapped = newModification();
+            final var pruningMod = createPruningModification(unwrapped, base.needsMigration());
+            DataTreeCandidates.applyToModification(pruningMod, candidate);
+            pruningMod.ready();
+
+            dataTree.validate(unwrapped);
+            dataTree.commit(dataTree.prepare(unwrapped));
+        }
+
+        LOG.debug("{}: delta snapshot applied in {}", logContext, elapsed);
+    }
+
     @SuppressWarnings("checkstyle:IllegalCatch")
     private void applyRecoveryCandidate(final CommitTransactionPayload payload) throws IOException {
         final var entry = payload.acquireCandidate();
@@ -395,6 +507,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
         dataTree.validate(mod);
         final var candidate = dataTree.prepare(mod);
         dataTree.commit(candidate);
+        trackDeltaCandidate(candidate);
 
         allMetadataCommittedTransaction(transactionId);
         notifyListeners(candidate);
@@ -1081,6 +1194,7 @@ public class ShardDataTree extends ShardDataTreeTransactionParent {
             return;
         }
 
+        trackDeltaCandidate(candidate);
         allMetadataCommittedTransaction(txId);
         shard.getShardMBean().incrementCommittedTransactionCount();
         shard.getShardMBean().setLastCommittedTransactionTime(System.currentTimeMillis());
@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardDeltaSnapshotState;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.datastore.utils.NormalizedNodeXMLOutput;
 import org.opendaylight.controller.cluster.raft.RaftActorRecoveryCohort;
@@ -120,6 +121,10 @@ abstract class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void applyRecoverySnapshot(final Snapshot.State snapshotState) {
+        if (snapshotState instanceof ShardDeltaSnapshotState deltaSnapshotState) {
+            applyRecoveryDeltaSnapshot(deltaSnapshotState);
+            return;
+        }
         if (!(snapshotState instanceof ShardSnapshotState)) {
             log.debug("{}: applyRecoverySnapshot ignoring snapshot: {}", shardName, snapshotState);
             return;
@@ -137,4 +142,15 @@ abstract class ShardRecoveryCoordinator implements RaftActorRecoveryCohort {
                     shardName, shardSnapshot, f), e);
         }
     }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void applyRecoveryDeltaSnapshot(final ShardDeltaSnapshotState snapshotState) {
+        log.debug("{}: Applying recovered delta snapshot", shardName);
+        try {
+            store.applyRecoveryDeltaSnapshot(snapshotState);
+        } catch (Exception e) {
+            throw new IllegalStateException(String.format("%s: Failed to apply recovery delta snapshot %s", shardName,
+                snapshotState), e);
+        }
+    }
 }
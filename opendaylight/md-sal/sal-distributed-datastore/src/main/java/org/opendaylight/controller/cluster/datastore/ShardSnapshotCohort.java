@@ -11,10 +11,13 @@ import static java.util.Objects.requireNonNull;
 
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.io.ByteSource;
+import com.typesafe.config.Config;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.OutputStream;
+import java.util.List;
 import java.util.Optional;
 import org.opendaylight.controller.cluster.access.concepts.ClientIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.FrontendIdentifier;
@@ -23,16 +26,24 @@ import org.opendaylight.controller.cluster.access.concepts.LocalHistoryIdentifie
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.actors.ShardSnapshotActor;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardDeltaSnapshotState;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
+import org.opendaylight.controller.cluster.persistence.LocalSnapshotStore;
 import org.opendaylight.controller.cluster.raft.RaftActorSnapshotCohort;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
 import org.opendaylight.controller.cluster.raft.persisted.Snapshot.State;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.slf4j.Logger;
 
 /**
  * Participates in raft snapshotting on behalf of a Shard actor.
  *
+ * <p>
+ * When delta snapshots are enabled, local snapshots alternate between full snapshots and up to a configured number of
+ * {@link ShardDeltaSnapshotState delta snapshots}. A delta holds the aggregate of all candidates committed since the
+ * last persisted full snapshot, which is much cheaper to produce and store than the entire data tree.
+ *
  * @author Thomas Pantelis
  */
 final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
@@ -43,14 +54,29 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
     private final ShardDataTree store;
     private final String logId;
     private final Logger log;
+    private final int maxDeltaSnapshots;
+
+    // Set when delta tracking has been restarted for a full snapshot which has not been persisted yet
+    private boolean expectingBase;
+    // Set when a full snapshot has been persisted and candidates have been tracked since
+    private boolean hasBase;
+    private long baseIndex;
+    private long baseTerm;
+    // Number of delta snapshots persisted since the last full snapshot
+    private int deltaCount;
+    // Tracked candidates captured in the delta snapshot being persisted
+    private List<DataTreeCandidate> pendingCandidates;
+    private int pendingCandidateCount;
 
     ShardSnapshotCohort(final InputOutputStreamFactory streamFactory, final LocalHistoryIdentifier applyHistoryId,
-            final ActorRef snapshotActor, final ShardDataTree store, final Logger log, final String logId) {
+            final ActorRef snapshotActor, final ShardDataTree store, final Logger log, final String logId,
+            final int maxDeltaSnapshots) {
         this.streamFactory = requireNonNull(streamFactory);
         this.snapshotActor = requireNonNull(snapshotActor);
         this.store = requireNonNull(store);
         this.log = log;
         this.logId = logId;
+        this.maxDeltaSnapshots = maxDeltaSnapshots;
     }
 
     static ShardSnapshotCohort create(final ActorContext actorContext, final MemberName memberName,
@@ -66,11 +92,106 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
         final ActorRef snapshotActor = actorContext.actorOf(ShardSnapshotActor.props(streamFactory),
                 snapshotActorName);
 
-        return new ShardSnapshotCohort(streamFactory, applyHistoryId, snapshotActor, store, log, logId);
+        // The configuration may have been updated since the data store was created
+        int maxDeltaSnapshots = context.getShardSnapshotDeltaCount();
+        if (maxDeltaSnapshots > 0 && !supportsDeltaSnapshots(actorContext.system().settings().config())) {
+            log.error("{}: delta snapshots require {}, falling back to full snapshots", logId,
+                LocalSnapshotStore.class.getSimpleName());
+            maxDeltaSnapshots = 0;
+        }
+
+        return new ShardSnapshotCohort(streamFactory, applyHistoryId, snapshotActor, store, log, logId,
+            maxDeltaSnapshots);
+    }
+
+    /**
+     * Check whether the configured snapshot store can persist delta snapshots. Only {@link LocalSnapshotStore} knows
+     * how to combine a delta with its base snapshot when it is loaded.
+     *
+     * @param akkaConfig actor system configuration
+     * @return {@code true} if delta snapshots can be used
+     */
+    @VisibleForTesting
+    static boolean supportsDeltaSnapshots(final Config akkaConfig) {
+        final String pluginPath = "akka.persistence.snapshot-store.plugin";
+        if (!akkaConfig.hasPath(pluginPath)) {
+            return false;
+        }
+        final String classPath = akkaConfig.getString(pluginPath) + ".class";
+        return akkaConfig.hasPath(classPath)
+            && LocalSnapshotStore.class.getName().equals(akkaConfig.getString(classPath));
+    }
+
+    /**
+     * Verify that the snapshot store configured in the actor system supports the delta snapshots requested by
+     * the datastore configuration.
+     *
+     * @param akkaConfig actor system configuration
+     * @param context datastore configuration
+     * @throws IllegalArgumentException if delta snapshots are requested but not supported
+     */
+    static void checkDeltaSnapshotSupport(final Config akkaConfig, final DatastoreContext context) {
+        if (context.getShardSnapshotDeltaCount() > 0 && !supportsDeltaSnapshots(akkaConfig)) {
+            throw new IllegalArgumentException("Data store " + context.getDataStoreName()
+                + " is configured with shard-snapshot-delta-count " + context.getShardSnapshotDeltaCount()
+                + ", which requires the snapshot store to be " + LocalSnapshotStore.class.getName());
+        }
     }
 
     @Override
     public void createSnapshot(final ActorRef actorRef, final Optional<OutputStream> installSnapshotStream) {
+        // A snapshot to be installed on a follower is persisted locally as well, hence it becomes the base of
+        // subsequent deltas. Other snapshots requested through this method are not persisted locally.
+        if (installSnapshotStream.isPresent()) {
+            startBase();
+        }
+        requestSnapshot(actorRef, installSnapshotStream);
+    }
+
+    @Override
+    public void createLocalSnapshot(final ActorRef actorRef) {
+        final var tracked = store.deltaCandidates();
+        if (hasBase && deltaCount < maxDeltaSnapshots && tracked != null) {
+            pendingCandidates = tracked;
+            pendingCandidateCount = tracked.size();
+            log.debug("{}: requesting delta snapshot of {} candidates based on index {} term {}", logId,
+                pendingCandidateCount, baseIndex, baseTerm);
+            ShardSnapshotActor.requestDeltaSnapshot(snapshotActor, baseIndex, baseTerm, store.takeStateSnapshot(),
+                List.copyOf(tracked), actorRef);
+        } else {
+            startBase();
+            requestSnapshot(actorRef, Optional.empty());
+        }
+    }
+
+    @Override
+    public void snapshotPersisted(final Snapshot snapshot) {
+        if (snapshot.getState() instanceof ShardDeltaSnapshotState delta) {
+            deltaCount++;
+            if (pendingCandidates != null) {
+                store.compactDeltaCandidates(pendingCandidates, pendingCandidateCount, delta.getCandidate());
+                pendingCandidates = null;
+            }
+        } else if (snapshot.getState() instanceof ShardSnapshotState) {
+            // Only a snapshot for which we have started tracking is usable as a base
+            hasBase = expectingBase;
+            expectingBase = false;
+            baseIndex = snapshot.getLastAppliedIndex();
+            baseTerm = snapshot.getLastAppliedTerm();
+            deltaCount = 0;
+            pendingCandidates = null;
+        }
+    }
+
+    private void startBase() {
+        hasBase = false;
+        if (maxDeltaSnapshots > 0) {
+            store.startDeltaTracking();
+            expectingBase = true;
+        }
+    }
+
+    private void requestSnapshot(final ActorRef actorRef, final Optional<OutputStream> installSnapshotStream) {
         // Forward the request to the snapshot actor
         final ShardDataTreeSnapshot snapshot = store.takeStateSnapshot();
         log.debug("{}: requesting serialization of snapshot {}", logId, snapshot);
@@ -100,6 +221,9 @@ final class ShardSnapshotCohort implements RaftActorSnapshotCohort {
             return;
         }
 
+        // The applied snapshot has been persisted and hence is a suitable base
+        startBase();
+
         log.info("{}: Done applying snapshot", logId);
     }
 
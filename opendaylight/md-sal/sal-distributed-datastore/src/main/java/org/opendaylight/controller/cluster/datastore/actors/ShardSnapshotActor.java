@@ -14,12 +14,18 @@ import akka.actor.Props;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.util.List;
 import java.util.Optional;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActorWithMetering;
+import org.opendaylight.controller.cluster.datastore.persisted.MetadataShardDataTreeSnapshot;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardDataTreeSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardDeltaSnapshotState;
 import org.opendaylight.controller.cluster.datastore.persisted.ShardSnapshotState;
 import org.opendaylight.controller.cluster.io.InputOutputStreamFactory;
 import org.opendaylight.controller.cluster.raft.base.messages.CaptureSnapshotReply;
+import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 
 /**
  * This is an offload actor, which is given an isolated snapshot of the data tree. It performs the potentially
@@ -54,6 +60,20 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
         }
     }
 
+    // Internal message
+    private record CreateDeltaSnapshot(
+            long baseIndex,
+            long baseTerm,
+            MetadataShardDataTreeSnapshot snapshot,
+            List<DataTreeCandidate> candidates,
+            ActorRef replyTo) {
+        CreateDeltaSnapshot {
+            requireNonNull(snapshot);
+            requireNonNull(candidates);
+            requireNonNull(replyTo);
+        }
+    }
+
     //actor name override used for metering. This does not change the "real" actor name
     private static final String ACTOR_NAME_FOR_METERING = "shard-snapshot";
 
@@ -68,6 +88,8 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
     protected void handleReceive(final Object message) {
         if (message instanceof SerializeSnapshot) {
             onSerializeSnapshot((SerializeSnapshot) message);
+        } else if (message instanceof CreateDeltaSnapshot createDelta) {
+            onCreateDeltaSnapshot(createDelta);
         } else {
             unknownMessage(message);
         }
@@ -88,6 +110,27 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
                 installSnapshotStream), ActorRef.noSender());
     }
 
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void onCreateDeltaSnapshot(final CreateDeltaSnapshot request) {
+        final var candidates = request.candidates();
+
+        Snapshot.State state;
+        try {
+            final DataTreeCandidate aggregate = switch (candidates.size()) {
+                case 0 -> null;
+                case 1 -> candidates.get(0);
+                default -> DataTreeCandidates.aggregate(candidates);
+            };
+            state = new ShardDeltaSnapshotState(request.baseIndex(), request.baseTerm(),
+                request.snapshot().getMetadata(), aggregate);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to aggregate {} candidates, falling back to a full snapshot", candidates.size(), e);
+            state = new ShardSnapshotState(request.snapshot());
+        }
+
+        request.replyTo().tell(new CaptureSnapshotReply(state, Optional.empty()), ActorRef.noSender());
+    }
+
     private ObjectOutputStream getOutputStream(final OutputStream outputStream) throws IOException {
         return new ObjectOutputStream(streamFactory.wrapOutputStream(outputStream));
     }
@@ -106,6 +149,24 @@ public final class ShardSnapshotActor extends AbstractUntypedActorWithMetering {
         snapshotActor.tell(new SerializeSnapshot(snapshot, installSnapshotStream, replyTo), ActorRef.noSender());
     }
 
+    /**
+     * Sends a request to a ShardSnapshotActor to create a delta snapshot and send a CaptureSnapshotReply. The delta
+     * is created by aggregating specified candidates. Should the aggregation fail, a full snapshot is sent instead.
+     *
+     * @param snapshotActor the ShardSnapshotActor
+     * @param baseIndex last applied index of the full snapshot the delta is based on
+     * @param baseTerm last applied term of the full snapshot the delta is based on
+     * @param snapshot the current full snapshot
+     * @param candidates the candidates committed since the full snapshot
+     * @param replyTo the actor to which to send the CaptureSnapshotReply
+     */
+    public static void requestDeltaSnapshot(final ActorRef snapshotActor, final long baseIndex, final long baseTerm,
+            final MetadataShardDataTreeSnapshot snapshot, final List<DataTreeCandidate> candidates,
+            final ActorRef replyTo) {
+        snapshotActor.tell(new CreateDeltaSnapshot(baseIndex, baseTerm, snapshot, candidates, replyTo),
+            ActorRef.noSender());
+    }
+
     public static Props props(final InputOutputStreamFactory streamFactory) {
         return Props.create(ShardSnapshotActor.class, streamFactory);
     }
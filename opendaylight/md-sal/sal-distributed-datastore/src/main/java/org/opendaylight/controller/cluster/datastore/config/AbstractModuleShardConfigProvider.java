@@ -48,7 +48,8 @@ abstract class AbstractModuleShardConfigProvider implements ModuleShardConfigPro
 
             builder.nameSpace(wrapper.stringValue("namespace"));
             builder.shardStrategy(ShardStrategyFactory.newShardStrategyInstance(moduleName,
-                    wrapper.stringValue("shard-strategy"), configuration));
+                    wrapper.stringValue("shard-strategy"), configuration,
+                    wrapper.optionalStringValue("partitioned-list")));
         }
     }
 
@@ -81,5 +82,10 @@ abstract class AbstractModuleShardConfigProvider implements ModuleShardConfigPro
         String stringValue(final String name) {
             return configObject.get(name).unwrapped().toString();
         }
+
+        String optionalStringValue(final String name) {
+            final var value = configObject.get(name);
+            return value != null ? value.unwrapped().toString() : null;
+        }
     }
 }
@@ -8,6 +8,7 @@
 package org.opendaylight.controller.cluster.datastore.config;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +33,12 @@ public interface Configuration {
      */
     @Nullable String getShardNameForModule(@NonNull String moduleName);
 
+    /**
+     * Returns all the shard names corresponding to the given module name, sorted by name. The result is empty if the
+     * module is not configured.
+     */
+    @NonNull List<String> getShardNamesForModule(@NonNull String moduleName);
+
     /**
      * Returns the member replicas for the given shard name.
      */
@@ -43,6 +50,12 @@ public interface Configuration {
      */
     @Nullable ShardStrategy getStrategyForModule(@NonNull String moduleName);
 
+    /**
+     * Returns the generation of this configuration. The generation changes whenever a module or shard is added, hence
+     * it can be used to invalidate cached results of shard resolution.
+     */
+    long getGeneration();
+
     /**
      * Returns all the configured shard names.
      */
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
@@ -33,6 +34,8 @@ public class ConfigurationImpl implements Configuration {
     private volatile Map<String, String> namespaceToModuleName;
     private volatile Set<String> allShardNames;
 
+    private final AtomicLong generation = new AtomicLong();
+
     public ConfigurationImpl(final String moduleShardsConfigPath, final String modulesConfigPath) {
         this(new FileModuleShardConfigProvider(moduleShardsConfigPath, modulesConfigPath));
     }
@@ -109,6 +112,12 @@ public class ConfigurationImpl implements Configuration {
         return null;
     }
 
+    @Override
+    public List<String> getShardNamesForModule(final String moduleName) {
+        ModuleConfig moduleConfig = getModuleConfig(moduleName);
+        return moduleConfig != null ? moduleConfig.getShardNames().stream().sorted().toList() : List.of();
+    }
+
     private ModuleConfig getModuleConfig(final String moduleName) {
         return moduleConfigMap.get(requireNonNull(moduleName, "moduleName should not be null"));
     }
@@ -160,6 +169,13 @@ public class ConfigurationImpl implements Configuration {
         namespaceToModuleName = ImmutableMap.<String, String>builder().putAll(namespaceToModuleName)
                 .put(moduleConfig.getNamespace(), moduleConfig.getName()).build();
         allShardNames = ImmutableSet.<String>builder().addAll(allShardNames).add(config.getShardName()).build();
+        // Bump generation only once all look up maps have been updated
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation.get();
     }
 
     private ShardStrategy createShardStrategy(final String moduleName, final String shardStrategyName) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Verify.verifyNotNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Externalizable proxy for {@link ShardDeltaSnapshotState}.
+ */
+final class SD implements Externalizable {
+    private static final Logger LOG = LoggerFactory.getLogger(SD.class);
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private ShardDeltaSnapshotState snapshotState;
+
+    @SuppressWarnings("checkstyle:RedundantModifier")
+    public SD() {
+        // For Externalizable
+    }
+
+    SD(final ShardDeltaSnapshotState snapshotState) {
+        this.snapshotState = requireNonNull(snapshotState);
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeLong(snapshotState.getBaseIndex());
+        out.writeLong(snapshotState.getBaseTerm());
+
+        final var metadata = snapshotState.getMetadata();
+        out.writeInt(metadata.size());
+        for (var m : metadata.values()) {
+            out.writeObject(m);
+        }
+
+        final var candidate = snapshotState.getCandidate();
+        if (candidate != null) {
+            out.writeBoolean(true);
+            DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        final long baseIndex = in.readLong();
+        final long baseTerm = in.readLong();
+
+        final int metaSize = in.readInt();
+        checkArgument(metaSize >= 0, "Invalid negative metadata map length %s", metaSize);
+
+        final var metaBuilder = ImmutableMap
+            .<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>builder();
+        for (int i = 0; i < metaSize; ++i) {
+            final var m = (ShardDataTreeSnapshotMetadata<?>) in.readObject();
+            if (m != null) {
+                metaBuilder.put(m.getType(), m);
+            } else {
+                LOG.warn("Skipping null metadata");
+            }
+        }
+
+        final var candidate = in.readBoolean() ? DataTreeCandidateInputOutput.readDataTreeCandidate(in,
+            ReusableImmutableNormalizedNodeStreamWriter.create()).candidate() : null;
+
+        snapshotState = new ShardDeltaSnapshotState(baseIndex, baseTerm, metaBuilder.build(), candidate);
+    }
+
+    @java.io.Serial
+    private Object readResolve() {
+        return verifyNotNull(snapshotState);
+    }
+}
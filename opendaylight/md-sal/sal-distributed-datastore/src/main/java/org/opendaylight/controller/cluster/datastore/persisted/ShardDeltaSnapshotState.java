@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+
+/**
+ * A {@link Snapshot.State} holding the changes made to a shard's data tree since the last full snapshot, identified
+ * by its last applied index and term. The changes are captured as a single {@link DataTreeCandidate}, aggregated from
+ * all transactions committed since the full snapshot, along with the current snapshot metadata.
+ *
+ * <p>
+ * Instances are only ever persisted locally and are combined with the full snapshot through
+ * {@link #applyTo(Snapshot)} when they are loaded.
+ */
+public final class ShardDeltaSnapshotState implements Snapshot.State {
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long baseIndex;
+    private final long baseTerm;
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "This field is not Serializable but this class "
+            + "implements writeReplace to delegate serialization to a Proxy class and thus instances of this class "
+            + "aren't serialized. FindBugs does not recognize this.")
+    private final @NonNull Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>
+        metadata;
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "See above justification.")
+    private final @Nullable DataTreeCandidate candidate;
+    private final @Nullable ShardSnapshotState base;
+
+    private ShardDeltaSnapshotState(final long baseIndex, final long baseTerm,
+            final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata,
+            final @Nullable DataTreeCandidate candidate, final @Nullable ShardSnapshotState base) {
+        this.baseIndex = baseIndex;
+        this.baseTerm = baseTerm;
+        this.metadata = ImmutableMap.copyOf(metadata);
+        this.candidate = candidate;
+        this.base = base;
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param baseIndex last applied index of the full snapshot
+     * @param baseTerm last applied term of the full snapshot
+     * @param metadata current snapshot metadata
+     * @param candidate changes made since the full snapshot, {@code null} if there were none
+     */
+    public ShardDeltaSnapshotState(final long baseIndex, final long baseTerm,
+            final Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>> metadata,
+            final @Nullable DataTreeCandidate candidate) {
+        this(baseIndex, baseTerm, metadata, candidate, null);
+    }
+
+    public long getBaseIndex() {
+        return baseIndex;
+    }
+
+    public long getBaseTerm() {
+        return baseTerm;
+    }
+
+    public @NonNull Map<Class<? extends ShardDataTreeSnapshotMetadata<?>>, ShardDataTreeSnapshotMetadata<?>>
+            getMetadata() {
+        return metadata;
+    }
+
+    public @Nullable DataTreeCandidate getCandidate() {
+        return candidate;
+    }
+
+    /**
+     * Return the full snapshot state this delta applies to. It is available only if this instance was obtained from
+     * {@link #applyTo(Snapshot)}.
+     *
+     * @return the full snapshot state, or {@code null}
+     */
+    public @Nullable ShardSnapshotState getBase() {
+        return base;
+    }
+
+    @Override
+    public boolean isDelta() {
+        return true;
+    }
+
+    @Override
+    public boolean needsMigration() {
+        return base != null && base.needsMigration();
+    }
+
+    @Override
+    public ShardDeltaSnapshotState applyTo(final Snapshot snapshot) throws IOException {
+        if (snapshot.getLastAppliedIndex() != baseIndex || snapshot.getLastAppliedTerm() != baseTerm) {
+            throw new IOException("Delta snapshot based on index " + baseIndex + " term " + baseTerm
+                + " cannot be applied to " + snapshot);
+        }
+        if (!(snapshot.getState() instanceof ShardSnapshotState baseState)) {
+            throw new IOException("Unexpected base snapshot state " + snapshot.getState());
+        }
+        return new ShardDeltaSnapshotState(baseIndex, baseTerm, metadata, candidate, baseState);
+    }
+
+    @java.io.Serial
+    private Object writeReplace() {
+        return new SD(this);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("baseIndex", baseIndex)
+            .add("baseTerm", baseTerm)
+            .add("metadata", metadata)
+            .add("base", base)
+            .toString();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+
+/**
+ * A {@link ShardStrategy} which spreads entries of a single list across all shards configured for a module. The list
+ * is identified by the local names of the containers leading to it and of the list itself, for example
+ * {@code nodes/node}.
+ *
+ * <p>
+ * Shards are ordered by their name. A path identifying a list entry, or anything below it, is assigned to a shard
+ * based on a hash of the entry's key values. Any other path within the module belongs to the first shard, except for
+ * the list itself and its ancestors, which have data in all shards.
+ */
+public final class KeyHashShardStrategy implements ShardStrategy {
+    /**
+     * Sorted shard names of the module, as reported by {@link Configuration#getShardNamesForModule(String)}.
+     *
+     * @param generation {@link Configuration#getGeneration()} the names have been looked up in
+     * @param names shard names
+     */
+    private record ShardNames(long generation, @NonNull List<String> names) {
+        ShardNames {
+            requireNonNull(names);
+        }
+    }
+
+    public static final String NAME = "key-hash";
+
+    private final String moduleName;
+    private final Configuration configuration;
+    private final ImmutableList<String> listPath;
+
+    private volatile ShardNames cachedShardNames;
+
+    public KeyHashShardStrategy(final String moduleName, final Configuration configuration,
+            final List<String> listPath) {
+        this.moduleName = requireNonNull(moduleName);
+        this.configuration = requireNonNull(configuration);
+        this.listPath = ImmutableList.copyOf(listPath);
+        checkArgument(!this.listPath.isEmpty(), "Partitioned list path must not be empty");
+    }
+
+    @Override
+    public String findShard(final YangInstanceIdentifier path) {
+        final var shardNames = shardNames();
+        if (shardNames.isEmpty()) {
+            return DefaultShardStrategy.DEFAULT_SHARD;
+        }
+
+        final int matched = matchedLength(path);
+        if (matched == listPath.size() && path.size() > matched
+            && path.getPathArguments().get(matched) instanceof NodeIdentifierWithPredicates entry) {
+            return shardNames.get(Math.floorMod(keyHash(entry), shardNames.size()));
+        }
+        return shardNames.get(0);
+    }
+
+    @Override
+    public Collection<String> findShards(final YangInstanceIdentifier path) {
+        if (path.size() <= listPath.size() && matchedLength(path) == path.size()) {
+            final var shardNames = shardNames();
+            if (!shardNames.isEmpty()) {
+                return shardNames;
+            }
+        }
+        return List.of(findShard(path));
+    }
+
+    private int matchedLength(final YangInstanceIdentifier path) {
+        final var args = path.getPathArguments();
+        final int limit = Math.min(args.size(), listPath.size());
+        for (int i = 0; i < limit; ++i) {
+            if (!(args.get(i) instanceof NodeIdentifier arg)
+                || !listPath.get(i).equals(arg.getNodeType().getLocalName())) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    /*
+     * Looking up and sorting the module's shard names is too expensive to do for every path, cache the result until
+     * the configuration changes.
+     */
+    private @NonNull List<String> shardNames() {
+        final long generation = configuration.getGeneration();
+        final var cached = cachedShardNames;
+        if (cached != null && cached.generation() == generation) {
+            return cached.names();
+        }
+
+        final var names = configuration.getShardNamesForModule(moduleName);
+        cachedShardNames = new ShardNames(generation, names);
+        return names;
+    }
+
+    /*
+     * The result needs to be the same on all members of the cluster, regardless of the order in which key values
+     * appear in the identifier. Per-key hashes are therefore summed up, each of them covering the key's local name and
+     * its value.
+     */
+    private static int keyHash(final NodeIdentifierWithPredicates entry) {
+        int hash = 0;
+        for (var keyValue : entry.entrySet()) {
+            hash += 31 * keyValue.getKey().getLocalName().hashCode() + valueHash(keyValue.getValue());
+        }
+        return hash;
+    }
+
+    /*
+     * Values are hashed through their string representation, with the exception of binary values, as their
+     * Object.hashCode() is not stable across JVMs, and sets, such as bits, whose string representation depends on
+     * iteration order.
+     */
+    private static int valueHash(final Object value) {
+        if (value instanceof byte[] bytes) {
+            return Arrays.hashCode(bytes);
+        }
+        if (value instanceof Set<?> set) {
+            int hash = 0;
+            for (var element : set) {
+                hash += valueHash(element);
+            }
+            return hash;
+        }
+        return value.toString().hashCode();
+    }
+}
@@ -28,4 +28,9 @@ public class ModuleShardStrategy implements ShardStrategy {
         String shardName = configuration.getShardNameForModule(moduleName);
         return shardName != null ? shardName : DefaultShardStrategy.DEFAULT_SHARD;
     }
+
+    @Override
+    public boolean isPathIndependent() {
+        return true;
+    }
 }
@@ -8,6 +8,8 @@
 
 package org.opendaylight.controller.cluster.datastore.shardstrategy;
 
+import java.util.Collection;
+import java.util.List;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 /**
@@ -25,4 +27,26 @@ public interface ShardStrategy {
      * @return the corresponding shard name.
      */
     String findShard(YangInstanceIdentifier path);
+
+    /**
+     * Find the names of all shards which hold data at or below the specified path. Strategies which split a subtree
+     * across multiple shards return more than one name for paths which are ancestors of that subtree.
+     *
+     * @param path the location of the data in the logical tree
+     * @return the corresponding shard names, the first of which is the one returned by
+     *         {@link #findShard(YangInstanceIdentifier)}
+     */
+    default Collection<String> findShards(final YangInstanceIdentifier path) {
+        return List.of(findShard(path));
+    }
+
+    /**
+     * Check whether this strategy assigns all paths it is consulted for to the same single shard. If it does, callers
+     * may cache the result of {@link #findShard(YangInstanceIdentifier)} until the {@code Configuration} changes.
+     *
+     * @return {@code true} if the shard does not depend on the path
+     */
+    default boolean isPathIndependent() {
+        return false;
+    }
 }
@@ -7,9 +7,12 @@
  */
 package org.opendaylight.controller.cluster.datastore.shardstrategy;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.base.Splitter;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.datastore.config.Configuration;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
@@ -35,9 +38,20 @@ public class ShardStrategyFactory {
 
     public static ShardStrategy newShardStrategyInstance(final String moduleName, final String strategyName,
             final Configuration configuration) {
+        return newShardStrategyInstance(moduleName, strategyName, configuration, null);
+    }
+
+    public static ShardStrategy newShardStrategyInstance(final String moduleName, final String strategyName,
+            final Configuration configuration, final @Nullable String partitionedList) {
         if (ModuleShardStrategy.NAME.equals(strategyName)) {
             return new ModuleShardStrategy(moduleName, configuration);
         }
+        if (KeyHashShardStrategy.NAME.equals(strategyName)) {
+            checkArgument(partitionedList != null, "Module %s requires partitioned-list to use %s strategy", moduleName,
+                strategyName);
+            return new KeyHashShardStrategy(moduleName, configuration,
+                Splitter.on('/').omitEmptyStrings().trimResults().splitToList(partitionedList));
+        }
 
         return DefaultShardStrategy.getInstance();
     }
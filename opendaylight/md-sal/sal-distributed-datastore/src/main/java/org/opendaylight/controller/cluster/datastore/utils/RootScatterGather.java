@@ -8,7 +8,6 @@
 package org.opendaylight.controller.cluster.datastore.utils;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
@@ -16,31 +15,40 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 
 /**
- * Utility methods for dealing with datastore root {@link ContainerNode} with respect to module shards.
+ * Utility methods for dealing with datastore root {@link ContainerNode} and other nodes whose contents are split
+ * across multiple shards.
  */
 public final class RootScatterGather {
     @NonNullByDefault
-    public record ShardContainer<T>(T shard, ContainerNode container) {
-        public ShardContainer {
+    public record ShardNode<T>(T shard, NormalizedNode node) {
+        public ShardNode {
             requireNonNull(shard);
-            requireNonNull(container);
+            requireNonNull(node);
         }
 
         @Override
@@ -76,49 +84,143 @@ public final class RootScatterGather {
      */
     public static @NonNull FluentFuture<Optional<NormalizedNode>> gather(final ActorUtils actorUtils,
             final Stream<FluentFuture<Optional<NormalizedNode>>> readFutures) {
+        return gather(actorUtils, YangInstanceIdentifier.of(), readFutures);
+    }
+
+    /**
+     * Reconstruct a node from a set of constituents read from the same path in multiple shards.
+     *
+     * @param actorUtils {@link ActorUtils} reference
+     * @param path Path which has been read
+     * @param readFutures Consitutent read futures
+     * @return A composite future
+     */
+    public static @NonNull FluentFuture<Optional<NormalizedNode>> gather(final ActorUtils actorUtils,
+            final YangInstanceIdentifier path, final Stream<FluentFuture<Optional<NormalizedNode>>> readFutures) {
         return FluentFuture.from(Futures.transform(
             Futures.allAsList(readFutures.collect(ImmutableList.toImmutableList())), input -> {
                 try {
-                    return NormalizedNodeAggregator.aggregate(YangInstanceIdentifier.of(), input,
-                        actorUtils.getSchemaContext(), actorUtils.getDatastoreContext().getLogicalStoreType());
+                    return NormalizedNodeAggregator.aggregate(path, input, actorUtils.getSchemaContext(),
+                        actorUtils.getDatastoreContext().getLogicalStoreType());
                 } catch (DataValidationFailedException e) {
                     throw new IllegalArgumentException("Failed to aggregate", e);
                 }
             }, MoreExecutors.directExecutor()));
     }
 
-    public static <T> @NonNull Stream<ShardContainer<T>> scatterAll(final ContainerNode rootNode,
-            final Function<PathArgument, T> childToShard, final Stream<T> allShards) {
-        final var builders = allShards
-            .collect(Collectors.toUnmodifiableMap(Function.identity(), unused -> ImmutableNodes.newContainerBuilder()));
-        for (var child : rootNode.body()) {
-            final var shard = childToShard.apply(child.name());
-            verifyNotNull(builders.get(shard), "Failed to find builder for %s", shard).addChild(child);
-        }
-        return streamContainers(rootNode.name(), builders);
+    /**
+     * Split a node into per-shard nodes, one for each shard holding data at its path. Shards which do not receive
+     * any children get an empty node, hence this method is suitable for splitting up write operations.
+     *
+     * @param <T> Shard reference type
+     * @param path Path of the node
+     * @param node Node to be split up
+     * @param pathToShards Mapping function from a path to all shards holding data at that path
+     * @return Stream of {@link ShardNode}s
+     * @throws IllegalArgumentException if a node spanning multiple shards cannot be split up
+     */
+    public static <T> @NonNull Stream<ShardNode<T>> scatterAll(final YangInstanceIdentifier path,
+            final NormalizedNode node, final Function<YangInstanceIdentifier, List<T>> pathToShards) {
+        return streamNodes(scatter(path, node, pathToShards, true));
     }
 
     /**
-     * Split root container into per-shard root containers.
+     * Split a node into per-shard nodes, one for each shard which receives some of its children. This method is
+     * suitable for splitting up merge operations.
      *
      * @param <T> Shard reference type
-     * @param rootNode Root container to be split up
-     * @param childToShard Mapping function from child {@link PathArgument} to shard reference
-     * @return Stream of {@link ShardContainer}s, one for each touched shard
+     * @param path Path of the node
+     * @param node Node to be split up
+     * @param pathToShards Mapping function from a path to all shards holding data at that path
+     * @return Stream of {@link ShardNode}s, one for each touched shard
+     * @throws IllegalArgumentException if a node spanning multiple shards cannot be split up
+     */
+    public static <T> @NonNull Stream<ShardNode<T>> scatterTouched(final YangInstanceIdentifier path,
+            final NormalizedNode node, final Function<YangInstanceIdentifier, List<T>> pathToShards) {
+        return streamNodes(scatter(path, node, pathToShards, false));
+    }
+
+    /**
+     * Combine two nodes reported by different shards for the same path. Children present in both nodes are combined
+     * recursively, all other children are retained as they are.
+     *
+     * @param first First node
+     * @param second Second node
+     * @return Combined node
      */
-    public static <T> @NonNull Stream<ShardContainer<T>> scatterTouched(final ContainerNode rootNode,
-            final Function<PathArgument, T> childToShard) {
-        final var builders = new HashMap<T, ContainerNode.Builder>();
-        for (var child : rootNode.body()) {
-            builders.computeIfAbsent(childToShard.apply(child.name()), unused -> ImmutableNodes.newContainerBuilder())
-                .addChild(child);
+    public static @NonNull NormalizedNode merge(final NormalizedNode first, final NormalizedNode second) {
+        if (!isSplittable(first) || !isSplittable(second)) {
+            return second;
+        }
+
+        final var children = new LinkedHashMap<PathArgument, NormalizedNode>();
+        for (var child : ((DistinctNodeContainer<?, ?>) first).body()) {
+            children.put(child.name(), child);
+        }
+        for (var child : ((DistinctNodeContainer<?, ?>) second).body()) {
+            children.merge(child.name(), child, RootScatterGather::merge);
         }
-        return streamContainers(rootNode.name(), builders);
+        return rebuild(second, children.values());
+    }
+
+    private static <T> Map<T, NormalizedNode> scatter(final YangInstanceIdentifier path, final NormalizedNode node,
+            final Function<YangInstanceIdentifier, List<T>> pathToShards, final boolean allShards) {
+        final var shards = pathToShards.apply(path);
+        if (shards.size() == 1) {
+            return Map.of(shards.get(0), node);
+        }
+        checkArgument(isSplittable(node), "Cannot split %s across shards %s", node, shards);
+
+        final var children = new HashMap<T, List<NormalizedNode>>();
+        if (allShards) {
+            shards.forEach(shard -> children.put(shard, new ArrayList<>()));
+        }
+        for (var child : ((DistinctNodeContainer<?, ?>) node).body()) {
+            scatter(path.node(child.name()), child, pathToShards, allShards).forEach((shard, scattered) ->
+                children.computeIfAbsent(shard, unused -> new ArrayList<>()).add(scattered));
+        }
+        if (children.isEmpty()) {
+            // An empty node still needs to be created, do that in the first shard
+            children.put(shards.get(0), new ArrayList<>());
+        }
+
+        final var result = new HashMap<T, NormalizedNode>();
+        children.forEach((shard, shardChildren) -> result.put(shard, rebuild(node, shardChildren)));
+        return result;
+    }
+
+    private static boolean isSplittable(final NormalizedNode node) {
+        return node instanceof ContainerNode || node instanceof ChoiceNode || node instanceof SystemMapNode
+            || node instanceof UserMapNode;
+    }
+
+    private static NormalizedNode rebuild(final NormalizedNode template, final Collection<NormalizedNode> children) {
+        return switch (template) {
+            case ContainerNode container -> {
+                final var builder = ImmutableNodes.newContainerBuilder().withNodeIdentifier(container.name());
+                children.forEach(child -> builder.withChild((DataContainerChild) child));
+                yield builder.build();
+            }
+            case ChoiceNode choice -> {
+                final var builder = ImmutableNodes.newChoiceBuilder().withNodeIdentifier(choice.name());
+                children.forEach(child -> builder.withChild((DataContainerChild) child));
+                yield builder.build();
+            }
+            case SystemMapNode map -> {
+                final var builder = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(map.name());
+                children.forEach(child -> builder.withChild((MapEntryNode) child));
+                yield builder.build();
+            }
+            case UserMapNode map -> {
+                final var builder = ImmutableNodes.newUserMapBuilder().withNodeIdentifier(map.name());
+                children.forEach(child -> builder.withChild((MapEntryNode) child));
+                yield builder.build();
+            }
+            default -> throw new IllegalArgumentException("Cannot split " + template + " across shards");
+        };
     }
 
-    private static <T> @NonNull Stream<ShardContainer<T>> streamContainers(final NodeIdentifier rootId,
-            final Map<T, ContainerNode.Builder> builders) {
-        return builders.entrySet().stream()
-            .map(entry -> new ShardContainer<>(entry.getKey(), entry.getValue().withNodeIdentifier(rootId).build()));
+    private static <T> @NonNull Stream<ShardNode<T>> streamNodes(final Map<T, NormalizedNode> nodes) {
+        return nodes.entrySet().stream().map(entry -> new ShardNode<>(entry.getKey(), entry.getValue()));
     }
 }
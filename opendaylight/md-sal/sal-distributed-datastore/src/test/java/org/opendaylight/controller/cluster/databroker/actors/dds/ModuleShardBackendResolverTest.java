@@ -12,6 +12,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -41,6 +42,7 @@ import org.opendaylight.controller.cluster.access.concepts.FrontendIdentifier;
 import org.opendaylight.controller.cluster.access.concepts.FrontendType;
 import org.opendaylight.controller.cluster.access.concepts.MemberName;
 import org.opendaylight.controller.cluster.access.concepts.RuntimeRequestException;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
 import org.opendaylight.controller.cluster.datastore.messages.PrimaryShardInfo;
 import org.opendaylight.controller.cluster.datastore.shardmanager.RegisterForShardAvailabilityChanges;
 import org.opendaylight.controller.cluster.datastore.shardstrategy.DefaultShardStrategy;
@@ -49,6 +51,7 @@ import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategy
 import org.opendaylight.controller.cluster.datastore.utils.ActorUtils;
 import org.opendaylight.controller.cluster.datastore.utils.PrimaryShardInfoFutureCache;
 import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import scala.concurrent.Promise;
@@ -62,6 +65,7 @@ public class ModuleShardBackendResolverTest {
     private static final ClientIdentifier CLIENT_ID = ClientIdentifier.create(FRONTEND_ID, 0);
 
     private ActorSystem system;
+    private ActorUtils actorUtils;
     private ModuleShardBackendResolver moduleShardBackendResolver;
     private TestProbe contextProbe;
     private TestProbe shardManagerProbe;
@@ -72,6 +76,8 @@ public class ModuleShardBackendResolverTest {
     private ShardStrategy shardStrategy;
     @Mock
     private DataTree dataTree;
+    @Mock
+    private Configuration configuration;
 
     @Before
     public void setUp() {
@@ -80,7 +86,7 @@ public class ModuleShardBackendResolverTest {
 
         shardManagerProbe = new TestProbe(system, "ShardManager");
 
-        final ActorUtils actorUtils = createActorUtilsMock(system, contextProbe.ref());
+        actorUtils = createActorUtilsMock(system, contextProbe.ref());
         doReturn(shardManagerProbe.ref()).when(actorUtils).getShardManager();
 
         moduleShardBackendResolver = new ModuleShardBackendResolver(CLIENT_ID, actorUtils);
@@ -109,6 +115,27 @@ public class ModuleShardBackendResolverTest {
         assertEquals(1L, (long) cookie);
     }
 
+    @Test
+    public void testResolveShardForPathCachesModuleRoute() {
+        final var qname = QName.create("ns", "foo");
+        final var path = YangInstanceIdentifier.of(qname);
+        doReturn(configuration).when(actorUtils).getConfiguration();
+        doReturn(shardStrategy).when(shardStrategyFactory).getStrategy(path);
+        doReturn(true).when(shardStrategy).isPathIndependent();
+        doReturn("foo").when(shardStrategy).findShard(path);
+
+        final Long cookie = moduleShardBackendResolver.resolveShardForPath(path);
+        assertEquals(1L, (long) cookie);
+        assertEquals(cookie, moduleShardBackendResolver.resolveShardForPath(
+            path.node(QName.create(qname, "bar"))));
+        verify(shardStrategyFactory).getStrategy(path);
+
+        // Configuration change invalidates the route
+        doReturn(1L).when(configuration).getGeneration();
+        assertEquals(cookie, moduleShardBackendResolver.resolveShardForPath(path));
+        verify(shardStrategyFactory, times(2)).getStrategy(path);
+    }
+
     @Test
     public void testGetBackendInfo() throws Exception {
         final CompletionStage<ShardBackendInfo> i = moduleShardBackendResolver.getBackendInfo(0L);
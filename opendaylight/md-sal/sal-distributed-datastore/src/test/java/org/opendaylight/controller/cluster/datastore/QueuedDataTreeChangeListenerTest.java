@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class QueuedDataTreeChangeListenerTest {
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Mock
+    private DOMDataTreeChangeListener delegate;
+
+    private QueuedDataTreeChangeListener listener;
+
+    @Before
+    public void before() {
+        listener = new QueuedDataTreeChangeListener(delegate, tasks::add, 2);
+    }
+
+    @Test
+    public void testChangesAreBatched() {
+        final var first = write(TestModel.TEST_QNAME);
+        final var second = write(TestModel.TEST2_QNAME);
+
+        listener.onInitialData();
+        listener.onDataTreeChanged(List.of(first));
+        listener.onDataTreeChanged(List.of(second));
+        // Only a single task is scheduled until the queue is drained
+        assertEquals(1, tasks.size());
+        verifyNoInteractions(delegate);
+
+        runTasks();
+        final var inOrder = inOrder(delegate);
+        inOrder.verify(delegate).onInitialData();
+        inOrder.verify(delegate).onDataTreeChanged(List.of(first, second));
+    }
+
+    @Test
+    public void testOverflowAggregates() {
+        listener.onDataTreeChanged(List.of(write(TestModel.TEST_QNAME)));
+        listener.onDataTreeChanged(List.of(write(TestModel.TEST_QNAME)));
+        listener.onDataTreeChanged(List.of(write(TestModel.TEST_QNAME)));
+
+        runTasks();
+        verify(delegate).onDataTreeChanged(argThat(changes -> changes.size() == 1));
+    }
+
+    @Test
+    public void testOverflowWithoutAggregation() {
+        listener = new QueuedDataTreeChangeListener(delegate, tasks::add, 2, false);
+
+        final var first = write(TestModel.TEST_QNAME);
+        final var second = write(TestModel.TEST_QNAME);
+        final var third = write(TestModel.TEST_QNAME);
+        listener.onDataTreeChanged(List.of(first));
+        listener.onDataTreeChanged(List.of(second));
+        listener.onDataTreeChanged(List.of(third));
+
+        runTasks();
+        verify(delegate).onDataTreeChanged(List.of(first, second, third));
+    }
+
+    @Test
+    public void testAggregate() {
+        final var other = write(TestModel.TEST2_QNAME);
+        final var aggregated = QueuedDataTreeChangeListener.aggregate(List.of(
+            write(TestModel.TEST_QNAME), write(TestModel.TEST_QNAME), other));
+
+        assertEquals(2, aggregated.size());
+        assertEquals(TestModel.TEST_PATH, aggregated.get(0).getRootPath());
+        assertEquals(ModificationType.WRITE, aggregated.get(0).getRootNode().modificationType());
+        assertEquals(other, aggregated.get(1));
+    }
+
+    @Test
+    public void testDelegateFailureDoesNotStopDelivery() {
+        doThrow(new RuntimeException("mock")).when(delegate).onInitialData();
+
+        final var change = write(TestModel.TEST_QNAME);
+        listener.onInitialData();
+        listener.onDataTreeChanged(List.of(change));
+
+        runTasks();
+        verify(delegate).onDataTreeChanged(List.of(change));
+    }
+
+    @Test
+    public void testClose() {
+        listener.onDataTreeChanged(List.of(write(TestModel.TEST_QNAME)));
+        listener.close();
+        listener.onInitialData();
+
+        runTasks();
+        verify(delegate, never()).onDataTreeChanged(anyList());
+        verify(delegate, never()).onInitialData();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static DataTreeCandidate write(final QName qname) {
+        return DataTreeCandidates.fromNormalizedNode(YangInstanceIdentifier.of(qname),
+            ImmutableNodes.newContainerBuilder().withNodeIdentifier(new NodeIdentifier(qname)).build());
+    }
+}
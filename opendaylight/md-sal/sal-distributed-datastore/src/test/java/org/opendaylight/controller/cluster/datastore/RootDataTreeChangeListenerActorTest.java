@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import akka.actor.ActorRef;
+import akka.testkit.javadsl.TestKit;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.messages.DataTreeChanged;
+import org.opendaylight.controller.cluster.datastore.messages.EnableNotification;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.controller.md.cluster.datastore.model.PeopleModel;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class RootDataTreeChangeListenerActorTest extends AbstractActorTest {
+    /**
+     * A listener which blocks on its first notification until released, so that subsequent changes are queued.
+     */
+    private static final class BlockingListener implements DOMDataTreeChangeListener {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<List<DataTreeCandidate>> notifications = new ArrayList<>();
+
+        @Override
+        public void onDataTreeChanged(final List<DataTreeCandidate> changes) {
+            final boolean first;
+            synchronized (this) {
+                first = notifications.isEmpty();
+                notifications.add(List.copyOf(changes));
+            }
+            if (first) {
+                Uninterruptibles.awaitUninterruptibly(release);
+            }
+        }
+
+        @Override
+        public void onInitialData() {
+            // Not expected
+        }
+
+        synchronized List<DataTreeCandidate> allChanges() {
+            return notifications.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    @Test
+    public void testChangesFromTwoShardsAreNotAggregated() {
+        final var shard1 = new TestKit(getSystem());
+        final var shard2 = new TestKit(getSystem());
+        final var listener = new BlockingListener();
+
+        // Aggregate as soon as more than a single change is queued, if the actor allowed it
+        final ActorRef subject = getSystem().actorOf(RootDataTreeChangeListenerActor.props(listener,
+            YangInstanceIdentifier.of(), 2, 1), "testChangesFromTwoShardsAreNotAggregated");
+        subject.tell(new EnableNotification(true, "test"), shard1.getRef());
+
+        subject.tell(new DataTreeChanged(List.of(rootWrite(PeopleModel.create()))), shard1.getRef());
+        subject.tell(new DataTreeChanged(List.of(rootWrite(CarsModel.create()))), shard2.getRef());
+
+        // Queue further changes from both shards while the listener is blocked on the combined initial change
+        final var people = rootWrite(PeopleModel.emptyContainer());
+        final var cars = rootWrite(CarsModel.create());
+        final var morePeople = rootWrite(PeopleModel.create());
+        subject.tell(new DataTreeChanged(List.of(people)), shard1.getRef());
+        subject.tell(new DataTreeChanged(List.of(cars)), shard2.getRef());
+        subject.tell(new DataTreeChanged(List.of(morePeople)), shard1.getRef());
+
+        listener.release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> listener.allChanges().size() == 4);
+
+        final var changes = listener.allChanges();
+        assertTrue(changes.get(0).getRootPath().isEmpty());
+        // Each shard's change is delivered as it was reported
+        assertEquals(List.of(people, cars, morePeople), changes.subList(1, 4));
+    }
+
+    private static DataTreeCandidate rootWrite(final ContainerNode child) {
+        return DataTreeCandidates.fromNormalizedNode(YangInstanceIdentifier.of(),
+            ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(SchemaContext.NAME))
+                .withChild(child)
+                .build());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Test;
+
+public class ShardSnapshotCohortTest {
+    private static final Config LOCAL = ConfigFactory.parseString("""
+        akka.persistence.snapshot-store.plugin = akka.persistence.snapshot-store.local
+        akka.persistence.snapshot-store.local {
+          class = "org.opendaylight.controller.cluster.persistence.LocalSnapshotStore"
+        }
+        """);
+    private static final Config OTHER = ConfigFactory.parseString("""
+        akka.persistence.snapshot-store.plugin = in-memory-snapshot-store
+        in-memory-snapshot-store.class = "org.opendaylight.controller.cluster.raft.utils.InMemorySnapshotStore"
+        """);
+
+    @Test
+    public void testSupportsDeltaSnapshots() {
+        assertTrue(ShardSnapshotCohort.supportsDeltaSnapshots(LOCAL));
+        assertFalse(ShardSnapshotCohort.supportsDeltaSnapshots(OTHER));
+        assertFalse(ShardSnapshotCohort.supportsDeltaSnapshots(ConfigFactory.empty()));
+    }
+
+    @Test
+    public void testCheckDeltaSnapshotSupport() {
+        final var deltas = DatastoreContext.newBuilder().shardSnapshotDeltaCount(2).build();
+        ShardSnapshotCohort.checkDeltaSnapshotSupport(LOCAL, deltas);
+        assertThrows(IllegalArgumentException.class,
+            () -> ShardSnapshotCohort.checkDeltaSnapshotSupport(OTHER, deltas));
+
+        // Without deltas any snapshot store will do
+        ShardSnapshotCohort.checkDeltaSnapshotSupport(OTHER, DatastoreContext.newBuilder().build());
+    }
+}
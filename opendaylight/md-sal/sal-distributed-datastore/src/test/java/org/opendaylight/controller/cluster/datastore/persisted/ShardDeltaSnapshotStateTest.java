@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.persisted;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.raft.persisted.Snapshot;
+import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+public class ShardDeltaSnapshotStateTest {
+    private static final ContainerNode NODE = ImmutableNodes.newContainerBuilder()
+        .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+        .withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, "foo"))
+        .build();
+
+    @Test
+    public void testSerialization() {
+        final var expected = new ShardDeltaSnapshotState(5, 2, Map.of(),
+            DataTreeCandidates.fromNormalizedNode(TestModel.TEST_PATH, NODE));
+        final var cloned = SerializationUtils.clone(expected);
+
+        assertEquals(5, cloned.getBaseIndex());
+        assertEquals(2, cloned.getBaseTerm());
+        assertEquals(Map.of(), cloned.getMetadata());
+        assertNull(cloned.getBase());
+        assertTrue(cloned.isDelta());
+
+        final var candidate = cloned.getCandidate();
+        assertNotNull(candidate);
+        assertEquals(TestModel.TEST_PATH, candidate.getRootPath());
+        assertEquals(NODE, candidate.getRootNode().getDataAfter());
+    }
+
+    @Test
+    public void testSerializationWithoutCandidate() {
+        final var cloned = SerializationUtils.clone(new ShardDeltaSnapshotState(5, 2, Map.of(), null));
+        assertNull(cloned.getCandidate());
+    }
+
+    @Test
+    public void testApplyTo() throws IOException {
+        final var baseState = new ShardSnapshotState(new MetadataShardDataTreeSnapshot(NODE));
+        final var delta = new ShardDeltaSnapshotState(5, 2, Map.of(), null);
+
+        final var applied = delta.applyTo(Snapshot.create(baseState, List.of(), 5, 2, 5, 2, 2, "member-1", null));
+        assertSame(baseState, applied.getBase());
+        assertEquals(5, applied.getBaseIndex());
+
+        assertThrows(IOException.class,
+            () -> delta.applyTo(Snapshot.create(baseState, List.of(), 6, 2, 6, 2, 2, "member-1", null)));
+    }
+}
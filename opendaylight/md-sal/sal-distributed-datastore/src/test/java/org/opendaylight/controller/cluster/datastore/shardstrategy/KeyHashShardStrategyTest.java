@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.shardstrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class KeyHashShardStrategyTest {
+    private static final List<String> SHARDS = List.of("cars-1", "cars-2", "cars-3");
+
+    @Mock
+    private Configuration configuration;
+
+    private KeyHashShardStrategy strategy;
+
+    @Before
+    public void before() {
+        strategy = new KeyHashShardStrategy("cars", configuration, List.of("cars", "car"));
+    }
+
+    @Test
+    public void testEntriesAreSpread() {
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        final var used = new HashSet<String>();
+        for (int i = 0; i < 100; ++i) {
+            final var entryPath = carPath("car" + i);
+            final var shard = strategy.findShard(entryPath);
+            assertTrue(SHARDS.contains(shard));
+            assertEquals(List.of(shard), List.copyOf(strategy.findShards(entryPath)));
+            // Data below an entry lives with the entry
+            assertEquals(shard, strategy.findShard(entryPath.node(CarsModel.CAR_PRICE_QNAME)));
+            used.add(shard);
+        }
+        assertEquals(Set.copyOf(SHARDS), used);
+    }
+
+    @Test
+    public void testListAndAncestorsSpanAllShards() {
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        assertEquals(SHARDS, strategy.findShards(CarsModel.BASE_PATH));
+        assertEquals(SHARDS, strategy.findShards(CarsModel.CAR_LIST_PATH));
+        assertEquals("cars-1", strategy.findShard(CarsModel.CAR_LIST_PATH));
+    }
+
+    @Test
+    public void testOtherPathsUseFirstShard() {
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        final var other = CarsModel.BASE_PATH.node(CarsModel.CAR_PRICE_QNAME);
+        assertEquals("cars-1", strategy.findShard(other));
+        assertEquals(List.of("cars-1"), List.copyOf(strategy.findShards(other)));
+    }
+
+    @Test
+    public void testUnconfiguredModule() {
+        doReturn(List.of()).when(configuration).getShardNamesForModule("cars");
+        assertEquals(DefaultShardStrategy.DEFAULT_SHARD, strategy.findShard(carPath("altima")));
+        assertEquals(List.of(DefaultShardStrategy.DEFAULT_SHARD),
+            List.copyOf(strategy.findShards(CarsModel.CAR_LIST_PATH)));
+    }
+
+    @Test
+    public void testKeyOrderDoesNotMatter() {
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        for (int i = 0; i < 100; ++i) {
+            final var name = "car" + i;
+            final var price = Integer.toString(i * 1000);
+
+            final var nameFirst = new LinkedHashMap<QName, Object>();
+            nameFirst.put(CarsModel.CAR_NAME_QNAME, name);
+            nameFirst.put(CarsModel.CAR_PRICE_QNAME, price);
+            final var priceFirst = new LinkedHashMap<QName, Object>();
+            priceFirst.put(CarsModel.CAR_PRICE_QNAME, price);
+            priceFirst.put(CarsModel.CAR_NAME_QNAME, name);
+
+            assertEquals(strategy.findShard(carPath(nameFirst)), strategy.findShard(carPath(priceFirst)));
+        }
+    }
+
+    @Test
+    public void testSetOrderDoesNotMatter() {
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        for (int i = 0; i < 100; ++i) {
+            final var forward = new LinkedHashSet<>(List.of("a" + i, "b" + i, "c" + i));
+            final var backward = new LinkedHashSet<>(List.of("c" + i, "b" + i, "a" + i));
+
+            assertEquals(strategy.findShard(carPath(Map.<QName, Object>of(CarsModel.CAR_NAME_QNAME, forward))),
+                strategy.findShard(carPath(Map.<QName, Object>of(CarsModel.CAR_NAME_QNAME, backward))));
+        }
+    }
+
+    @Test
+    public void testShardNamesAreCached() {
+        doReturn(SHARDS).when(configuration).getShardNamesForModule("cars");
+        for (int i = 0; i < 10; ++i) {
+            strategy.findShard(carPath("car" + i));
+        }
+        verify(configuration).getShardNamesForModule("cars");
+
+        // A configuration change invalidates the cache
+        doReturn(1L).when(configuration).getGeneration();
+        strategy.findShards(CarsModel.CAR_LIST_PATH);
+        verify(configuration, times(2)).getShardNamesForModule("cars");
+    }
+
+    private static YangInstanceIdentifier carPath(final Map<QName, Object> keyValues) {
+        return CarsModel.CAR_LIST_PATH.node(NodeIdentifierWithPredicates.of(CarsModel.CAR_QNAME, keyValues));
+    }
+
+    private static YangInstanceIdentifier carPath(final String name) {
+        return CarsModel.CAR_LIST_PATH.node(
+            NodeIdentifierWithPredicates.of(CarsModel.CAR_QNAME, CarsModel.CAR_NAME_QNAME, name));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.utils.RootScatterGather.ShardNode;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class RootScatterGatherTest {
+    private static final NodeIdentifier CAR_LIST = new NodeIdentifier(CarsModel.CAR_QNAME);
+
+    @Test
+    public void testScatterAll() {
+        final var scattered = RootScatterGather.scatterAll(CarsModel.BASE_PATH, CarsModel.create(),
+            RootScatterGatherTest::carShards).collect(Collectors.toMap(ShardNode::shard, ShardNode::node));
+        assertEquals(3, scattered.size());
+        assertEquals(List.of("altima"), carNames(scattered.get("a")));
+        assertEquals(List.of("accord"), carNames(scattered.get("b")));
+        // Shards without entries get an empty list, so a write replaces their data
+        assertEquals(List.of(), carNames(scattered.get("c")));
+    }
+
+    @Test
+    public void testScatterTouched() {
+        final Map<String, NormalizedNode> scattered = RootScatterGather.scatterTouched(CarsModel.BASE_PATH,
+            CarsModel.create(), RootScatterGatherTest::carShards)
+            .collect(Collectors.toMap(ShardNode::shard, ShardNode::node));
+        assertEquals(2, scattered.size());
+        assertTrue(scattered.containsKey("a"));
+        assertTrue(scattered.containsKey("b"));
+    }
+
+    @Test
+    public void testMerge() {
+        final var scattered = RootScatterGather.scatterTouched(CarsModel.BASE_PATH, CarsModel.create(),
+            RootScatterGatherTest::carShards).map(ShardNode::node).toList();
+        final var merged = RootScatterGather.merge(scattered.get(0), scattered.get(1));
+        assertEquals(List.of("accord", "altima"), carNames(merged).stream().sorted().toList());
+    }
+
+    private static List<String> carShards(final YangInstanceIdentifier path) {
+        if (path.size() > 2) {
+            final var entry = (NodeIdentifierWithPredicates) path.getPathArguments().get(2);
+            return List.of("altima".equals(entry.getValue(CarsModel.CAR_NAME_QNAME)) ? "a" : "b");
+        }
+        return List.of("a", "b", "c");
+    }
+
+    private static List<String> carNames(final NormalizedNode node) {
+        final var cars = (MapNode) ((ContainerNode) node).getChildByArg(CAR_LIST);
+        return cars.body().stream()
+            .map(entry -> (String) entry.name().getValue(CarsModel.CAR_NAME_QNAME))
+            .toList();
+    }
+}
@@ -13,11 +13,13 @@ import akka.actor.ActorRef;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.controller.remote.rpc.registry.gossip.BucketData;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketDataDelta;
 
 /**
  * Common class for routing tables.
@@ -60,6 +62,15 @@ public abstract class AbstractRoutingTable<T extends AbstractRoutingTable<T, I>,
         return items.size();
     }
 
+    @Override
+    public final BucketDataDelta<T> deltaFrom(final T previous) {
+        final var previousItems = previous.getItems();
+        return new RoutingTableDelta<>(newInstance(invoker, Sets.difference(items, previousItems)),
+            newInstance(invoker, Sets.difference(previousItems, items)));
+    }
+
+    abstract @NonNull T newInstance(@NonNull ActorRef newInvoker, @NonNull Collection<I> newItems);
+
     abstract Object writeReplace();
 
     @Override
@@ -106,6 +106,11 @@ public final class ActionRoutingTable extends AbstractRoutingTable<ActionRouting
         return new ActionRoutingTable(getInvoker(), newActions);
     }
 
+    @Override
+    ActionRoutingTable newInstance(final ActorRef newInvoker, final Collection<DOMActionInstance> newItems) {
+        return new ActionRoutingTable(newInvoker, newItems);
+    }
+
     @Override
     Object writeReplace() {
         return new Proxy(this);
@@ -10,6 +10,8 @@ package org.opendaylight.controller.remote.rpc.registry;
 import akka.actor.ActorRef;
 import akka.serialization.JavaSerializer;
 import akka.serialization.Serialization;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.Externalizable;
 import java.io.IOException;
@@ -17,7 +19,6 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
 import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
@@ -85,15 +86,18 @@ public final class RoutingTable extends AbstractRoutingTable<RoutingTable, DOMRp
     }
 
     RoutingTable addRpcs(final Collection<DOMRpcIdentifier> toAdd) {
-        final Set<DOMRpcIdentifier> newRpcs = new HashSet<>(getItems());
-        newRpcs.addAll(toAdd);
-        return new RoutingTable(getInvoker(), newRpcs);
+        final var items = getItems();
+        return new RoutingTable(getInvoker(), ImmutableSet.<DOMRpcIdentifier>builderWithExpectedSize(
+            items.size() + toAdd.size()).addAll(items).addAll(toAdd).build());
     }
 
     RoutingTable removeRpcs(final Collection<DOMRpcIdentifier> toRemove) {
-        final Set<DOMRpcIdentifier> newRpcs = new HashSet<>(getItems());
-        newRpcs.removeAll(toRemove);
-        return new RoutingTable(getInvoker(), newRpcs);
+        return new RoutingTable(getInvoker(), Sets.difference(getItems(), Set.copyOf(toRemove)));
+    }
+
+    @Override
+    RoutingTable newInstance(final ActorRef newInvoker, final Collection<DOMRpcIdentifier> newItems) {
+        return new RoutingTable(newInvoker, newItems);
     }
 
     @Override
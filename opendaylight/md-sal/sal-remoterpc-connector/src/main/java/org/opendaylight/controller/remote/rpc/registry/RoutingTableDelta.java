@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.io.Serializable;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketDataDelta;
+
+/**
+ * A {@link BucketDataDelta} between two versions of an {@link AbstractRoutingTable}. Added and removed items are held
+ * in routing tables of the same type, hence the delta is serialized in the same format as the tables themselves.
+ *
+ * @param <T> Table type
+ * @param <I> Item type
+ */
+final class RoutingTableDelta<T extends AbstractRoutingTable<T, I>, I> implements BucketDataDelta<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final @NonNull T added;
+    private final @NonNull T removed;
+
+    RoutingTableDelta(final T added, final T removed) {
+        this.added = requireNonNull(added);
+        this.removed = requireNonNull(removed);
+    }
+
+    @Override
+    public T applyTo(final T base) {
+        final var baseItems = base.getItems();
+        final var addedItems = added.getItems();
+        final var removedItems = removed.getItems();
+
+        final var builder = ImmutableSet.<I>builderWithExpectedSize(baseItems.size() + addedItems.size());
+        for (I item : baseItems) {
+            if (!removedItems.contains(item)) {
+                builder.add(item);
+            }
+        }
+        return added.newInstance(added.getInvoker(), builder.addAll(addedItems).build());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("added", added.getItems().size())
+            .add("removed", removed.getItems().size()).toString();
+    }
+}
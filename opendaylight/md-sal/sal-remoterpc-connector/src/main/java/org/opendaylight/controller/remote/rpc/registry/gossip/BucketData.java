@@ -9,6 +9,8 @@ package org.opendaylight.controller.remote.rpc.registry.gossip;
 
 import akka.actor.ActorRef;
 import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
 
 /**
@@ -26,4 +28,16 @@ public interface BucketData<T extends BucketData<T>> extends Immutable {
      * @return Optional ActorRef.
      */
     Optional<ActorRef> getWatchActor();
+
+    /**
+     * Return a delta which transforms {@code previous} into this data. This allows the data to be propagated to peers
+     * which have seen {@code previous} without transferring it in its entirety. The default implementation does not
+     * support deltas.
+     *
+     * @param previous data from which this data was derived
+     * @return A {@link BucketDataDelta}, or {@code null} if deltas are not supported
+     */
+    default @Nullable BucketDataDelta<T> deltaFrom(final @NonNull T previous) {
+        return null;
+    }
 }
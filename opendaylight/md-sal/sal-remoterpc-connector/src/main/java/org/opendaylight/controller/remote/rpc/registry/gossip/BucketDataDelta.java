@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.concepts.Immutable;
+
+/**
+ * A change between two versions of {@link BucketData}, as produced by {@link BucketData#deltaFrom(BucketData)}.
+ * Implementations need to be serializable, as they are sent to remote nodes.
+ *
+ * @param <T> type of bucket data
+ */
+public interface BucketDataDelta<T extends BucketData<T>> extends Immutable {
+    /**
+     * Apply this delta to the data it was computed from.
+     *
+     * @param base data this delta was computed against
+     * @return resulting data
+     */
+    @NonNull T applyTo(@NonNull T base);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A sequence of {@link BucketDataDelta}s which transform a {@link Bucket} at {@link #baseVersion()} into a bucket at
+ * {@link #version()}. Sent in place of a full {@link Bucket} to peers which are known to have the base version.
+ *
+ * @param <T> type of bucket data
+ */
+final class BucketDelta<T extends BucketData<T>> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long baseVersion;
+    private final long version;
+    private final ImmutableList<BucketDataDelta<T>> changes;
+
+    BucketDelta(final long baseVersion, final long version, final List<BucketDataDelta<T>> changes) {
+        checkArgument(baseVersion < version, "Base version %s is not older than %s", baseVersion, version);
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.changes = ImmutableList.copyOf(changes);
+    }
+
+    long baseVersion() {
+        return baseVersion;
+    }
+
+    long version() {
+        return version;
+    }
+
+    Bucket<T> applyTo(final Bucket<T> base) {
+        checkArgument(base.getVersion() == baseVersion, "Expected base version %s, got %s", baseVersion,
+            base.getVersion());
+
+        T data = base.getData();
+        for (BucketDataDelta<T> change : changes) {
+            data = change.applyTo(data);
+        }
+        return new BucketImpl<>(version, data);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("baseVersion", baseVersion).add("version", version)
+            .add("changes", changes.size()).toString();
+    }
+}
@@ -8,7 +8,8 @@
 package org.opendaylight.controller.remote.rpc.registry.gossip;
 
 import static java.util.Objects.requireNonNull;
-import static org.opendaylight.controller.remote.rpc.registry.gossip.BucketStoreActor.getBucketsByMembersMessage;
+import static org.opendaylight.controller.remote.rpc.registry.gossip.BucketStoreActor.applyRemoteDeltasMessage;
+import static org.opendaylight.controller.remote.rpc.registry.gossip.BucketStoreActor.getBucketUpdatesMessage;
 import static org.opendaylight.controller.remote.rpc.registry.gossip.BucketStoreActor.getLocalDataMessage;
 import static org.opendaylight.controller.remote.rpc.registry.gossip.BucketStoreActor.getRemoteBucketsMessage;
 import static org.opendaylight.controller.remote.rpc.registry.gossip.BucketStoreActor.removeBucketMessage;
@@ -41,15 +42,14 @@ public final class BucketStoreAccess {
         this.timeout = requireNonNull(timeout);
     }
 
-    <T extends BucketData<T>> void getBucketsByMembers(final Collection<Address> members,
-            final Consumer<Map<Address, Bucket<T>>> callback) {
-        Patterns.ask(actorRef, getBucketsByMembersMessage(members), timeout)
+    void getBucketUpdates(final Address to, final Collection<Address> members,
+            final Map<Address, Long> remoteVersions, final Consumer<GossipEnvelope> callback) {
+        Patterns.ask(actorRef, getBucketUpdatesMessage(to, members, remoteVersions), timeout)
             .onComplete(new OnComplete<>() {
-                @SuppressWarnings("unchecked")
                 @Override
                 public void onComplete(final Throwable failure, final Object success) {
                     if (failure == null) {
-                        callback.accept((Map<Address, Bucket<T>>) success);
+                        callback.accept((GossipEnvelope) success);
                     }
                 }
             }, dispatcher);
@@ -77,6 +77,11 @@ public final class BucketStoreAccess {
         actorRef.tell(updateRemoteBucketsMessage((Map<Address, Bucket<?>>) buckets), ActorRef.noSender());
     }
 
+    @SuppressWarnings("unchecked")
+    void applyRemoteDeltas(final Map<Address, ? extends BucketDelta<?>> deltas) {
+        actorRef.tell(applyRemoteDeltasMessage((Map<Address, BucketDelta<?>>) deltas), ActorRef.noSender());
+    }
+
     void removeRemoteBucket(final Address addr) {
         actorRef.tell(removeBucketMessage(addr), ActorRef.noSender());
     }
@@ -94,8 +94,9 @@ public abstract class BucketStoreActor<T extends BucketData<T>> extends
         this.persistenceId = requireNonNull(persistenceId);
     }
 
-    static ExecuteInActor getBucketsByMembersMessage(final Collection<Address> members) {
-        return actor -> actor.getBucketsByMembers(members);
+    static ExecuteInActor getBucketUpdatesMessage(final Address to, final Collection<Address> members,
+            final Map<Address, Long> remoteVersions) {
+        return actor -> actor.getBucketUpdates(to, members, remoteVersions);
     }
 
     static ExecuteInActor removeBucketMessage(final Address addr) {
@@ -106,6 +107,10 @@ public abstract class BucketStoreActor<T extends BucketData<T>> extends
         return actor -> actor.updateRemoteBuckets(buckets);
     }
 
+    static ExecuteInActor applyRemoteDeltasMessage(final Map<Address, BucketDelta<?>> deltas) {
+        return actor -> actor.applyRemoteDeltas(deltas);
+    }
+
     static ExecuteInActor getLocalDataMessage() {
         return actor -> actor.getSender().tell(actor.getLocalData(), actor.getSelf());
     }
@@ -274,16 +279,28 @@ public abstract class BucketStoreActor<T extends BucketData<T>> extends
     }
 
     /**
-     * Helper to collect buckets for requested members.
+     * Helper to collect buckets for requested members into a {@link GossipEnvelope}. If the recipient is only a few
+     * versions behind our local bucket, it receives a {@link BucketDelta} instead of the full local bucket.
      *
+     * @param to recipient address
      * @param members requested members
+     * @param remoteVersions bucket versions known to the recipient
      */
-    private void getBucketsByMembers(final Collection<Address> members) {
-        Map<Address, Bucket<T>> buckets = new HashMap<>();
+    private void getBucketUpdates(final Address to, final Collection<Address> members,
+            final Map<Address, Long> remoteVersions) {
+        final Map<Address, Bucket<T>> buckets = new HashMap<>();
+        final Map<Address, BucketDelta<T>> deltas = new HashMap<>();
 
         //first add the local bucket if asked
         if (members.contains(selfAddress)) {
-            buckets.put(selfAddress, getLocalBucket().snapshot());
+            final LocalBucket<T> local = getLocalBucket();
+            final Long remoteVersion = remoteVersions.get(selfAddress);
+            final BucketDelta<T> delta = remoteVersion != null ? local.deltaSince(remoteVersion) : null;
+            if (delta != null) {
+                deltas.put(selfAddress, delta);
+            } else {
+                buckets.put(selfAddress, local.snapshot());
+            }
         }
 
         //then get buckets for requested remote nodes
@@ -293,7 +310,7 @@ public abstract class BucketStoreActor<T extends BucketData<T>> extends
             }
         }
 
-        getSender().tell(buckets, getSelf());
+        getSender().tell(new GossipEnvelope(selfAddress, to, buckets, deltas), getSelf());
     }
 
     private void removeBucket(final Address addr) {
@@ -363,6 +380,34 @@ public abstract class BucketStoreActor<T extends BucketData<T>> extends
         onBucketsUpdated(newBuckets);
     }
 
+    /**
+     * Update local copy of remote buckets by applying deltas to them. Deltas which do not apply to the version we have
+     * are ignored, as the remote will send us the full bucket once it learns our version.
+     *
+     * @param receivedDeltas bucket deltas sent by remote
+     *                       {@link org.opendaylight.controller.remote.rpc.registry.gossip.Gossiper}
+     */
+    @VisibleForTesting
+    void applyRemoteDeltas(final Map<Address, BucketDelta<?>> receivedDeltas) {
+        LOG.debug("{}: receiveApplyRemoteDeltas: {}", selfAddress, receivedDeltas);
+
+        final Map<Address, Bucket<?>> newBuckets = new HashMap<>(receivedDeltas.size());
+        for (Entry<Address, BucketDelta<?>> entry : receivedDeltas.entrySet()) {
+            final Address addr = entry.getKey();
+            @SuppressWarnings("unchecked")
+            final BucketDelta<T> delta = (BucketDelta<T>) entry.getValue();
+
+            final Bucket<T> bucket = remoteBuckets.get(addr);
+            if (bucket == null || bucket.getVersion() != delta.baseVersion()) {
+                LOG.debug("Ignoring delta {} from {}, local bucket is {}", delta, addr, bucket);
+                continue;
+            }
+            newBuckets.put(addr, delta.applyTo(bucket));
+        }
+
+        updateRemoteBuckets(newBuckets);
+    }
+
     private void addWatch(final Address addr, final ActorRef ref) {
         if (!watchedActors.containsKey(ref)) {
             getContext().watch(ref);
@@ -18,12 +18,19 @@ final class GossipEnvelope implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private final Map<Address, Bucket<?>> buckets;
+    private final Map<Address, BucketDelta<?>> deltas;
     private final Address from;
     private final Address to;
 
     GossipEnvelope(final Address from, final Address to, final Map<Address, ? extends Bucket<?>> buckets) {
+        this(from, to, buckets, ImmutableMap.of());
+    }
+
+    GossipEnvelope(final Address from, final Address to, final Map<Address, ? extends Bucket<?>> buckets,
+            final Map<Address, ? extends BucketDelta<?>> deltas) {
         this.to = requireNonNull(to);
         this.buckets = ImmutableMap.copyOf(buckets);
+        this.deltas = ImmutableMap.copyOf(deltas);
         this.from = from;
     }
 
@@ -31,6 +38,11 @@ final class GossipEnvelope implements Serializable {
         return buckets;
     }
 
+    Map<Address, BucketDelta<?>> deltas() {
+        // May be null when received from a peer which does not send deltas
+        return deltas != null ? deltas : ImmutableMap.of();
+    }
+
     Address from() {
         return from;
     }
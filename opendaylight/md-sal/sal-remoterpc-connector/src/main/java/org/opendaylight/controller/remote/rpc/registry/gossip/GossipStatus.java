@@ -17,10 +17,17 @@ final class GossipStatus implements Serializable {
 
     private final Map<Address, Long> versions;
     private final Address from;
+    // Deserialized as false when received from a peer which predates BucketDelta support
+    private final boolean acceptsDeltas;
 
     GossipStatus(final Address from, final Map<Address, Long> versions) {
+        this(from, versions, true);
+    }
+
+    GossipStatus(final Address from, final Map<Address, Long> versions, final boolean acceptsDeltas) {
         this.versions = ImmutableMap.copyOf(versions);
         this.from = from;
+        this.acceptsDeltas = acceptsDeltas;
     }
 
     Address from() {
@@ -30,4 +37,14 @@ final class GossipStatus implements Serializable {
     Map<Address, Long> versions() {
         return versions;
     }
+
+    /**
+     * Return whether the sender understands {@link BucketDelta}s in a {@link GossipEnvelope}. Peers which do not would
+     * silently drop them, hence they need to receive full buckets.
+     *
+     * @return {@code true} if the sender accepts deltas
+     */
+    boolean acceptsDeltas() {
+        return acceptsDeltas;
+    }
 }
\ No newline at end of file
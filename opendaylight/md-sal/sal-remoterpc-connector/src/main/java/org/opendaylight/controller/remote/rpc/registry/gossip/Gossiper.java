@@ -48,6 +48,9 @@ import scala.concurrent.duration.FiniteDuration;
  * with bucket store's bucket versions. Which ever buckets are newer
  * locally, are sent to remote gossiper. If any bucket is older in bucket store,
  * a gossip status is sent to remote gossiper so that it can send the newer buckets.
+ * The local node's own bucket is sent as a delta against the remote version, if
+ * the remote gossiper indicated it accepts deltas and the local bucket store still
+ * has the changes since that version.
  *
  * <p>
  * When a bucket is received from a remote gossiper, its sent to the bucket store
@@ -309,10 +312,13 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
         }
 
         if (!localIsNewer.isEmpty()) {
-            //send newer buckets to remote
-            bucketStore.getBucketsByMembers(localIsNewer, buckets -> {
-                LOG.trace("Buckets to send from {}: {}", selfAddress, buckets);
-                remote.tell(new GossipEnvelope(selfAddress, remote.path().address(), buckets), getSelf());
+            //send newer buckets to remote, our own bucket may be sent as a delta against the remote version if the
+            //remote understands deltas
+            final Map<Address, Long> deltaBases = status.acceptsDeltas() ? remoteVersions : Map.of();
+            bucketStore.getBucketUpdates(remote.path().address(), localIsNewer, deltaBases, envelope -> {
+                LOG.trace("Buckets to send from {}: {} deltas: {}", selfAddress, envelope.buckets(),
+                    envelope.deltas());
+                remote.tell(envelope, getSelf());
             });
         }
     }
@@ -331,6 +337,11 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
         }
 
         updateRemoteBuckets(envelope.buckets());
+
+        final Map<Address, BucketDelta<?>> deltas = envelope.deltas();
+        if (!deltas.isEmpty()) {
+            bucketStore.applyRemoteDeltas(Maps.filterKeys(deltas, peers::containsKey));
+        }
     }
 
     /**
@@ -10,6 +10,11 @@ package org.opendaylight.controller.remote.rpc.registry.gossip;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import org.eclipse.jdt.annotation.Nullable;
+
 /**
  * Local bucket implementation. Unlike a full-blown {@link Bucket}, this class is mutable and tracks when it has been
  * changed and when it has been sent anywhere.
@@ -17,6 +22,14 @@ import static java.util.Objects.requireNonNull;
  * @author Robert Varga
  */
 final class LocalBucket<T extends BucketData<T>> {
+    // Maximum number of published versions for which we retain deltas. Peers which are further behind receive the full
+    // bucket.
+    private static final int MAX_DELTAS = 32;
+
+    private record Change<T extends BucketData<T>>(long baseVersion, long version, BucketDataDelta<T> delta) {
+        // Nothing else
+    }
+
     /*
      * Decomposed 64bit signed version number. Always non-negative, hence the most significant bit is always zero.
      * - incarnation number (most-significant 31 bits, forming an unsigned int)
@@ -30,10 +43,17 @@ final class LocalBucket<T extends BucketData<T>> {
     // We bump versions only if we took a snapshot since last data update
     private boolean bumpVersion;
 
+    // Data and version last handed out to peers, and the changes which led to it, oldest first
+    private final Deque<Change<T>> changes = new ArrayDeque<>();
+    private T publishedData;
+    private long publishedVersion;
+
     LocalBucket(final int incarnation, final T data) {
         checkArgument(incarnation >= 0);
         this.version = (long)incarnation << Integer.SIZE;
         this.data = requireNonNull(data);
+        publishedData = data;
+        publishedVersion = version;
     }
 
     T getData() {
@@ -45,10 +65,57 @@ final class LocalBucket<T extends BucketData<T>> {
     }
 
     Bucket<T> snapshot() {
-        bumpVersion = true;
+        publish();
         return new BucketImpl<>(version, data);
     }
 
+    /**
+     * Return a delta transforming the bucket at specified version into a snapshot of this bucket.
+     *
+     * @param baseVersion version known to the recipient
+     * @return A {@link BucketDelta}, or {@code null} if the changes since {@code baseVersion} are not available
+     */
+    @Nullable BucketDelta<T> deltaSince(final long baseVersion) {
+        publish();
+
+        final var it = changes.iterator();
+        while (it.hasNext()) {
+            var change = it.next();
+            if (change.baseVersion() == baseVersion) {
+                final var deltas = new ArrayList<BucketDataDelta<T>>(changes.size());
+                deltas.add(change.delta());
+                while (it.hasNext()) {
+                    change = it.next();
+                    deltas.add(change.delta());
+                }
+                return new BucketDelta<>(baseVersion, change.version(), deltas);
+            }
+        }
+        return null;
+    }
+
+    private void publish() {
+        bumpVersion = true;
+        if (data == publishedData) {
+            return;
+        }
+
+        if (version != publishedVersion) {
+            final var delta = data.deltaFrom(publishedData);
+            if (delta != null) {
+                changes.addLast(new Change<>(publishedVersion, version, delta));
+                if (changes.size() > MAX_DELTAS) {
+                    changes.removeFirst();
+                }
+            } else {
+                changes.clear();
+            }
+            publishedVersion = version;
+        }
+        // else data has changed before we have published anything
+        publishedData = data;
+    }
+
     boolean setData(final T newData) {
         this.data = requireNonNull(newData);
         if (!bumpVersion) {
@@ -16,6 +16,7 @@ import akka.testkit.javadsl.TestKit;
 import com.google.common.collect.ImmutableMap;
 import com.typesafe.config.ConfigFactory;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.AfterClass;
@@ -131,15 +132,50 @@ public class BucketStoreTest {
 
     }
 
+    /**
+     * Given remote bucket deltas, should apply only those matching the local copy of the remote bucket.
+     */
+    @Test
+    public void testApplyRemoteDeltas() {
+        final BucketStoreActor<T> store = createStore("testDeltaStore");
+
+        final Address a1 = new Address("tcp", "system1");
+        final Address a2 = new Address("tcp", "system2");
+        store.updateRemoteBuckets(ImmutableMap.of(a1, new BucketImpl<>(1L, new T())));
+
+        //Delta against the version we have should be applied
+        final T applied = new T();
+        store.applyRemoteDeltas(ImmutableMap.of(a1, new BucketDelta<T>(1L, 3L, List.of(base -> applied))));
+        Bucket<T> a1InStore = store.getRemoteBuckets().get(a1);
+        Assert.assertEquals(3L, a1InStore.getVersion());
+        Assert.assertSame(applied, a1InStore.getData());
+        Assert.assertEquals(Long.valueOf(3L), store.getVersions().get(a1));
+
+        //Delta against a version we do not have should be ignored
+        store.applyRemoteDeltas(ImmutableMap.of(a1, new BucketDelta<T>(2L, 4L, List.of(base -> new T()))));
+        a1InStore = store.getRemoteBuckets().get(a1);
+        Assert.assertEquals(3L, a1InStore.getVersion());
+        Assert.assertSame(applied, a1InStore.getData());
+
+        //Delta for a bucket we do not have at all should be ignored
+        store.applyRemoteDeltas(ImmutableMap.of(a2, new BucketDelta<T>(0L, 1L, List.of(base -> new T()))));
+        Assert.assertFalse(store.getRemoteBuckets().containsKey(a2));
+    }
+
+    private static BucketStoreActor<T> createStore() {
+        return createStore("testStore");
+    }
+
     /**
      * Create BucketStore actor and returns the underlying instance of BucketStore class.
      *
+     * @param name actor name
      * @return instance of BucketStore class
      */
-    private static BucketStoreActor<T> createStore() {
+    private static BucketStoreActor<T> createStore(final String name) {
         final Props props = Props.create(TestingBucketStoreActor.class,
                 new RemoteOpsProviderConfig(system.settings().config()), "testing-store",new T());
-        return TestActorRef.<BucketStoreActor<T>>create(system, props, "testStore").underlyingActor();
+        return TestActorRef.<BucketStoreActor<T>>create(system, props, name).underlyingActor();
     }
 
     private static final class TestingBucketStoreActor extends BucketStoreActor<T> {
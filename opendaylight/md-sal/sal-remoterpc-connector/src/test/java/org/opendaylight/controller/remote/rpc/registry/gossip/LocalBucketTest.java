@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import akka.actor.ActorRef;
+import java.util.Optional;
+import org.junit.Test;
+
+public class LocalBucketTest {
+    /**
+     * Bucket data holding a single number, with deltas expressed as differences.
+     */
+    private record Counter(int value) implements BucketData<Counter> {
+        @Override
+        public Optional<ActorRef> getWatchActor() {
+            return Optional.empty();
+        }
+
+        @Override
+        public BucketDataDelta<Counter> deltaFrom(final Counter previous) {
+            final int diff = value - previous.value;
+            return base -> new Counter(base.value + diff);
+        }
+    }
+
+    @Test
+    public void testDeltaSince() {
+        final var bucket = new LocalBucket<>(0, new Counter(0));
+        final var initial = bucket.snapshot();
+
+        bucket.setData(new Counter(5));
+        final var first = bucket.snapshot();
+        bucket.setData(new Counter(7));
+        // not published yet, coalesced with the previous update
+        bucket.setData(new Counter(8));
+
+        final var fromInitial = bucket.deltaSince(initial.getVersion());
+        assertNotNull(fromInitial);
+        assertEquals(bucket.getVersion(), fromInitial.version());
+        assertEquals(new Counter(8), fromInitial.applyTo(initial).getData());
+
+        final var fromFirst = bucket.deltaSince(first.getVersion());
+        assertNotNull(fromFirst);
+        assertEquals(new Counter(8), fromFirst.applyTo(first).getData());
+
+        // unknown version
+        assertNull(bucket.deltaSince(bucket.getVersion() + 1));
+    }
+
+    @Test
+    public void testDeltaHistoryIsBounded() {
+        final var bucket = new LocalBucket<>(0, new Counter(0));
+        final long initialVersion = bucket.snapshot().getVersion();
+
+        for (int i = 1; i <= 100; ++i) {
+            bucket.setData(new Counter(i));
+            bucket.snapshot();
+        }
+
+        assertNull(bucket.deltaSince(initialVersion));
+        assertNotNull(bucket.deltaSince(bucket.getVersion() - 1));
+    }
+}